@@ -20,10 +20,15 @@ import com.google.gwt.junit.client.GWTTestCase;
 
 import walkingkooka.math.DecimalNumberContext;
 import walkingkooka.math.DecimalNumberContexts;
+import walkingkooka.math.DecimalNumberParser;
 import walkingkooka.math.DecimalNumberSymbols;
 import walkingkooka.math.Maths;
+import walkingkooka.math.NumberTypeVisitor;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
+import java.text.ParsePosition;
 import java.util.Locale;
 
 @walkingkooka.j2cl.locale.LocaleAware
@@ -66,6 +71,107 @@ public class TestGwtTest extends GWTTestCase {
         );
     }
 
+    public void testDecimalNumberParserParseBigDecimalManyDigits() {
+        // more than 15 digits uses the scratch buffer, which is a single instance without ThreadLocal
+        final String text = "-123,456,789,012,345,678,901,234.567890123456789";
+        final ParsePosition position = new ParsePosition(0);
+
+        this.checkEquals(
+            new BigDecimal("-123456789012345678901234.567890123456789"),
+            DecimalNumberParser.with(
+                DecimalNumberSymbols.with(
+                    '-',
+                    '+',
+                    '0',
+                    "$",
+                    '.',
+                    "E",
+                    ',',
+                    "INFINITY",
+                    '.',
+                    "NAN",
+                    '%',
+                    '^'
+                )
+            ).parseBigDecimal(
+                text,
+                0,
+                text.length(),
+                position
+            )
+        );
+        this.checkEquals(
+            text.length(),
+            position.getIndex()
+        );
+    }
+
+    public void testNumberTypeVisitor() {
+        final StringBuilder b = new StringBuilder();
+
+        final NumberTypeVisitor visitor = new NumberTypeVisitor() {
+            @Override
+            protected void visitBigDecimal() {
+                b.append("BigDecimal ");
+            }
+
+            @Override
+            protected void visitBigInteger() {
+                b.append("BigInteger ");
+            }
+
+            @Override
+            protected void visitByte() {
+                b.append("Byte ");
+            }
+
+            @Override
+            protected void visitDouble() {
+                b.append("Double ");
+            }
+
+            @Override
+            protected void visitFloat() {
+                b.append("Float ");
+            }
+
+            @Override
+            protected void visitInteger() {
+                b.append("Integer ");
+            }
+
+            @Override
+            protected void visitLong() {
+                b.append("Long ");
+            }
+
+            @Override
+            protected void visitShort() {
+                b.append("Short ");
+            }
+
+            @Override
+            protected void visitUnknown(final Class<?> classs) {
+                b.append("Unknown");
+            }
+        };
+
+        visitor.accept(BigDecimal.class);
+        visitor.accept(BigInteger.class);
+        visitor.accept(Byte.class);
+        visitor.accept(Double.class);
+        visitor.accept(Float.class);
+        visitor.accept(Integer.class);
+        visitor.accept(Long.class);
+        visitor.accept(Short.class);
+        visitor.accept(String.class);
+
+        this.checkEquals(
+            "BigDecimal BigInteger Byte Double Float Integer Long Short Unknown",
+            b.toString()
+        );
+    }
+
     public void checkEquals(final Object expected,
                             final Object actual) {
         assertEquals(
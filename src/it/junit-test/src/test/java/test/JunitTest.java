@@ -24,7 +24,10 @@ import walkingkooka.math.DecimalNumberContext;
 import walkingkooka.math.DecimalNumberContexts;
 import walkingkooka.math.DecimalNumberSymbols;
 import walkingkooka.math.Maths;
+import walkingkooka.math.NumberTypeVisitor;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
 import java.util.Locale;
 
@@ -65,6 +68,73 @@ public class JunitTest {
         );
     }
 
+    @Test
+    public void testNumberTypeVisitor() {
+        final StringBuilder b = new StringBuilder();
+
+        final NumberTypeVisitor visitor = new NumberTypeVisitor() {
+            @Override
+            protected void visitBigDecimal() {
+                b.append("BigDecimal ");
+            }
+
+            @Override
+            protected void visitBigInteger() {
+                b.append("BigInteger ");
+            }
+
+            @Override
+            protected void visitByte() {
+                b.append("Byte ");
+            }
+
+            @Override
+            protected void visitDouble() {
+                b.append("Double ");
+            }
+
+            @Override
+            protected void visitFloat() {
+                b.append("Float ");
+            }
+
+            @Override
+            protected void visitInteger() {
+                b.append("Integer ");
+            }
+
+            @Override
+            protected void visitLong() {
+                b.append("Long ");
+            }
+
+            @Override
+            protected void visitShort() {
+                b.append("Short ");
+            }
+
+            @Override
+            protected void visitUnknown(final Class<?> classs) {
+                b.append("Unknown");
+            }
+        };
+
+        visitor.accept(BigDecimal.class);
+        visitor.accept(BigInteger.class);
+        visitor.accept(Byte.class);
+        visitor.accept(Double.class);
+        visitor.accept(Float.class);
+        visitor.accept(Integer.class);
+        visitor.accept(Long.class);
+        visitor.accept(Short.class);
+        visitor.accept(String.class);
+
+        this.checkEquals(
+            "BigDecimal BigInteger Byte Double Float Integer Long Short Unknown",
+            b.toString()
+        );
+    }
+
     public void checkEquals(final Object expected,
                             final Object actual) {
         Assert.assertEquals(
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link DecimalFormatBuilder#compile()} against {@link DecimalFormat#format} for money patterns.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompiledDecimalFormatBenchmark {
+
+    @Param({
+        "$",
+        "EUR"
+    })
+    public String currency;
+
+    private DecimalFormat decimalFormat;
+
+    private CompiledDecimalFormat compiledDecimalFormat;
+
+    private final long longValue = 1234567;
+
+    private final double doubleValue = -1234567.891;
+
+    private final BigDecimal bigDecimalValue = new BigDecimal("1234567.891");
+
+    @Setup
+    public void setup() {
+        final DecimalFormatBuilder builder = DecimalFormatBuilder.empty();
+        if ("$".equals(this.currency)) {
+            builder.prefix("$");
+        }
+        builder.digit()
+            .groupSeparator()
+            .digit()
+            .digit()
+            .digitOrZero()
+            .decimalSeparator()
+            .digitOrZero()
+            .digitOrZero();
+        if ("EUR".equals(this.currency)) {
+            builder.suffix(" EUR");
+        }
+        builder.locale(Locale.US);
+
+        this.decimalFormat = builder.build();
+        this.compiledDecimalFormat = builder.compile();
+    }
+
+    @Benchmark
+    public String decimalFormatLong() {
+        return this.decimalFormat.format(this.longValue);
+    }
+
+    @Benchmark
+    public String compiledDecimalFormatLong() {
+        return this.compiledDecimalFormat.format(this.longValue);
+    }
+
+    @Benchmark
+    public String decimalFormatDouble() {
+        return this.decimalFormat.format(this.doubleValue);
+    }
+
+    @Benchmark
+    public String compiledDecimalFormatDouble() {
+        return this.compiledDecimalFormat.format(this.doubleValue);
+    }
+
+    @Benchmark
+    public String decimalFormatBigDecimal() {
+        return this.decimalFormat.format(this.bigDecimalValue);
+    }
+
+    @Benchmark
+    public String compiledDecimalFormatBigDecimal() {
+        return this.compiledDecimalFormat.format(this.bigDecimalValue);
+    }
+}
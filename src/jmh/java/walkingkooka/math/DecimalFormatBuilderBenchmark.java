@@ -0,0 +1,80 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.DecimalFormat;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link DecimalFormatBuilder#build()} creating a {@link DecimalFormat} for a typical money pattern, with and
+ * without a {@link Locale}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DecimalFormatBuilderBenchmark {
+
+    @Param({
+        "none",
+        "en-US",
+        "de-DE"
+    })
+    public String locale;
+
+    private DecimalFormatBuilder builder;
+
+    @Setup
+    public void setup() {
+        final DecimalFormatBuilder builder = DecimalFormatBuilder.empty()
+            .prefix("$")
+            .digit()
+            .groupSeparator()
+            .digit()
+            .digit()
+            .digitOrZero()
+            .decimalSeparator()
+            .digitOrZero()
+            .digitOrZero();
+        if (false == "none".equals(this.locale)) {
+            builder.locale(Locale.forLanguageTag(this.locale));
+        }
+
+        this.builder = builder;
+    }
+
+    @Benchmark
+    public DecimalFormat build() {
+        return this.builder.build();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import walkingkooka.props.Properties;
+
+import java.text.DecimalFormatSymbols;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link DecimalNumberSymbols} used as a {@link Map} key, the {@link DecimalNumberSymbols#text()} and
+ * {@link DecimalNumberSymbols#properties()} used when serializing and {@link DecimalNumberSymbols#parse(String)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DecimalNumberSymbolsBenchmark {
+
+    private final static Locale[] LOCALES = {
+        Locale.US,
+        Locale.UK,
+        Locale.FRANCE,
+        Locale.GERMANY,
+        Locale.ITALY,
+        Locale.JAPAN,
+        Locale.CHINA,
+        Locale.KOREA
+    };
+
+    private Map<DecimalNumberSymbols, Locale> symbolsToLocale;
+
+    private DecimalNumberSymbols key;
+
+    private String text;
+
+    @Setup
+    public void setup() {
+        this.symbolsToLocale = new HashMap<>();
+
+        for (final Locale locale : LOCALES) {
+            this.symbolsToLocale.put(
+                symbols(locale),
+                locale
+            );
+        }
+
+        // equal but not the same instance as the map key
+        this.key = symbols(Locale.GERMANY);
+        this.text = this.key.text();
+    }
+
+    private static DecimalNumberSymbols symbols(final Locale locale) {
+        return DecimalNumberSymbols.fromDecimalFormatSymbols(
+            '+',
+            DecimalFormatSymbols.getInstance(locale)
+        );
+    }
+
+    @Benchmark
+    public Locale mapGet() {
+        return this.symbolsToLocale.get(this.key);
+    }
+
+    @Benchmark
+    public int symbolsHashCode() {
+        return this.key.hashCode();
+    }
+
+    @Benchmark
+    public String symbolsText() {
+        return this.key.text();
+    }
+
+    @Benchmark
+    public Properties symbolsProperties() {
+        return this.key.properties();
+    }
+
+    @Benchmark
+    public DecimalNumberSymbols symbolsParse() {
+        return DecimalNumberSymbols.parse(this.text);
+    }
+}
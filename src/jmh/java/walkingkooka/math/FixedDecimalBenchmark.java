@@ -0,0 +1,127 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link FixedDecimal} arithmetic against the equivalent {@link BigDecimal} operations for money like values.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FixedDecimalBenchmark {
+
+    @Param({
+        "2",
+        "6"
+    })
+    public int scale;
+
+    private final static MathContext CONTEXT = MathContext.DECIMAL64;
+
+    private final static MathContext ROUND = new MathContext(
+        4,
+        RoundingMode.HALF_EVEN
+    );
+
+    private BigDecimal bigDecimalLeft;
+
+    private BigDecimal bigDecimalRight;
+
+    private FixedDecimal fixedDecimalLeft;
+
+    private FixedDecimal fixedDecimalRight;
+
+    @Setup
+    public void setup() {
+        this.bigDecimalLeft = BigDecimal.valueOf(123456789, this.scale);
+        this.bigDecimalRight = BigDecimal.valueOf(25, 1);
+
+        this.fixedDecimalLeft = FixedDecimal.with(this.bigDecimalLeft);
+        this.fixedDecimalRight = FixedDecimal.with(this.bigDecimalRight);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalAdd() {
+        return this.bigDecimalLeft.add(this.bigDecimalRight, CONTEXT);
+    }
+
+    @Benchmark
+    public FixedDecimal fixedDecimalAdd() {
+        return this.fixedDecimalLeft.add(this.fixedDecimalRight, CONTEXT);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalSubtract() {
+        return this.bigDecimalLeft.subtract(this.bigDecimalRight, CONTEXT);
+    }
+
+    @Benchmark
+    public FixedDecimal fixedDecimalSubtract() {
+        return this.fixedDecimalLeft.subtract(this.fixedDecimalRight, CONTEXT);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalMultiply() {
+        return this.bigDecimalLeft.multiply(this.bigDecimalRight, CONTEXT);
+    }
+
+    @Benchmark
+    public FixedDecimal fixedDecimalMultiply() {
+        return this.fixedDecimalLeft.multiply(this.fixedDecimalRight, CONTEXT);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalDivide() {
+        return this.bigDecimalLeft.divide(this.bigDecimalRight, CONTEXT);
+    }
+
+    @Benchmark
+    public FixedDecimal fixedDecimalDivide() {
+        return this.fixedDecimalLeft.divide(this.fixedDecimalRight, CONTEXT);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalRound() {
+        return this.bigDecimalLeft.round(ROUND);
+    }
+
+    @Benchmark
+    public FixedDecimal fixedDecimalRound() {
+        return this.fixedDecimalLeft.round(ROUND);
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Maths#round(double, RoundingMode)} for each {@link RoundingMode}, rounding a double, a column of
+ * doubles and a column already with two decimal places to two decimal places against {@link BigDecimal} and
+ * {@link Maths#toBigDecimal(Number)} for the common {@link Number} types.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MathsBenchmark {
+
+    /**
+     * {@link RoundingMode#UNNECESSARY} is not included as it fails for the fractional values below.
+     */
+    @Param({
+        "CEILING",
+        "DOWN",
+        "FLOOR",
+        "HALF_DOWN",
+        "HALF_EVEN",
+        "HALF_UP",
+        "UP"
+    })
+    public RoundingMode roundingMode;
+
+    private double positive;
+
+    private double negative;
+
+    private double[] column;
+
+    private double[] roundedColumn;
+
+    private double[] moneyColumn;
+
+    private Number bigDecimalValue;
+
+    private Number doubleValue;
+
+    private Number integerValue;
+
+    private Number longValue;
+
+    @Setup
+    public void setup() {
+        this.positive = 1234.5;
+        this.negative = -1234.5;
+
+        final Random random = new Random(1);
+        this.column = new double[1000];
+        for (int i = 0; i < this.column.length; i++) {
+            this.column[i] = (random.nextDouble() - 0.5) * 1e6;
+        }
+        this.roundedColumn = new double[this.column.length];
+
+        // values that already have two decimal places
+        this.moneyColumn = new double[this.column.length];
+        for (int i = 0; i < this.moneyColumn.length; i++) {
+            this.moneyColumn[i] = BigDecimal.valueOf(random.nextInt(100_000_001) - 50_000_000, 2)
+                .doubleValue();
+        }
+
+        this.bigDecimalValue = new BigDecimal("1234.5");
+        this.doubleValue = 1234.5;
+        this.integerValue = 1234;
+        this.longValue = 123456789012L;
+    }
+
+    // round............................................................................................................
+
+    @Benchmark
+    public double roundPositive() {
+        return Maths.round(this.positive, this.roundingMode);
+    }
+
+    @Benchmark
+    public double roundNegative() {
+        return Maths.round(this.negative, this.roundingMode);
+    }
+
+    @Benchmark
+    public double roundScale() {
+        return Maths.round(this.negative / 7, 2, this.roundingMode);
+    }
+
+    @Benchmark
+    public double roundScaleBigDecimal() {
+        return BigDecimal.valueOf(this.negative / 7)
+            .setScale(2, this.roundingMode)
+            .doubleValue();
+    }
+
+    @Benchmark
+    public double[] roundColumn() {
+        final double[] column = this.column;
+
+        Maths.round(
+            column,
+            0,
+            this.roundedColumn,
+            0,
+            column.length,
+            2,
+            this.roundingMode
+        );
+        return this.roundedColumn;
+    }
+
+    @Benchmark
+    public double[] roundMoneyColumn() {
+        final double[] column = this.moneyColumn;
+
+        Maths.round(
+            column,
+            0,
+            this.roundedColumn,
+            0,
+            column.length,
+            2,
+            this.roundingMode
+        );
+        return this.roundedColumn;
+    }
+
+    @Benchmark
+    public double[] roundColumnBigDecimal() {
+        final double[] column = this.column;
+        final double[] rounded = this.roundedColumn;
+        final RoundingMode roundingMode = this.roundingMode;
+
+        for (int i = 0; i < column.length; i++) {
+            rounded[i] = BigDecimal.valueOf(column[i])
+                .setScale(2, roundingMode)
+                .doubleValue();
+        }
+        return rounded;
+    }
+
+    // toBigDecimal.....................................................................................................
+
+    @Benchmark
+    public Optional<BigDecimal> toBigDecimalBigDecimal() {
+        return Maths.toBigDecimal(this.bigDecimalValue);
+    }
+
+    @Benchmark
+    public Optional<BigDecimal> toBigDecimalDouble() {
+        return Maths.toBigDecimal(this.doubleValue);
+    }
+
+    @Benchmark
+    public Optional<BigDecimal> toBigDecimalInteger() {
+        return Maths.toBigDecimal(this.integerValue);
+    }
+
+    @Benchmark
+    public Optional<BigDecimal> toBigDecimalLong() {
+        return Maths.toBigDecimal(this.longValue);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.math;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Maths#round(double, RoundingMode)} for every {@link RoundingMode} against {@link BigDecimal}, for a
+ * small fractional value, a value just above 2^52 where every double is an integer and a value beyond the range of long.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MathsRoundBenchmark {
+
+    @Param({
+        "CEILING",
+        "DOWN",
+        "FLOOR",
+        "HALF_DOWN",
+        "HALF_EVEN",
+        "HALF_UP",
+        "UNNECESSARY",
+        "UP"
+    })
+    public RoundingMode roundingMode;
+
+    @Param({
+        "-1234.5",
+        "4503599627370497",
+        "1.0E19"
+    })
+    public double value;
+
+    private double rounding;
+
+    @Setup
+    public void setup() {
+        // UNNECESSARY fails for fractional values
+        this.rounding = RoundingMode.UNNECESSARY == this.roundingMode ?
+            Math.floor(this.value) :
+            this.value;
+    }
+
+    @Benchmark
+    public double round() {
+        return Maths.round(this.rounding, this.roundingMode);
+    }
+
+    @Benchmark
+    public double roundBigDecimal() {
+        return new BigDecimal(this.rounding)
+            .setScale(0, this.roundingMode)
+            .doubleValue();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link NumberList#setElements(Collection)} copying a {@link Collection} of numbers into the dense
+ * {@link LongNumberList} and {@link DoubleNumberList} or the {@link BoxedNumberList}, and when given a {@link NumberList}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NumberListBenchmark {
+
+    @Param({
+        "Long",
+        "Double",
+        "Mixed"
+    })
+    public String type;
+
+    @Param({
+        "10",
+        "1000"
+    })
+    public int size;
+
+    private List<Number> numbers;
+
+    private NumberList numberList;
+
+    @Setup
+    public void setup() {
+        final List<Number> numbers = new ArrayList<>();
+
+        for (int i = 0; i < this.size; i++) {
+            numbers.add(number(this.type, i));
+        }
+
+        this.numbers = numbers;
+        this.numberList = NumberList.EMPTY.setElements(numbers);
+    }
+
+    private static Number number(final String type,
+                                 final int i) {
+        final Number number;
+
+        switch (type) {
+            case "Long":
+                number = (long) i;
+                break;
+            case "Double":
+                number = i + 0.5;
+                break;
+            case "Mixed":
+                number = 0 == i % 2 ?
+                    (Number) Long.valueOf(i) :
+                    Double.valueOf(i + 0.5);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown type " + type);
+        }
+
+        return number;
+    }
+
+    @Benchmark
+    public NumberList setElementsCollection() {
+        return NumberList.EMPTY.setElements(this.numbers);
+    }
+
+    @Benchmark
+    public NumberList setElementsNumberList() {
+        return NumberList.EMPTY.setElements(this.numberList);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link NumberTypeVisitor#accept(Class)} which tests class identity against the original switch on
+ * {@link Class#getName()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NumberTypeVisitorBenchmark {
+
+    @Param({
+        "java.math.BigDecimal",
+        "java.math.BigInteger",
+        "java.lang.Byte",
+        "java.lang.Double",
+        "java.lang.Float",
+        "java.lang.Integer",
+        "java.lang.Long",
+        "java.lang.Short",
+        "java.lang.Number"
+    })
+    public String type;
+
+    private Class<?> classs;
+
+    private CountingNumberTypeVisitor visitor;
+
+    @Setup
+    public void setup() throws ClassNotFoundException {
+        this.classs = Class.forName(this.type);
+        this.visitor = new CountingNumberTypeVisitor();
+    }
+
+    @Benchmark
+    public int identity() {
+        final CountingNumberTypeVisitor visitor = this.visitor;
+        visitor.accept(this.classs);
+        return visitor.count;
+    }
+
+    @Benchmark
+    public int nameSwitch() {
+        final CountingNumberTypeVisitor visitor = this.visitor;
+        nameSwitch(visitor, this.classs);
+        return visitor.count;
+    }
+
+    /**
+     * The original {@link NumberTypeVisitor#accept(Class)} dispatch, kept here as the baseline.
+     */
+    private static void nameSwitch(final NumberTypeVisitor visitor,
+                                   final Class<?> number) {
+        switch (number.getName()) {
+            case "java.math.BigDecimal":
+                visitor.visitBigDecimal();
+                break;
+            case "java.math.BigInteger":
+                visitor.visitBigInteger();
+                break;
+            case "java.lang.Byte":
+                visitor.visitByte();
+                break;
+            case "java.lang.Double":
+                visitor.visitDouble();
+                break;
+            case "java.lang.Float":
+                visitor.visitFloat();
+                break;
+            case "java.lang.Integer":
+                visitor.visitInteger();
+                break;
+            case "java.lang.Long":
+                visitor.visitLong();
+                break;
+            case "java.lang.Short":
+                visitor.visitShort();
+                break;
+            default:
+                visitor.visitUnknown(number);
+                break;
+        }
+    }
+
+    static final class CountingNumberTypeVisitor extends NumberTypeVisitor {
+
+        @Override
+        protected void visitBigDecimal() {
+            this.count++;
+        }
+
+        @Override
+        protected void visitBigInteger() {
+            this.count++;
+        }
+
+        @Override
+        protected void visitByte() {
+            this.count++;
+        }
+
+        @Override
+        protected void visitDouble() {
+            this.count++;
+        }
+
+        @Override
+        protected void visitFloat() {
+            this.count++;
+        }
+
+        @Override
+        protected void visitInteger() {
+            this.count++;
+        }
+
+        @Override
+        protected void visitLong() {
+            this.count++;
+        }
+
+        @Override
+        protected void visitShort() {
+            this.count++;
+        }
+
+        @Override
+        protected void visitUnknown(final Class<?> classs) {
+            this.count++;
+        }
+
+        int count;
+    }
+}
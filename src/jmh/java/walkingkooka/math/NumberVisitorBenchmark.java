@@ -0,0 +1,254 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import walkingkooka.visit.Visiting;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link NumberVisitor#accept(Number)} which uses a class keyed table against the original chain of instanceof
+ * tests.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NumberVisitorBenchmark {
+
+    @Param({
+        "BigDecimal",
+        "BigInteger",
+        "Byte",
+        "Double",
+        "FixedDecimal",
+        "Float",
+        "Integer",
+        "Long",
+        "Short",
+        "Unknown"
+    })
+    public String type;
+
+    private Number number;
+
+    private CountingNumberVisitor visitor;
+
+    @Setup
+    public void setup() {
+        this.number = number(this.type);
+        this.visitor = new CountingNumberVisitor();
+    }
+
+    private static Number number(final String type) {
+        final Number number;
+
+        switch (type) {
+            case "BigDecimal":
+                number = BigDecimal.valueOf(1.5);
+                break;
+            case "BigInteger":
+                number = BigInteger.TEN;
+                break;
+            case "Byte":
+                number = (byte) 1;
+                break;
+            case "Double":
+                number = 1.5;
+                break;
+            case "FixedDecimal":
+                number = FixedDecimal.with(15, 1);
+                break;
+            case "Float":
+                number = 1.5f;
+                break;
+            case "Integer":
+                number = 1;
+                break;
+            case "Long":
+                number = 1L;
+                break;
+            case "Short":
+                number = (short) 1;
+                break;
+            case "Unknown":
+                number = new Number() {
+                    @Override
+                    public int intValue() {
+                        return 1;
+                    }
+
+                    @Override
+                    public long longValue() {
+                        return 1;
+                    }
+
+                    @Override
+                    public float floatValue() {
+                        return 1;
+                    }
+
+                    @Override
+                    public double doubleValue() {
+                        return 1;
+                    }
+
+                    private final static long serialVersionUID = 1L;
+                };
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown type " + type);
+        }
+
+        return number;
+    }
+
+    @Benchmark
+    public int dispatchTable() {
+        final CountingNumberVisitor visitor = this.visitor;
+        visitor.accept(this.number);
+        return visitor.count;
+    }
+
+    @Benchmark
+    public int instanceOfChain() {
+        final CountingNumberVisitor visitor = this.visitor;
+        instanceOf(visitor, this.number);
+        return visitor.count;
+    }
+
+    /**
+     * The original {@link NumberVisitor#accept(Number)} body including the {@link FixedDecimal} test, kept here as the
+     * baseline.
+     */
+    private static void instanceOf(final NumberVisitor visitor,
+                                   final Number number) {
+        if (Visiting.CONTINUE == visitor.startVisit(number)) {
+            do {
+                if (number instanceof BigDecimal) {
+                    visitor.visit((BigDecimal) number);
+                    break;
+                }
+                if (number instanceof BigInteger) {
+                    visitor.visit((BigInteger) number);
+                    break;
+                }
+                if (number instanceof Byte) {
+                    visitor.visit((Byte) number);
+                    break;
+                }
+                if (number instanceof Double) {
+                    visitor.visit((Double) number);
+                    break;
+                }
+                if (number instanceof FixedDecimal) {
+                    visitor.visit((FixedDecimal) number);
+                    break;
+                }
+                if (number instanceof Float) {
+                    visitor.visit((Float) number);
+                    break;
+                }
+                if (number instanceof Integer) {
+                    visitor.visit((Integer) number);
+                    break;
+                }
+                if (number instanceof Long) {
+                    visitor.visit((Long) number);
+                    break;
+                }
+                if (number instanceof Short) {
+                    visitor.visit((Short) number);
+                    break;
+                }
+                visitor.visitUnknown(number);
+            } while (false);
+        }
+        visitor.endVisit(number);
+    }
+
+    static final class CountingNumberVisitor extends NumberVisitor {
+
+        @Override
+        protected void visit(final BigDecimal number) {
+            this.count++;
+        }
+
+        @Override
+        protected void visit(final BigInteger number) {
+            this.count++;
+        }
+
+        @Override
+        protected void visit(final Byte number) {
+            this.count++;
+        }
+
+        @Override
+        protected void visit(final Double number) {
+            this.count++;
+        }
+
+        @Override
+        protected void visit(final FixedDecimal number) {
+            this.count++;
+        }
+
+        @Override
+        protected void visit(final Float number) {
+            this.count++;
+        }
+
+        @Override
+        protected void visit(final Integer number) {
+            this.count++;
+        }
+
+        @Override
+        protected void visit(final Long number) {
+            this.count++;
+        }
+
+        @Override
+        protected void visit(final Short number) {
+            this.count++;
+        }
+
+        @Override
+        protected void visitUnknown(final Number number) {
+            this.count++;
+        }
+
+        int count;
+    }
+}
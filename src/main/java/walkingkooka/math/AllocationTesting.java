@@ -0,0 +1,175 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import org.junit.jupiter.api.Assumptions;
+import walkingkooka.test.Testing;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Mixing testing interface that measures the bytes allocated per call of an operation using the allocated bytes of
+ * the current thread reported by {@link com.sun.management.ThreadMXBean}, failing when a budget is exceeded.
+ * <br>
+ * Results are written to an array so the JIT cannot remove allocations that would otherwise not escape. Use the
+ * {@link DoubleSupplier} and {@link IntSupplier} overloads for operations returning primitives, to avoid boxing.
+ * <br>
+ * Checks are skipped using {@link Assumptions} rather than failing or passing when the JVM does not support or has
+ * disabled measuring the allocated bytes of a thread. Like the other testing interfaces in this package it lives in
+ * src/main so downstream tests may use it.
+ */
+public interface AllocationTesting extends Testing {
+
+    /**
+     * The number of calls to warm up and then the number measured.
+     */
+    int ALLOCATION_CALL_COUNT = 1_000_000;
+
+    default void allocatesNothingAndCheck(final Supplier<?> operation,
+                                          final String label) {
+        this.allocationBudgetAndCheck(
+            operation,
+            0,
+            label
+        );
+    }
+
+    default void allocatesNothingAndCheck(final DoubleSupplier operation,
+                                          final String label) {
+        this.allocationBudgetAndCheck(
+            operation,
+            0,
+            label
+        );
+    }
+
+    default void allocatesNothingAndCheck(final IntSupplier operation,
+                                          final String label) {
+        this.allocationBudgetAndCheck(
+            operation,
+            0,
+            label
+        );
+    }
+
+    default void allocationBudgetAndCheck(final Supplier<?> operation,
+                                          final long bytesPerCall,
+                                          final String label) {
+        final Object[] results = new Object[1];
+
+        this.allocationBudgetAndCheck0(
+            () -> results[0] = operation.get(),
+            bytesPerCall,
+            label
+        );
+    }
+
+    default void allocationBudgetAndCheck(final DoubleSupplier operation,
+                                          final long bytesPerCall,
+                                          final String label) {
+        final double[] results = new double[1];
+
+        this.allocationBudgetAndCheck0(
+            () -> results[0] = operation.getAsDouble(),
+            bytesPerCall,
+            label
+        );
+    }
+
+    default void allocationBudgetAndCheck(final IntSupplier operation,
+                                          final long bytesPerCall,
+                                          final String label) {
+        final int[] results = new int[1];
+
+        this.allocationBudgetAndCheck0(
+            () -> results[0] = operation.getAsInt(),
+            bytesPerCall,
+            label
+        );
+    }
+
+    /**
+     * Fails if the average allocated per call is one or more bytes over the budget, the extra byte leaves room for
+     * the measurement itself.
+     */
+    private void allocationBudgetAndCheck0(final Runnable operation,
+                                           final long bytesPerCall,
+                                           final String label) {
+        final double allocated = this.allocatedBytesPerCall(operation);
+
+        this.checkEquals(
+            true,
+            allocated < bytesPerCall + 1,
+            () -> label + " allocated " + allocated + " bytes per call, budget " + bytesPerCall
+        );
+    }
+
+    /**
+     * Runs the operation {@link #ALLOCATION_CALL_COUNT} times so it is compiled, and then returns the average bytes
+     * allocated by the current thread for another {@link #ALLOCATION_CALL_COUNT} calls.
+     */
+    default double allocatedBytesPerCall(final Runnable operation) {
+        final com.sun.management.ThreadMXBean threads = this.threadAllocatedMemoryMXBean();
+
+        final long threadId = Thread.currentThread().getId();
+        final int count = ALLOCATION_CALL_COUNT;
+
+        for (int i = 0; i < count; i++) {
+            operation.run();
+        }
+
+        final long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < count; i++) {
+            operation.run();
+        }
+        final long after = threads.getThreadAllocatedBytes(threadId);
+        Assumptions.assumeTrue(
+            before >= 0 && after >= 0,
+            "Thread allocated bytes unavailable"
+        );
+
+        final long allocated = after - before;
+
+        return (double) allocated / count;
+    }
+
+    /**
+     * Returns the {@link com.sun.management.ThreadMXBean}, skipping the test if the JVM does not support or has
+     * disabled measuring the allocated bytes of a thread. Tests measuring in other threads should call this first, as
+     * a skip thrown by another thread does not skip the test.
+     */
+    default com.sun.management.ThreadMXBean threadAllocatedMemoryMXBean() {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(
+            threadMXBean instanceof com.sun.management.ThreadMXBean,
+            "ThreadMXBean does not report allocated bytes"
+        );
+
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) threadMXBean;
+        Assumptions.assumeTrue(
+            threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled(),
+            "Thread allocated memory measurement is unsupported or disabled"
+        );
+
+        return threads;
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import java.math.BigDecimal;
+
+/**
+ * A preallocated table of canonical {@link BigDecimal} for a range of long values. {@link BigDecimal#valueOf(long)}
+ * only caches 0 to 10, returning the same instance for a wider range of common values avoids allocation and lets
+ * {@link BigDecimal#equals(Object)} and {@link BigDecimal#compareTo(BigDecimal)} take their identity fast path.
+ * <br>
+ * When metrics are enabled hits and misses are counted without synchronization, counts may be slightly low when
+ * the cache is shared by many threads.
+ */
+public final class BigDecimalCache {
+
+    /**
+     * The largest number of values a cache may hold.
+     */
+    public final static int MAX_SIZE = 1 << 16;
+
+    /**
+     * The default cache used by {@link Maths#toBigDecimalOrNull(Number)} to convert {@link Byte}, {@link Short},
+     * {@link Integer} and {@link Long} values. It holds -1024 to 1024 unless the system property
+     * <code>walkingkooka.math.BigDecimalCache.max</code> is set to a valid max, metrics are enabled by setting
+     * <code>walkingkooka.math.BigDecimalCache.metrics</code> to true.
+     */
+    public final static BigDecimalCache DEFAULT = defaultCache();
+
+    private static BigDecimalCache defaultCache() {
+        final long max = defaultMax(
+            System.getProperty("walkingkooka.math.BigDecimalCache.max")
+        );
+
+        return with(
+            -max,
+            max,
+            Boolean.parseBoolean(
+                System.getProperty(
+                    "walkingkooka.math.BigDecimalCache.metrics",
+                    "false"
+                )
+            )
+        );
+    }
+
+    final static long DEFAULT_MAX = 1024;
+
+    /**
+     * Parses the max system property, returning {@link #DEFAULT_MAX} when it is missing, not a number, negative or
+     * too large for a cache holding -max to max, so a bad value can never stop {@link Maths} from loading.
+     */
+    static long defaultMax(final String value) {
+        long max = DEFAULT_MAX;
+
+        if (null != value) {
+            try {
+                final long parsed = Long.parseLong(value.trim());
+                if (parsed >= 0 && parsed < MAX_SIZE / 2) {
+                    max = parsed;
+                }
+            } catch (final NumberFormatException ignore) {
+                // use the default
+            }
+        }
+
+        return max;
+    }
+
+    /**
+     * Creates a new {@link BigDecimalCache} holding all values between min and max inclusive.
+     */
+    public static BigDecimalCache with(final long min,
+                                       final long max,
+                                       final boolean metrics) {
+        if (min > max) {
+            throw new IllegalArgumentException("Invalid range min " + min + " > max " + max);
+        }
+        // the range is checked as a double to avoid overflow with very large ranges.
+        if ((double) max - min >= MAX_SIZE) {
+            throw new IllegalArgumentException("Invalid range " + min + ".." + max + " more than " + MAX_SIZE + " values");
+        }
+
+        return new BigDecimalCache(
+            min,
+            max,
+            metrics
+        );
+    }
+
+    private BigDecimalCache(final long min,
+                            final long max,
+                            final boolean metrics) {
+        super();
+
+        final BigDecimal[] values = new BigDecimal[(int) (max - min + 1)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = BigDecimal.valueOf(min + i);
+        }
+
+        this.min = min;
+        this.values = values;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the cached {@link BigDecimal} if the value is within range otherwise a new {@link BigDecimal}.
+     */
+    public BigDecimal valueOf(final long value) {
+        // value - min may overflow, but the result will then also be outside the index range
+        final long index = value - this.min;
+        final BigDecimal[] values = this.values;
+
+        final BigDecimal bigDecimal;
+
+        if (index >= 0 && index < values.length) {
+            bigDecimal = values[(int) index];
+
+            if (this.metrics) {
+                this.hitCount++;
+            }
+        } else {
+            bigDecimal = BigDecimal.valueOf(value);
+
+            if (this.metrics) {
+                this.missCount++;
+            }
+        }
+
+        return bigDecimal;
+    }
+
+    /**
+     * The smallest cached value.
+     */
+    public long min() {
+        return this.min;
+    }
+
+    private final long min;
+
+    /**
+     * The largest cached value.
+     */
+    public long max() {
+        return this.min + this.values.length - 1;
+    }
+
+    private final BigDecimal[] values;
+
+    // metrics..........................................................................................................
+
+    /**
+     * When false {@link #hitCount()} and {@link #missCount()} are always zero.
+     */
+    public boolean metrics() {
+        return this.metrics;
+    }
+
+    private final boolean metrics;
+
+    /**
+     * The number of {@link #valueOf(long)} that returned a cached {@link BigDecimal}.
+     */
+    public long hitCount() {
+        return this.hitCount;
+    }
+
+    private long hitCount;
+
+    /**
+     * The number of {@link #valueOf(long)} with a value outside the cached range.
+     */
+    public long missCount() {
+        return this.missCount;
+    }
+
+    private long missCount;
+
+    /**
+     * Returns the ratio of hits to all {@link #valueOf(long)} between 0 and 1, or 0 if nothing has been counted.
+     */
+    public double hitRate() {
+        final long hitCount = this.hitCount;
+        final long total = hitCount + this.missCount;
+
+        return 0 == total ?
+            0 :
+            (double) hitCount / total;
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.min() + ".." + this.max() + " hitCount=" + this.hitCount + " missCount=" + this.missCount;
+    }
+}
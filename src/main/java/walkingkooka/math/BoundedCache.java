@@ -0,0 +1,191 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A thread safe cache of at most maxSize entries, shared by {@link DecimalFormatCache} and
+ * {@link DecimalNumberSymbolsCache}. Entries are held by a {@link ConcurrentHashMap} so a hit never takes a lock.
+ * <br>
+ * When an added entry makes the cache too large, entries are visited in map order, removing those not used since
+ * they were last visited and marking the others as unused, which approximates least recently used without the
+ * locking an access ordered map requires. Only evictions are serialized, and values are created outside any lock.
+ */
+final class BoundedCache<K, V> {
+
+    /**
+     * Creates a new empty {@link BoundedCache} holding at most maxSize entries.
+     */
+    static <K, V> BoundedCache<K, V> with(final int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Invalid maxSize " + maxSize + " < 1");
+        }
+
+        return new BoundedCache<>(maxSize);
+    }
+
+    private BoundedCache(final int maxSize) {
+        super();
+
+        this.maxSize = maxSize;
+        this.entries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the cached value counting a hit, otherwise counts a miss and caches the value from the factory.
+     * Should another thread cache a value for the same key first, that value is returned.
+     */
+    V get(final K key,
+          final Supplier<V> factory) {
+        final BoundedCacheEntry<V> entry = this.entries.get(key);
+
+        final V value;
+        if (null != entry) {
+            this.hitCount.incrementAndGet();
+            value = entry.use();
+        } else {
+            this.missCount.incrementAndGet();
+            value = this.putIfAbsent(
+                key,
+                factory.get()
+            );
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the cached value, otherwise caches the given value, without counting a hit or miss.
+     */
+    V putIfAbsent(final K key,
+                  final V value) {
+        final BoundedCacheEntry<V> existing = this.entries.putIfAbsent(
+            key,
+            new BoundedCacheEntry<>(value)
+        );
+
+        final V result;
+        if (null != existing) {
+            result = existing.use();
+        } else {
+            result = value;
+
+            if (this.entries.size() > this.maxSize) {
+                this.evict(key);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Removes entries other than the one just added until the cache is within {@link #maxSize}. Every entry is
+     * marked as unused on the first visit, so at most two passes are needed.
+     */
+    private void evict(final K added) {
+        final ConcurrentHashMap<K, BoundedCacheEntry<V>> entries = this.entries;
+        final int maxSize = this.maxSize;
+
+        synchronized (this.evictionLock) {
+            while (entries.size() > maxSize) {
+                final Iterator<Map.Entry<K, BoundedCacheEntry<V>>> iterator = entries.entrySet()
+                    .iterator();
+
+                while (iterator.hasNext() && entries.size() > maxSize) {
+                    final Map.Entry<K, BoundedCacheEntry<V>> mapEntry = iterator.next();
+                    if (false == added.equals(mapEntry.getKey())) {
+                        final BoundedCacheEntry<V> entry = mapEntry.getValue();
+
+                        if (entry.used) {
+                            entry.used = false;
+                        } else {
+                            if (entries.remove(mapEntry.getKey(), entry)) {
+                                this.evictionCount.incrementAndGet();
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private final ConcurrentHashMap<K, BoundedCacheEntry<V>> entries;
+
+    private final Object evictionLock = new Object();
+
+    /**
+     * The maximum number of entries held.
+     */
+    int maxSize() {
+        return this.maxSize;
+    }
+
+    private final int maxSize;
+
+    /**
+     * The number of entries currently held.
+     */
+    int size() {
+        return this.entries.size();
+    }
+
+    // metrics..........................................................................................................
+
+    /**
+     * The number of {@link #get(Object, Supplier)} that returned a cached value.
+     */
+    long hitCount() {
+        return this.hitCount.get();
+    }
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    /**
+     * The number of {@link #get(Object, Supplier)} that created a new value.
+     */
+    long missCount() {
+        return this.missCount.get();
+    }
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * The number of entries removed to stay within {@link #maxSize()}.
+     */
+    long evictionCount() {
+        return this.evictionCount.get();
+    }
+
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return "size=" + this.size() +
+            " maxSize=" + this.maxSize +
+            " hitCount=" + this.hitCount() +
+            " missCount=" + this.missCount() +
+            " evictionCount=" + this.evictionCount();
+    }
+}
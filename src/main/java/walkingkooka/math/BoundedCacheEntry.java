@@ -0,0 +1,50 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+/**
+ * A value held by a {@link BoundedCache}, with a flag recording if it was used since it was last visited by an eviction.
+ * The flag is not volatile, a lost update only changes which entry is evicted.
+ */
+final class BoundedCacheEntry<V> {
+
+    BoundedCacheEntry(final V value) {
+        super();
+        this.value = value;
+    }
+
+    /**
+     * Marks this entry as used and returns its value. The flag is only written when clear, so hits from many threads
+     * do not keep writing the same memory.
+     */
+    V use() {
+        if (false == this.used) {
+            this.used = true;
+        }
+        return this.value;
+    }
+
+    private final V value;
+
+    boolean used;
+
+    @Override
+    public String toString() {
+        return String.valueOf(this.value);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import java.util.List;
+
+/**
+ * A {@link NumberList} holding boxed {@link Number} of any type including nulls.
+ */
+final class BoxedNumberList extends NumberList {
+
+    BoxedNumberList(final List<Number> numbers) {
+        super();
+        this.numbers = numbers;
+    }
+
+    @Override
+    public Number get(final int index) {
+        return this.numbers.get(index);
+    }
+
+    @Override
+    public int size() {
+        return this.numbers.size();
+    }
+
+    private final List<Number> numbers;
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import java.math.BigDecimal;
+
+/**
+ * An immutable formatter created from a {@link DecimalFormatBuilder}, that unlike {@link java.text.DecimalFormat}
+ * may be shared by many threads.
+ */
+public abstract class CompiledDecimalFormat {
+
+    /**
+     * Package private to limit sub classing.
+     */
+    CompiledDecimalFormat(final String pattern) {
+        super();
+        this.pattern = pattern;
+    }
+
+    public abstract String format(final long value);
+
+    public abstract String format(final double value);
+
+    public abstract String format(final BigDecimal value);
+
+    /**
+     * The pattern this formatter was compiled from.
+     */
+    public final String pattern() {
+        return this.pattern;
+    }
+
+    private final String pattern;
+
+    // Object...........................................................................................................
+
+    @Override
+    public final String toString() {
+        return this.pattern;
+    }
+}
@@ -159,15 +159,11 @@ public final class DecimalFormatBuilder implements Builder<DecimalFormat>, HasTe
      */
     @Override
     public DecimalFormat build() throws BuilderException {
-        final StringBuilder pattern = this.pattern;
-        if (pattern.length() == 0) {
+        if (this.pattern.length() == 0) {
             throw new BuilderException("Pattern empty");
         }
 
-        pattern.insert(this.patternStart, this.prefix);
-        pattern.append(this.suffix);
-
-        final DecimalFormat decimalFormat = new DecimalFormat(pattern.toString());
+        final DecimalFormat decimalFormat = new DecimalFormat(this.text());
 
         final int groupingSize = this.groupingSize;
         if (-1 != groupingSize) {
@@ -192,6 +188,25 @@ public final class DecimalFormatBuilder implements Builder<DecimalFormat>, HasTe
         return decimalFormat;
     }
 
+    /**
+     * Builds a thread safe {@link CompiledDecimalFormat}. Patterns without an exponent are analyzed once and formatted
+     * with straight line code, others use a private {@link DecimalFormat}.
+     */
+    public CompiledDecimalFormat compile() throws BuilderException {
+        final String pattern = this.text();
+        final DecimalFormat decimalFormat = this.build();
+
+        return FixedPointCompiledDecimalFormat.isSupported(decimalFormat) ?
+            FixedPointCompiledDecimalFormat.with(
+                pattern,
+                decimalFormat
+            ) :
+            DecimalFormatCompiledDecimalFormat.with(
+                pattern,
+                decimalFormat
+            );
+    }
+
     private DecimalFormatBuilder append(final char pattern) {
         this.pattern.append(pattern);
         return this;
@@ -212,13 +227,12 @@ public final class DecimalFormatBuilder implements Builder<DecimalFormat>, HasTe
     // HasText..........................................................................................................
 
     /**
-     * Returns the text or pattern.
+     * Returns the text or pattern, which is also the pattern given to {@link DecimalFormat} by {@link #build()}.
      */
     @Override
     public String text() {
-        final StringBuilder pattern = new StringBuilder();
-        pattern.append(this.prefix);
-        pattern.append(this.pattern);
+        final StringBuilder pattern = new StringBuilder(this.pattern);
+        pattern.insert(this.patternStart, this.prefix);
         pattern.append(this.suffix);
 
         return pattern.toString();
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import java.util.Objects;
+
+/**
+ * A bounded cache of {@link CompiledDecimalFormat} keyed by the {@link DecimalFormatBuilder#text()}, locale,
+ * grouping size and rounding mode of a {@link DecimalFormatBuilder}. When full an entry not recently used is evicted.
+ * The cache is thread safe, hits do not lock and formats are built outside any lock so a slow build does not block
+ * other threads.
+ */
+public final class DecimalFormatCache {
+
+    /**
+     * Creates a new empty {@link DecimalFormatCache} holding at most maxSize formats.
+     */
+    public static DecimalFormatCache with(final int maxSize) {
+        return new DecimalFormatCache(
+            BoundedCache.with(maxSize)
+        );
+    }
+
+    private DecimalFormatCache(final BoundedCache<DecimalFormatCacheKey, CompiledDecimalFormat> formats) {
+        super();
+        this.formats = formats;
+    }
+
+    /**
+     * Returns the cached {@link CompiledDecimalFormat} for the given {@link DecimalFormatBuilder}, building and caching
+     * a new one if necessary.
+     */
+    public CompiledDecimalFormat get(final DecimalFormatBuilder builder) {
+        Objects.requireNonNull(builder, "builder");
+
+        return this.formats.get(
+            DecimalFormatCacheKey.with(builder),
+            builder::compile
+        );
+    }
+
+    private final BoundedCache<DecimalFormatCacheKey, CompiledDecimalFormat> formats;
+
+    /**
+     * The maximum number of formats held.
+     */
+    public int maxSize() {
+        return this.formats.maxSize();
+    }
+
+    /**
+     * The number of formats currently held.
+     */
+    public int size() {
+        return this.formats.size();
+    }
+
+    // metrics..........................................................................................................
+
+    /**
+     * The number of {@link #get(DecimalFormatBuilder)} that returned a cached format.
+     */
+    public long hitCount() {
+        return this.formats.hitCount();
+    }
+
+    /**
+     * The number of {@link #get(DecimalFormatBuilder)} that built a new format.
+     */
+    public long missCount() {
+        return this.formats.missCount();
+    }
+
+    /**
+     * The number of formats removed to stay within {@link #maxSize()}.
+     */
+    public long evictionCount() {
+        return this.formats.evictionCount();
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.formats.toString();
+    }
+}
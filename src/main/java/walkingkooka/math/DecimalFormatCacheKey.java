@@ -0,0 +1,94 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import java.math.RoundingMode;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * The key for a {@link DecimalFormatCache} entry, holding everything from a {@link DecimalFormatBuilder} that
+ * changes the formatting. A builder without a locale is keyed by the current default format {@link Locale}, which
+ * {@link java.text.DecimalFormat} uses, so formats built before {@link Locale#setDefault(Locale)} are not returned
+ * afterwards.
+ */
+final class DecimalFormatCacheKey {
+
+    static DecimalFormatCacheKey with(final DecimalFormatBuilder builder) {
+        final Locale locale = builder.locale;
+
+        return new DecimalFormatCacheKey(
+            builder.text(),
+            null != locale ?
+                locale :
+                Locale.getDefault(Locale.Category.FORMAT),
+            builder.groupingSize,
+            builder.roundingMode
+        );
+    }
+
+    private DecimalFormatCacheKey(final String text,
+                                  final Locale locale,
+                                  final int groupingSize,
+                                  final RoundingMode roundingMode) {
+        super();
+        this.text = text;
+        this.locale = locale;
+        this.groupingSize = groupingSize;
+        this.roundingMode = roundingMode;
+    }
+
+    private final String text;
+
+    private final Locale locale;
+
+    private final int groupingSize;
+
+    private final RoundingMode roundingMode;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.text,
+            this.locale,
+            this.groupingSize,
+            this.roundingMode
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof DecimalFormatCacheKey &&
+                this.equals0((DecimalFormatCacheKey) other);
+    }
+
+    private boolean equals0(final DecimalFormatCacheKey other) {
+        return this.text.equals(other.text) &&
+            this.locale.equals(other.locale) &&
+            this.groupingSize == other.groupingSize &&
+            this.roundingMode == other.roundingMode;
+    }
+
+    @Override
+    public String toString() {
+        return this.text + " " + this.locale + " " + this.groupingSize + " " + this.roundingMode;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.util.Objects;
+
+/**
+ * A {@link CompiledDecimalFormat} that formats using a private {@link DecimalFormat}, which is never shared and is
+ * locked during each format because it is not thread safe.
+ */
+final class DecimalFormatCompiledDecimalFormat extends CompiledDecimalFormat {
+
+    static DecimalFormatCompiledDecimalFormat with(final String pattern,
+                                                   final DecimalFormat decimalFormat) {
+        Objects.requireNonNull(pattern, "pattern");
+        Objects.requireNonNull(decimalFormat, "decimalFormat");
+
+        return new DecimalFormatCompiledDecimalFormat(
+            pattern,
+            decimalFormat
+        );
+    }
+
+    private DecimalFormatCompiledDecimalFormat(final String pattern,
+                                               final DecimalFormat decimalFormat) {
+        super(pattern);
+        this.decimalFormat = decimalFormat;
+    }
+
+    @Override
+    public String format(final long value) {
+        final DecimalFormat decimalFormat = this.decimalFormat;
+
+        synchronized (decimalFormat) {
+            return decimalFormat.format(value);
+        }
+    }
+
+    @Override
+    public String format(final double value) {
+        final DecimalFormat decimalFormat = this.decimalFormat;
+
+        synchronized (decimalFormat) {
+            return decimalFormat.format(value);
+        }
+    }
+
+    @Override
+    public String format(final BigDecimal value) {
+        Objects.requireNonNull(value, "value");
+
+        final DecimalFormat decimalFormat = this.decimalFormat;
+
+        synchronized (decimalFormat) {
+            return decimalFormat.format(value);
+        }
+    }
+
+    private final DecimalFormat decimalFormat;
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import java.util.Objects;
+
+/**
+ * A reusable char buffer for parsing and formatting numbers with a {@link DecimalNumberContext}, holding the digits,
+ * exponent and group separators of a number, such as the ASCII digits {@link DecimalNumberParser} copies long numbers
+ * into before conversion.
+ * <br>
+ * Each JVM thread has its own scratch while J2CL has a single instance. {@link #get(DecimalNumberContext)} sizes the
+ * buffer from the {@link DecimalNumberContext#decimalNumberDigitCount()} and {@link java.math.MathContext#getPrecision()},
+ * so numbers within those digits never allocate. The buffer grows to fit the longest text up to
+ * {@link #MAX_TEXT_LENGTH}, longer text gets a temporary buffer that is not kept, so a single huge number does not pin
+ * a large buffer on every pooled thread.
+ * <br>
+ * The buffer must not be kept after the parse or format that got it returns, or be used by any method it calls, as the
+ * next user on the same thread will overwrite it.
+ */
+public final class DecimalNumberContextScratch {
+
+    /**
+     * The length of a new text buffer.
+     */
+    final static int TEXT_LENGTH = 64;
+
+    /**
+     * The longest text buffer that is kept for reuse.
+     */
+    final static int MAX_TEXT_LENGTH = 1024;
+
+    /**
+     * Room for the exponent symbol, a sign and the ten digits of an int exponent.
+     */
+    final static int EXPONENT_LENGTH = 12;
+
+    /**
+     * Returns the scratch for the current thread, with a text buffer large enough for the digits of the given
+     * {@link DecimalNumberContext}.
+     */
+    public static DecimalNumberContextScratch get(final DecimalNumberContext context) {
+        Objects.requireNonNull(context, "context");
+
+        final DecimalNumberContextScratch scratch = current();
+        scratch.text(
+            textLength(context)
+        );
+        return scratch;
+    }
+
+    /**
+     * Enough room for the larger of the {@link DecimalNumberContext#decimalNumberDigitCount()} and precision digits
+     * with a group separator between each, a sign, a decimal separator and an exponent, up to {@link #MAX_TEXT_LENGTH}.
+     * A precision of zero is unlimited and ignored.
+     */
+    static int textLength(final DecimalNumberContext context) {
+        final int digits = Math.max(
+            context.decimalNumberDigitCount(),
+            context.mathContext()
+                .getPrecision()
+        );
+
+        return Math.min(
+            Math.min(digits, MAX_TEXT_LENGTH) * 2 + 2 + EXPONENT_LENGTH,
+            MAX_TEXT_LENGTH
+        );
+    }
+
+    /**
+     * Returns the scratch for the current thread without sizing the buffer.
+     */
+    static DecimalNumberContextScratch current() {
+        return DecimalNumberContextScratchSupplier.DEFAULT.get();
+    }
+
+    /**
+     * Package private use {@link #get(DecimalNumberContext)}.
+     */
+    DecimalNumberContextScratch() {
+        super();
+
+        this.text = new char[TEXT_LENGTH];
+    }
+
+    /**
+     * Returns the text buffer, replacing it with a larger one if it is shorter than the given length. Lengths above
+     * {@link #MAX_TEXT_LENGTH} return a new buffer which is not kept.
+     */
+    public char[] text(final int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Invalid length " + length + " < 0");
+        }
+
+        char[] text = this.text;
+        if (text.length < length) {
+            text = new char[length];
+            if (length <= MAX_TEXT_LENGTH) {
+                this.text = text;
+            }
+        }
+        return text;
+    }
+
+    private char[] text;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return "text=" + this.text.length;
+    }
+}
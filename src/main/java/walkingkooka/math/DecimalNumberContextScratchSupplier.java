@@ -0,0 +1,50 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+/**
+ * Provides the {@link DecimalNumberContextScratch} for the current thread.
+ * <br>
+ * The first constant is the default, J2CL which has no {@link ThreadLocal} strips {@link #THREAD_LOCAL} leaving
+ * {@link #SINGLE}, which is safe because javascript is single threaded.
+ */
+enum DecimalNumberContextScratchSupplier {
+
+    @GwtIncompatible
+    THREAD_LOCAL {
+        @Override
+        DecimalNumberContextScratch get() {
+            return this.scratches.get();
+        }
+
+        private final ThreadLocal<DecimalNumberContextScratch> scratches = ThreadLocal.withInitial(DecimalNumberContextScratch::new);
+    },
+
+    SINGLE {
+        @Override
+        DecimalNumberContextScratch get() {
+            return this.scratch;
+        }
+
+        private final DecimalNumberContextScratch scratch = new DecimalNumberContextScratch();
+    };
+
+    abstract DecimalNumberContextScratch get();
+
+    static final DecimalNumberContextScratchSupplier DEFAULT = values()[0];
+}
@@ -21,7 +21,8 @@ import walkingkooka.util.HasLocaleTesting;
 /**
  * Mixing testing interface for {@link DecimalNumberContext}
  */
-public interface DecimalNumberContextTesting extends HasLocaleTesting,
+public interface DecimalNumberContextTesting extends AllocationTesting,
+    HasLocaleTesting,
     HasMathContextTesting,
     HasDecimalNumberSymbolsTesting,
     MathTesting {
@@ -134,6 +135,27 @@ public interface DecimalNumberContextTesting extends HasLocaleTesting,
         );
     }
 
+    /**
+     * Fails if any of the symbol getters, {@link DecimalNumberContext#decimalNumberDigitCount()} or
+     * {@link DecimalNumberContext#mathContext()} allocate.
+     */
+    default void symbolsAllocateNothingAndCheck(final DecimalNumberContext context) {
+        this.allocatesNothingAndCheck(context::currencySymbol, "currencySymbol");
+        this.allocatesNothingAndCheck(context::decimalNumberDigitCount, "decimalNumberDigitCount");
+        this.allocatesNothingAndCheck(context::decimalSeparator, "decimalSeparator");
+        this.allocatesNothingAndCheck(context::exponentSymbol, "exponentSymbol");
+        this.allocatesNothingAndCheck(context::groupSeparator, "groupSeparator");
+        this.allocatesNothingAndCheck(context::infinitySymbol, "infinitySymbol");
+        this.allocatesNothingAndCheck(context::mathContext, "mathContext");
+        this.allocatesNothingAndCheck(context::monetaryDecimalSeparator, "monetaryDecimalSeparator");
+        this.allocatesNothingAndCheck(context::nanSymbol, "nanSymbol");
+        this.allocatesNothingAndCheck(context::negativeSign, "negativeSign");
+        this.allocatesNothingAndCheck(context::percentSymbol, "percentSymbol");
+        this.allocatesNothingAndCheck(context::permillSymbol, "permillSymbol");
+        this.allocatesNothingAndCheck(context::positiveSign, "positiveSign");
+        this.allocatesNothingAndCheck(context::zeroDigit, "zeroDigit");
+    }
+
     default void zeroDigitAndCheck(final DecimalNumberContext context,
                                    final char zeroDigit) {
         this.checkEquals(
@@ -19,7 +19,9 @@ package walkingkooka.math;
 import walkingkooka.reflect.PublicStaticHelper;
 
 import java.math.MathContext;
+import java.util.Collection;
 import java.util.Locale;
+import java.util.Objects;
 
 /**
  * A collection of factory methods to create {@link DecimalNumberContext}.
@@ -54,6 +56,38 @@ public final class DecimalNumberContexts implements PublicStaticHelper {
         return new FakeDecimalNumberContext();
     }
 
+    /**
+     * Returns a {@link DecimalNumberContext} for the given {@link Locale} and {@link MathContext}, with
+     * {@link DecimalNumberSymbols} taken from {@link java.text.DecimalFormatSymbols#getInstance(Locale)} and a
+     * positive sign of <code>+</code>. Contexts are shared for the {@link MathContext} constants such as
+     * {@link MathContext#DECIMAL64}, other {@link MathContext} create a new context each time.
+     */
+    public static DecimalNumberContext locale(final Locale locale,
+                                              final MathContext mathContext) {
+        return LocaleDecimalNumberContextCache.decimalNumberContext(
+            locale,
+            mathContext
+        );
+    }
+
+    /**
+     * Creates and caches the {@link #locale(Locale, MathContext)} context for each of the given {@link Locale}, typically
+     * called during startup so later requests avoid the locale provider lookup. The {@link DecimalNumberSymbols} for
+     * each {@link Locale} are always cached, the contexts only for the {@link MathContext} constants.
+     */
+    public static void prewarm(final Collection<Locale> locales,
+                               final MathContext mathContext) {
+        Objects.requireNonNull(locales, "locales");
+        Objects.requireNonNull(mathContext, "mathContext");
+
+        for (final Locale locale : locales) {
+            locale(
+                locale,
+                mathContext
+            );
+        }
+    }
+
     /**
      * Stop creation.
      */
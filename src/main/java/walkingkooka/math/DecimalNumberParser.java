@@ -0,0 +1,651 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import java.math.BigDecimal;
+import java.text.ParsePosition;
+import java.util.Objects;
+
+/**
+ * A thread safe parser that reads a range of a {@link CharSequence} into a long, double or {@link BigDecimal}, using
+ * the symbols and {@link NumberContextLike#digit(char)} of a {@link DecimalNumberSymbolsLike} such as a
+ * {@link DecimalNumberContext}.
+ * <br>
+ * The entire range must be a number, in the form of an optional positive or negative sign, digits with optional group
+ * separators each followed by a digit, an optional decimal separator and fraction digits, an optional exponent symbol
+ * with optional sign and digits and an optional percent or permill symbol. The NaN and infinity symbols, the latter
+ * with an optional sign, are also accepted when parsing doubles.
+ * <br>
+ * Failures are reported by setting the {@link ParsePosition#getErrorIndex()} rather than throwing, in which case the
+ * value returned should be ignored. A successful parse sets the {@link ParsePosition#getIndex()} to the end of the range.
+ * Doubles with up to 15 significant digits and small exponents, and {@link BigDecimal} with up to 15 significant
+ * digits are parsed without creating any intermediate objects or Strings. Longer numbers are copied into the
+ * {@link DecimalNumberContextScratch} of the current thread before conversion, which is sized from the digit count and
+ * precision when the symbols are a {@link DecimalNumberContext}.
+ */
+public final class DecimalNumberParser {
+
+    /**
+     * Factory that creates a new {@link DecimalNumberParser} using the given symbols, which are read once.
+     */
+    public static DecimalNumberParser with(final DecimalNumberSymbolsLike symbols) {
+        Objects.requireNonNull(symbols, "symbols");
+
+        return new DecimalNumberParser(symbols);
+    }
+
+    /**
+     * Private ctor use factory.
+     */
+    private DecimalNumberParser(final DecimalNumberSymbolsLike symbols) {
+        super();
+
+        this.symbols = symbols;
+
+        this.negativeSign = symbols.negativeSign();
+        this.positiveSign = symbols.positiveSign();
+        this.decimalSeparator = symbols.decimalSeparator();
+        this.exponentSymbol = symbols.exponentSymbol();
+        this.groupSeparator = symbols.groupSeparator();
+        this.infinitySymbol = symbols.infinitySymbol();
+        this.nanSymbol = symbols.nanSymbol();
+        this.percentSymbol = symbols.percentSymbol();
+        this.permillSymbol = symbols.permillSymbol();
+
+        this.textLength = symbols instanceof DecimalNumberContext ?
+            DecimalNumberContextScratch.textLength((DecimalNumberContext) symbols) :
+            0;
+    }
+
+    // parseLong........................................................................................................
+
+    /**
+     * Parses the range as a long. Decimal separators, exponents, percent and permill symbols and values that do not
+     * fit in a long are all reported as errors.
+     */
+    public long parseLong(final CharSequence text,
+                          final int start,
+                          final int end,
+                          final ParsePosition position) {
+        checkRange(text, start, end, position);
+
+        int i = start;
+        boolean negative = false;
+
+        if (i < end) {
+            final char c = text.charAt(i);
+            if (this.negativeSign == c) {
+                negative = true;
+                i++;
+            } else if (this.positiveSign == c) {
+                i++;
+            }
+        }
+
+        // accumulate negatively so Long.MIN_VALUE can be parsed
+        final long limit = negative ?
+            Long.MIN_VALUE :
+            -Long.MAX_VALUE;
+        final long multiplyLimit = limit / 10;
+
+        long value = 0;
+        boolean digits = false;
+        int errorIndex = -1;
+
+        while (i < end) {
+            final char c = text.charAt(i);
+            final int digit = this.symbols.digit(c);
+
+            if (digit >= 0) {
+                if (value < multiplyLimit) {
+                    errorIndex = i;
+                    break;
+                }
+                value = value * 10;
+                if (value < limit + digit) {
+                    errorIndex = i;
+                    break;
+                }
+                value = value - digit;
+                digits = true;
+            } else {
+                if (this.groupSeparator != c || !digits || !this.isDigit(text, i + 1, end)) {
+                    errorIndex = i;
+                    break;
+                }
+            }
+            i++;
+        }
+
+        if (-1 == errorIndex && !digits) {
+            errorIndex = i;
+        }
+
+        final long result;
+        if (-1 == errorIndex) {
+            success(end, position);
+            result = negative ?
+                value :
+                -value;
+        } else {
+            position.setErrorIndex(errorIndex);
+            result = 0;
+        }
+
+        return result;
+    }
+
+    // parseDouble......................................................................................................
+
+    /**
+     * Parses the range as a double, including the NaN and infinity symbols. Values too large or small for a double
+     * become infinity or zero.
+     */
+    public double parseDouble(final CharSequence text,
+                              final int start,
+                              final int end,
+                              final ParsePosition position) {
+        checkRange(text, start, end, position);
+
+        double result;
+
+        final long scanned = this.scan(text, start, end, position, false, null);
+        if (scanned >= 0) {
+            result = fastDouble(scanned);
+            if (Double.isNaN(result)) {
+                result = this.slowDouble(text, start, end, position, isNegative(scanned));
+            }
+        } else {
+            if (NAN == scanned) {
+                result = Double.NaN;
+            } else if (POSITIVE_INFINITY == scanned) {
+                result = Double.POSITIVE_INFINITY;
+            } else if (NEGATIVE_INFINITY == scanned) {
+                result = Double.NEGATIVE_INFINITY;
+            } else if (SLOW_POSITIVE == scanned || SLOW_NEGATIVE == scanned) {
+                result = this.slowDouble(text, start, end, position, SLOW_NEGATIVE == scanned);
+            } else {
+                result = Double.NaN;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the exact double for a packed mantissa and exponent, or NaN if the single multiply or divide used would
+     * not be correctly rounded.
+     */
+    private static double fastDouble(final long packed) {
+        final long mantissa = mantissa(packed);
+        final int exponent = exponent(packed);
+
+        double result;
+
+        // both the mantissa below 2^53 and powers of ten up to 22 are exact doubles, so one operation rounds correctly
+        if (exponent >= 0 && exponent <= 22) {
+            result = mantissa * DOUBLE_TEN_POWERS[exponent];
+        } else if (exponent < 0 && exponent >= -22) {
+            result = mantissa / DOUBLE_TEN_POWERS[-exponent];
+        } else {
+            result = Double.NaN;
+        }
+
+        return isNegative(packed) ?
+            -result :
+            result;
+    }
+
+    private final static double[] DOUBLE_TEN_POWERS = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private double slowDouble(final CharSequence text,
+                              final int start,
+                              final int end,
+                              final ParsePosition position,
+                              final boolean negative) {
+        final char[] ascii = DecimalNumberContextScratch.current()
+            .text(this.asciiLength(start, end));
+        final int length = (int) this.scan(text, start, end, position, false, ascii);
+
+        // the sign is applied after conversion so negative zero is kept
+        final double value = new BigDecimal(ascii, 0, length)
+            .abs()
+            .doubleValue();
+        return negative ?
+            -value :
+            value;
+    }
+
+    // parseBigDecimal..................................................................................................
+
+    /**
+     * Parses the range as a {@link BigDecimal} with the same scale as {@link BigDecimal#BigDecimal(String)} would give
+     * the equivalent plain text. NaN and infinity are reported as errors, as are exponents that are too large.
+     */
+    public BigDecimal parseBigDecimal(final CharSequence text,
+                                      final int start,
+                                      final int end,
+                                      final ParsePosition position) {
+        checkRange(text, start, end, position);
+
+        final int index = position.getIndex();
+        BigDecimal result;
+
+        final long scanned = this.scan(text, start, end, position, true, null);
+        if (scanned >= 0) {
+            final long mantissa = mantissa(scanned);
+            result = BigDecimal.valueOf(
+                isNegative(scanned) ?
+                    -mantissa :
+                    mantissa,
+                -exponent(scanned)
+            );
+        } else {
+            if (SLOW_POSITIVE == scanned || SLOW_NEGATIVE == scanned) {
+                final char[] ascii = DecimalNumberContextScratch.current()
+                    .text(this.asciiLength(start, end));
+                final long length = this.scan(text, start, end, position, true, ascii);
+
+                result = length >= 0 ?
+                    new BigDecimal(ascii, 0, (int) length) :
+                    null;
+            } else {
+                if (ERROR != scanned) {
+                    // NaN or infinity
+                    position.setIndex(index);
+                    position.setErrorIndex(start);
+                }
+                result = null;
+            }
+        }
+
+        return result;
+    }
+
+    // scan.............................................................................................................
+
+    /**
+     * Scans the entire range, recording any error in the {@link ParsePosition} and returning one of the negative
+     * constants below, otherwise success is recorded. Exponents beyond {@link #MAX_EXPONENT} are clamped for doubles,
+     * which are already zero or infinity, unless exponentOverflowFails is true.
+     * <br>
+     * When ascii is null the sign, mantissa and exponent of numbers with up to {@link #FAST_DIGITS} significant digits
+     * and a small exponent are packed into a positive long, while longer numbers return {@link #SLOW_POSITIVE} or
+     * {@link #SLOW_NEGATIVE}.
+     * <br>
+     * When ascii is not null the number is written as ASCII digits and an exponent in a form understood by
+     * {@link BigDecimal#BigDecimal(char[], int, int)}, and the number of characters written is returned.
+     */
+    private long scan(final CharSequence text,
+                      final int start,
+                      final int end,
+                      final ParsePosition position,
+                      final boolean exponentOverflowFails,
+                      final char[] ascii) {
+        final NumberContextLike symbols = this.symbols;
+
+        int i = start;
+        int errorIndex = -1;
+        long result;
+
+        boolean negative = false;
+        boolean signed = false;
+        if (i < end) {
+            final char c = text.charAt(i);
+            if (this.negativeSign == c) {
+                negative = true;
+                signed = true;
+                i++;
+            } else if (this.positiveSign == c) {
+                signed = true;
+                i++;
+            }
+        }
+
+        if (!signed && matches(this.nanSymbol, text, i, end) && i + this.nanSymbol.length() == end) {
+            result = NAN;
+        } else if (matches(this.infinitySymbol, text, i, end) && i + this.infinitySymbol.length() == end) {
+            result = negative ?
+                NEGATIVE_INFINITY :
+                POSITIVE_INFINITY;
+        } else {
+            int asciiLength = 0;
+            if (null != ascii && negative) {
+                ascii[asciiLength++] = '-';
+            }
+
+            long mantissa = 0;
+            int significantDigits = 0;
+            int fractionDigits = 0;
+            boolean digits = false;
+            boolean fraction = false;
+
+            while (i < end) {
+                final char c = text.charAt(i);
+                final int digit = symbols.digit(c);
+
+                if (digit >= 0) {
+                    if (significantDigits > 0 || digit > 0) {
+                        significantDigits++;
+                        if (significantDigits <= FAST_DIGITS) {
+                            mantissa = mantissa * 10 + digit;
+                        }
+                    }
+                    if (fraction) {
+                        fractionDigits++;
+                    }
+                    if (null != ascii) {
+                        ascii[asciiLength++] = (char) ('0' + digit);
+                    }
+                    digits = true;
+                } else {
+                    if (this.decimalSeparator == c && !fraction) {
+                        fraction = true;
+                    } else {
+                        if (this.groupSeparator != c || !digits || fraction) {
+                            break;
+                        }
+                        if (!this.isDigit(text, i + 1, end)) {
+                            errorIndex = i;
+                            break;
+                        }
+                    }
+                }
+                i++;
+            }
+
+            long exponent = 0;
+            int exponentIndex = -1;
+            boolean exponentOverflow = false;
+
+            if (!digits) {
+                errorIndex = i;
+            } else if (-1 == errorIndex) {
+                final String exponentSymbol = this.exponentSymbol;
+                if (matches(exponentSymbol, text, i, end)) {
+                    exponentIndex = i;
+                    i += exponentSymbol.length();
+
+                    boolean exponentNegative = false;
+                    if (i < end) {
+                        final char c = text.charAt(i);
+                        if (this.negativeSign == c) {
+                            exponentNegative = true;
+                            i++;
+                        } else if (this.positiveSign == c) {
+                            i++;
+                        }
+                    }
+
+                    final int exponentStart = i;
+                    while (i < end) {
+                        final int digit = symbols.digit(text.charAt(i));
+                        if (digit < 0) {
+                            break;
+                        }
+                        if (exponent < MAX_EXPONENT) {
+                            exponent = exponent * 10 + digit;
+                        } else {
+                            exponentOverflow = true;
+                        }
+                        i++;
+                    }
+
+                    if (exponentStart == i) {
+                        errorIndex = i;
+                    }
+                    if (exponentNegative) {
+                        exponent = -exponent;
+                    }
+                }
+
+                if (-1 == errorIndex && i < end) {
+                    final char c = text.charAt(i);
+                    if (this.percentSymbol == c) {
+                        exponent = exponent - 2;
+                        i++;
+                    } else if (this.permillSymbol == c) {
+                        exponent = exponent - 3;
+                        i++;
+                    }
+                }
+
+                if (-1 == errorIndex && i < end) {
+                    errorIndex = i;
+                }
+            }
+
+            exponent = exponent - fractionDigits;
+
+            if (-1 == errorIndex) {
+                exponentOverflow = exponentOverflow || exponent < -MAX_EXPONENT || exponent > MAX_EXPONENT;
+                if (exponentOverflow) {
+                    if (exponentOverflowFails) {
+                        errorIndex = -1 != exponentIndex ?
+                            exponentIndex :
+                            start;
+                    } else {
+                        exponent = exponent < 0 ?
+                            -MAX_EXPONENT :
+                            MAX_EXPONENT;
+                    }
+                }
+            }
+
+            if (-1 != errorIndex) {
+                result = ERROR;
+            } else {
+                if (null != ascii) {
+                    ascii[asciiLength++] = 'E';
+                    asciiLength = writeExponent((int) exponent, ascii, asciiLength);
+                    result = asciiLength;
+                } else {
+                    result = significantDigits <= FAST_DIGITS && exponent >= MIN_FAST_EXPONENT && exponent <= MAX_FAST_EXPONENT ?
+                        pack(negative, mantissa, (int) exponent) :
+                        negative ?
+                            SLOW_NEGATIVE :
+                            SLOW_POSITIVE;
+                }
+            }
+        }
+
+        if (ERROR == result) {
+            position.setErrorIndex(errorIndex);
+        } else {
+            success(end, position);
+        }
+
+        return result;
+    }
+
+    /**
+     * Writes the exponent in decimal returning the new length.
+     */
+    private static int writeExponent(final int exponent,
+                                     final char[] ascii,
+                                     final int length) {
+        int i = length;
+        int value = exponent;
+
+        if (value < 0) {
+            ascii[i++] = '-';
+            value = -value;
+        }
+
+        final int digitsStart = i;
+        do {
+            ascii[i++] = (char) ('0' + value % 10);
+            value = value / 10;
+        } while (value > 0);
+
+        // digits were written least significant first
+        for (int left = digitsStart, right = i - 1; left < right; left++, right--) {
+            final char swap = ascii[left];
+            ascii[left] = ascii[right];
+            ascii[right] = swap;
+        }
+
+        return i;
+    }
+
+    /**
+     * Tests if the character at the index within the range is a digit, which must follow every group separator.
+     */
+    private boolean isDigit(final CharSequence text,
+                            final int index,
+                            final int end) {
+        return index < end && this.symbols.digit(text.charAt(index)) >= 0;
+    }
+
+    private static boolean matches(final String symbol,
+                                   final CharSequence text,
+                                   final int start,
+                                   final int end) {
+        final int length = symbol.length();
+        boolean matches = length > 0 && start + length <= end;
+
+        for (int i = 0; matches && i < length; i++) {
+            matches = symbol.charAt(i) == text.charAt(start + i);
+        }
+
+        return matches;
+    }
+
+    /**
+     * Room for every character as a digit, a sign, the exponent symbol, exponent sign and 10 exponent digits, and at
+     * least {@link #textLength} so the buffer is sized for the {@link DecimalNumberContext} on first use.
+     */
+    private int asciiLength(final int start,
+                            final int end) {
+        return Math.max(
+            end - start + 13,
+            this.textLength
+        );
+    }
+
+    private static void checkRange(final CharSequence text,
+                                   final int start,
+                                   final int end,
+                                   final ParsePosition position) {
+        Objects.requireNonNull(text, "text");
+        Objects.requireNonNull(position, "position");
+
+        if (start < 0 || start > end || end > text.length()) {
+            throw new IndexOutOfBoundsException("Invalid range " + start + ".." + end + " for text length " + text.length());
+        }
+    }
+
+    private static void success(final int end,
+                                final ParsePosition position) {
+        position.setIndex(end);
+        position.setErrorIndex(-1);
+    }
+
+    // packed...........................................................................................................
+
+    /**
+     * The maximum number of significant digits in a packed mantissa, 10^15 is less than 2^53.
+     */
+    private final static int FAST_DIGITS = 15;
+
+    private final static int MIN_FAST_EXPONENT = -32;
+
+    private final static int MAX_FAST_EXPONENT = 31;
+
+    /**
+     * Larger exponents are reported as errors by {@link #parseBigDecimal(CharSequence, int, int, ParsePosition)}.
+     */
+    private final static int MAX_EXPONENT = 999_999_999;
+
+    private final static long ERROR = Long.MIN_VALUE;
+
+    private final static long NAN = Long.MIN_VALUE + 1;
+
+    private final static long POSITIVE_INFINITY = Long.MIN_VALUE + 2;
+
+    private final static long NEGATIVE_INFINITY = Long.MIN_VALUE + 3;
+
+    private final static long SLOW_POSITIVE = Long.MIN_VALUE + 4;
+
+    private final static long SLOW_NEGATIVE = Long.MIN_VALUE + 5;
+
+    private final static int MANTISSA_BITS = 53;
+
+    private final static int EXPONENT_BITS = 6;
+
+    /**
+     * Packs the sign, a mantissa below 2^53 and an exponent between {@link #MIN_FAST_EXPONENT} and
+     * {@link #MAX_FAST_EXPONENT} into a positive long.
+     */
+    private static long pack(final boolean negative,
+                             final long mantissa,
+                             final int exponent) {
+        return (negative ? 1L << (MANTISSA_BITS + EXPONENT_BITS) : 0) |
+            ((long) (exponent - MIN_FAST_EXPONENT) << MANTISSA_BITS) |
+            mantissa;
+    }
+
+    private static boolean isNegative(final long packed) {
+        return 0 != (packed & (1L << (MANTISSA_BITS + EXPONENT_BITS)));
+    }
+
+    private static long mantissa(final long packed) {
+        return packed & ((1L << MANTISSA_BITS) - 1);
+    }
+
+    private static int exponent(final long packed) {
+        return (int) ((packed >>> MANTISSA_BITS) & ((1 << EXPONENT_BITS) - 1)) + MIN_FAST_EXPONENT;
+    }
+
+    // symbols..........................................................................................................
+
+    private final NumberContextLike symbols;
+
+    private final char negativeSign;
+
+    private final char positiveSign;
+
+    private final char decimalSeparator;
+
+    private final String exponentSymbol;
+
+    private final char groupSeparator;
+
+    private final String infinitySymbol;
+
+    private final String nanSymbol;
+
+    private final char percentSymbol;
+
+    private final char permillSymbol;
+
+    /**
+     * The {@link DecimalNumberContextScratch} text length for a {@link DecimalNumberContext}, otherwise zero.
+     */
+    private final int textLength;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.symbols.toString();
+    }
+}
@@ -65,6 +65,149 @@ public final class DecimalNumberSymbols implements DecimalNumberSymbolsLike,
      * of the {@link DecimalNumberSymbols} properties. This is the inverse of {@link #text()}.
      */
     public static DecimalNumberSymbols parse(final String text) {
+        DecimalNumberSymbols symbols = null;
+
+        if (null != text) {
+            symbols = parseSimple(text);
+        }
+
+        return null != symbols ?
+            symbols :
+            parseCsvStringList(text);
+    }
+
+    /**
+     * Scans simple csv text in one pass without creating a {@link CsvStringList}, only the {@link String} symbols are
+     * copied. Anything else, including empty tokens, quoted tokens containing quotes, backslashes or the wrong number of
+     * tokens, returns null so
+     * {@link #parseCsvStringList(String)} parses or reports the same error.
+     */
+    private static DecimalNumberSymbols parseSimple(final String text) {
+        char negativeSign = 0;
+        char positiveSign = 0;
+        char zeroDigit = 0;
+        String currencySymbol = null;
+        char decimalSeparator = 0;
+        String exponentSymbol = null;
+        char groupSeparator = 0;
+        String infinitySymbol = null;
+        char monetaryDecimalSeparator = 0;
+        String nanSymbol = null;
+        char percentSymbol = 0;
+        char permillSymbol = 0;
+
+        final int length = text.length();
+        int token = 0;
+        int i = 0;
+
+        for (; ; ) {
+            final int start;
+            int end;
+
+            if (i < length && '"' == text.charAt(i)) {
+                start = i + 1;
+                end = text.indexOf('"', start);
+                if (end < 0) {
+                    return null;
+                }
+                i = end + 1;
+                if (i < length && ',' != text.charAt(i)) {
+                    return null;
+                }
+            } else {
+                start = i;
+                end = i;
+                while (end < length) {
+                    final char c = text.charAt(end);
+                    if (',' == c) {
+                        break;
+                    }
+                    if ('"' == c) {
+                        return null;
+                    }
+                    end++;
+                }
+                i = end;
+            }
+
+            if (start == end || text.lastIndexOf('\\', end - 1) >= start) {
+                return null;
+            }
+
+            switch (token) {
+                case 3:
+                    currencySymbol = text.substring(start, end);
+                    break;
+                case 5:
+                    exponentSymbol = text.substring(start, end);
+                    break;
+                case 7:
+                    infinitySymbol = text.substring(start, end);
+                    break;
+                case 9:
+                    nanSymbol = text.substring(start, end);
+                    break;
+                default:
+                    if (token >= 12 || 1 != end - start) {
+                        return null;
+                    }
+
+                    final char c = text.charAt(start);
+                    switch (token) {
+                        case 0:
+                            negativeSign = c;
+                            break;
+                        case 1:
+                            positiveSign = c;
+                            break;
+                        case 2:
+                            zeroDigit = c;
+                            break;
+                        case 4:
+                            decimalSeparator = c;
+                            break;
+                        case 6:
+                            groupSeparator = c;
+                            break;
+                        case 8:
+                            monetaryDecimalSeparator = c;
+                            break;
+                        case 10:
+                            percentSymbol = c;
+                            break;
+                        default:
+                            permillSymbol = c;
+                            break;
+                    }
+                    break;
+            }
+            token++;
+
+            if (i >= length) {
+                break;
+            }
+            i++; // skip comma
+        }
+
+        return 12 != token ?
+            null :
+            with(
+                negativeSign,
+                positiveSign,
+                zeroDigit,
+                currencySymbol,
+                decimalSeparator,
+                exponentSymbol,
+                groupSeparator,
+                infinitySymbol,
+                monetaryDecimalSeparator,
+                nanSymbol,
+                percentSymbol,
+                permillSymbol
+            );
+    }
+
+    private static DecimalNumberSymbols parseCsvStringList(final String text) {
         final CsvStringList csv = CsvStringList.parse(text);
 
         final int tokenCount = csv.size();
@@ -147,31 +290,107 @@ public final class DecimalNumberSymbols implements DecimalNumberSymbolsLike,
             checkString(NAN_SYMBOL_LABEL, nanSymbol),
             checkCharacter(PERCENT_SYMBOL_LABEL, percentSymbol),
             checkPermillSymbol(permillSymbol)
-        );
+        ).validate();
     }
 
-    private DecimalNumberSymbols(final char negativeSign,
-                                 final char positiveSign,
-                                 final char zeroDigit,
-                                 final String currencySymbol,
-                                 final char decimalSeparator,
-                                 final String exponentSymbol,
-                                 final char groupSeparator,
-                                 final String infinitySymbol,
-                                 final char monetaryDecimalSeparator,
-                                 final String nanSymbol,
-                                 final char percentSymbol,
-                                 final char permillSymbol) {
+    /**
+     * Package private so {@link DecimalNumberSymbolsCache} may create an unvalidated lookup key, all other callers
+     * must follow with {@link #validate()}.
+     */
+    DecimalNumberSymbols(final char negativeSign,
+                         final char positiveSign,
+                         final char zeroDigit,
+                         final String currencySymbol,
+                         final char decimalSeparator,
+                         final String exponentSymbol,
+                         final char groupSeparator,
+                         final String infinitySymbol,
+                         final char monetaryDecimalSeparator,
+                         final String nanSymbol,
+                         final char percentSymbol,
+                         final char permillSymbol) {
         this.negativeSign = negativeSign;
         this.positiveSign = positiveSign;
         this.zeroDigit = zeroDigit;
-
+        this.currencySymbol = Objects.requireNonNull(currencySymbol, CURRENCY_SYMBOL_LABEL);
         this.decimalSeparator = decimalSeparator;
-        ;
+        this.exponentSymbol = Objects.requireNonNull(exponentSymbol, EXPONENT_SYMBOL_LABEL);
         this.groupSeparator = groupSeparator;
+        this.infinitySymbol = Objects.requireNonNull(infinitySymbol, INFINITY_SYMBOL_LABEL);
         this.monetaryDecimalSeparator = monetaryDecimalSeparator;
+        this.nanSymbol = Objects.requireNonNull(nanSymbol, NAN_SYMBOL_LABEL);
         this.percentSymbol = percentSymbol;
         this.permillSymbol = permillSymbol;
+    }
+
+    /**
+     * Verifies that no two character symbols are the same, returning this.
+     */
+    private DecimalNumberSymbols validate() {
+        if (this.mayHaveDuplicate()) {
+            this.failIfDuplicate();
+        }
+
+        return this;
+    }
+
+    /**
+     * Returns false if the character symbols are all ASCII and different, testing all symbols in one pass by setting
+     * a bit for each. A true result requires {@link #failIfDuplicate()} to find and report the duplicate.
+     */
+    private boolean mayHaveDuplicate() {
+        final char negativeSign = this.negativeSign;
+        final char positiveSign = this.positiveSign;
+        final char decimalSeparator = this.decimalSeparator;
+        final char groupSeparator = this.groupSeparator;
+        final char monetaryDecimalSeparator = this.monetaryDecimalSeparator;
+        final char percentSymbol = this.percentSymbol;
+        final char permillSymbol = this.permillSymbol;
+
+        boolean duplicate = true;
+
+        if ((negativeSign | positiveSign | decimalSeparator | groupSeparator | monetaryDecimalSeparator | percentSymbol | permillSymbol) < ASCII_LENGTH) {
+            final long low = bit(negativeSign, 0) |
+                bit(positiveSign, 0) |
+                bit(decimalSeparator, 0) |
+                bit(groupSeparator, 0) |
+                bit(monetaryDecimalSeparator, 0) |
+                bit(percentSymbol, 0) |
+                bit(permillSymbol, 0);
+            final long high = bit(negativeSign, 64) |
+                bit(positiveSign, 64) |
+                bit(decimalSeparator, 64) |
+                bit(groupSeparator, 64) |
+                bit(monetaryDecimalSeparator, 64) |
+                bit(percentSymbol, 64) |
+                bit(permillSymbol, 64);
+
+            // decimalSeparator can be same as monetaryDecimalSeparator
+            duplicate = Long.bitCount(low) + Long.bitCount(high) != (decimalSeparator == monetaryDecimalSeparator ? 6 : 7);
+        }
+
+        return duplicate;
+    }
+
+    private static long bit(final char c,
+                            final int base) {
+        final int index = c - base;
+        return index >= 0 && index < 64 ?
+            1L << index :
+            0;
+    }
+
+    /**
+     * Compares each pair of character symbols, failing with the first duplicate.
+     */
+    private void failIfDuplicate() {
+        final char negativeSign = this.negativeSign;
+        final char positiveSign = this.positiveSign;
+        final char decimalSeparator = this.decimalSeparator;
+        final char groupSeparator = this.groupSeparator;
+        final char monetaryDecimalSeparator = this.monetaryDecimalSeparator;
+        final char percentSymbol = this.percentSymbol;
+        final char permillSymbol = this.permillSymbol;
 
         failIfEqual(negativeSign, NEGATIVE_SIGN_LABEL, positiveSign, POSITIVE_SIGN_LABEL);
         failIfEqual(negativeSign, NEGATIVE_SIGN_LABEL, decimalSeparator, DECIMAL_SEPARATOR_LABEL);
@@ -199,11 +418,6 @@ public final class DecimalNumberSymbols implements DecimalNumberSymbolsLike,
         failIfEqual(monetaryDecimalSeparator, MONETARY_DECIMAL_SEPARATOR_LABEL, permillSymbol, PERMILL_SYMBOL_LABEL);
 
         failIfEqual(percentSymbol, PERCENT_SYMBOL_LABEL, permillSymbol, PERMILL_SYMBOL_LABEL);
-
-        this.currencySymbol = Objects.requireNonNull(currencySymbol, CURRENCY_SYMBOL_LABEL);
-        this.exponentSymbol = Objects.requireNonNull(exponentSymbol, EXPONENT_SYMBOL_LABEL);
-        this.infinitySymbol = infinitySymbol;
-        this.nanSymbol = nanSymbol;
     }
 
     private static void failIfEqual(final char left, final String leftLabel,
@@ -248,7 +462,7 @@ public final class DecimalNumberSymbols implements DecimalNumberSymbolsLike,
                 this.nanSymbol,
                 this.percentSymbol,
                 this.permillSymbol
-            );
+            ).validate();
     }
 
     private final char negativeSign;
@@ -279,7 +493,7 @@ public final class DecimalNumberSymbols implements DecimalNumberSymbolsLike,
                 this.nanSymbol,
                 this.percentSymbol,
                 this.permillSymbol
-            );
+            ).validate();
     }
 
     private final char positiveSign;
@@ -310,7 +524,7 @@ public final class DecimalNumberSymbols implements DecimalNumberSymbolsLike,
                 this.nanSymbol,
                 this.percentSymbol,
                 this.permillSymbol
-            );
+            ).validate();
     }
 
     private final char zeroDigit;
@@ -341,7 +555,7 @@ public final class DecimalNumberSymbols implements DecimalNumberSymbolsLike,
                 this.nanSymbol,
                 this.percentSymbol,
                 this.permillSymbol
-            );
+            ).validate();
     }
 
     private final String currencySymbol;
@@ -372,7 +586,7 @@ public final class DecimalNumberSymbols implements DecimalNumberSymbolsLike,
                 this.nanSymbol,
                 this.percentSymbol,
                 this.permillSymbol
-            );
+            ).validate();
     }
 
     private final char decimalSeparator;
@@ -403,7 +617,7 @@ public final class DecimalNumberSymbols implements DecimalNumberSymbolsLike,
                 this.nanSymbol,
                 this.percentSymbol,
                 this.permillSymbol
-            );
+            ).validate();
     }
 
     private final String exponentSymbol;
@@ -434,7 +648,7 @@ public final class DecimalNumberSymbols implements DecimalNumberSymbolsLike,
                 this.nanSymbol,
                 this.percentSymbol,
                 this.permillSymbol
-            );
+            ).validate();
     }
 
     private final char groupSeparator;
@@ -465,7 +679,7 @@ public final class DecimalNumberSymbols implements DecimalNumberSymbolsLike,
                 this.nanSymbol,
                 this.percentSymbol,
                 this.permillSymbol
-            );
+            ).validate();
     }
 
     private final String infinitySymbol;
@@ -496,7 +710,7 @@ public final class DecimalNumberSymbols implements DecimalNumberSymbolsLike,
                 this.nanSymbol,
                 this.percentSymbol,
                 this.permillSymbol
-            );
+            ).validate();
     }
 
     private final char monetaryDecimalSeparator;
@@ -527,7 +741,7 @@ public final class DecimalNumberSymbols implements DecimalNumberSymbolsLike,
                 checkString(NAN_SYMBOL_LABEL, nanSymbol),
                 this.percentSymbol,
                 this.permillSymbol
-            );
+            ).validate();
     }
 
     private final String nanSymbol;
@@ -558,7 +772,7 @@ public final class DecimalNumberSymbols implements DecimalNumberSymbolsLike,
                 this.nanSymbol,
                 checkCharacter(PERCENT_SYMBOL_LABEL, percentSymbol),
                 this.permillSymbol
-            );
+            ).validate();
     }
 
     private final char percentSymbol;
@@ -589,11 +803,20 @@ public final class DecimalNumberSymbols implements DecimalNumberSymbolsLike,
                 this.nanSymbol,
                 this.percentSymbol,
                 checkCharacter(PERMILL_SYMBOL_LABEL, permillSymbol)
-            );
+            ).validate();
     }
 
     private final char permillSymbol;
 
+    // builder..........................................................................................................
+
+    /**
+     * Returns a {@link DecimalNumberSymbolsBuilder} initialized with these symbols, useful when changing several symbols.
+     */
+    public DecimalNumberSymbolsBuilder builder() {
+        return DecimalNumberSymbolsBuilder.with(this);
+    }
+
     // helper...........................................................................................................
 
     private final static CharPredicate PRINTABLE = CharPredicates.asciiControl()
@@ -612,7 +835,7 @@ public final class DecimalNumberSymbols implements DecimalNumberSymbolsLike,
 
     private static char checkCharacter(final String label,
                                        final char c) {
-        if (false == SYMBOL.test(c)) {
+        if (false == test(c, SYMBOL_FLAG, SYMBOL)) {
             throw new InvalidCharacterException(
                 String.valueOf(c), // text
                 0 // position
@@ -635,7 +858,7 @@ public final class DecimalNumberSymbols implements DecimalNumberSymbolsLike,
     ).setToString(PERMILL_SYMBOL_LABEL);
 
     private static char checkPermillSymbol(final char c) {
-        if (false == PERMILL_SYMBOL.test(c)) {
+        if (false == test(c, PERMILL_SYMBOL_FLAG, PERMILL_SYMBOL)) {
             throw new InvalidCharacterException(PERMILL_SYMBOL_LABEL, c);
         }
         return c;
@@ -667,20 +890,64 @@ public final class DecimalNumberSymbols implements DecimalNumberSymbolsLike,
         .setToString(ZERO_DIGIT_LABEL);
 
     private static char checkZeroDigit(final char zeroDigit) {
-        if (false == ZERO_DIGIT.test(zeroDigit)) {
+        if (false == test(zeroDigit, ZERO_DIGIT_FLAG, ZERO_DIGIT)) {
             throw new InvalidCharacterException(ZERO_DIGIT_LABEL, zeroDigit);
         }
 
         return zeroDigit;
     }
 
+    private final static int ASCII_LENGTH = 128;
+
+    private final static byte SYMBOL_FLAG = 1;
+    private final static byte PERMILL_SYMBOL_FLAG = 2;
+    private final static byte ZERO_DIGIT_FLAG = 4;
+
+    /**
+     * The results of {@link #SYMBOL}, {@link #PERMILL_SYMBOL} and {@link #ZERO_DIGIT} for each ASCII character as flags,
+     * replacing the {@link CharPredicate} chains for the common case.
+     */
+    private final static byte[] ASCII_FLAGS = new byte[ASCII_LENGTH];
+
+    static {
+        for (char c = 0; c < ASCII_LENGTH; c++) {
+            ASCII_FLAGS[c] = (byte) (
+                (SYMBOL.test(c) ? SYMBOL_FLAG : 0) |
+                    (PERMILL_SYMBOL.test(c) ? PERMILL_SYMBOL_FLAG : 0) |
+                    (ZERO_DIGIT.test(c) ? ZERO_DIGIT_FLAG : 0)
+            );
+        }
+    }
+
+    private static boolean test(final char c,
+                                final byte flag,
+                                final CharPredicate predicate) {
+        return c < ASCII_LENGTH ?
+            0 != (ASCII_FLAGS[c] & flag) :
+            predicate.test(c);
+    }
+
     // HasText..........................................................................................................
 
     /**
-     * Returns a CSV string with the individual symbols.
+     * Returns a CSV string with the individual symbols. The text is computed once and cached.
      */
     @Override
     public String text() {
+        String text = this.text;
+        if (null == text) {
+            text = this.text0();
+            this.text = text;
+        }
+        return text;
+    }
+
+    /**
+     * Lazily computed {@link #text()}. Races are benign as every thread computes the same immutable value.
+     */
+    private String text;
+
+    private String text0() {
         return CsvStringList.EMPTY.concat(
                 String.valueOf(this.negativeSign)
             ).concat(
@@ -770,8 +1037,25 @@ public final class DecimalNumberSymbols implements DecimalNumberSymbolsLike,
 
     // HasProperties....................................................................................................
 
+    /**
+     * Returns a {@link Properties} with the individual symbols. The {@link Properties} is immutable, computed once and cached.
+     */
     @Override
     public Properties properties() {
+        Properties properties = this.properties;
+        if (null == properties) {
+            properties = this.properties0();
+            this.properties = properties;
+        }
+        return properties;
+    }
+
+    /**
+     * Lazily computed {@link #properties()}.
+     */
+    private Properties properties;
+
+    private Properties properties0() {
         return Properties.EMPTY.set(
             NEGATIVE_SIGN_PROPERTIES_KEY,
             String.valueOf(this.negativeSign)
@@ -828,6 +1112,20 @@ public final class DecimalNumberSymbols implements DecimalNumberSymbolsLike,
 
     @Override
     public int hashCode() {
+        int hashCode = this.hashCode;
+        if (0 == hashCode) {
+            hashCode = this.hashCode0();
+            this.hashCode = hashCode;
+        }
+        return hashCode;
+    }
+
+    /**
+     * Lazily computed {@link #hashCode()}, zero means not yet computed.
+     */
+    private int hashCode;
+
+    private int hashCode0() {
         return Objects.hash(
             this.negativeSign,
             this.positiveSign,
@@ -0,0 +1,385 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import walkingkooka.reflect.PublicStaticHelper;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.MathContext;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * A compact versioned binary encoding of {@link DecimalNumberSymbols}, an alternative to the csv {@link DecimalNumberSymbols#text()}
+ * and {@link DecimalNumberSymbols#properties()}. All values are big endian, regardless of any {@link ByteBuffer#order()}.
+ * <pre>
+ * byte version, currently 1
+ * byte well known symbols index, 0 means the symbols follow
+ * char negativeSign
+ * char positiveSign
+ * char zeroDigit
+ * char decimalSeparator
+ * char groupSeparator
+ * char monetaryDecimalSeparator
+ * char percentSymbol
+ * char permillSymbol
+ * unsigned short length, chars currencySymbol
+ * unsigned short length, chars exponentSymbol
+ * unsigned short length, chars infinitySymbol
+ * unsigned short length, chars nanSymbol
+ * </pre>
+ * Strings are written as their UTF-16 chars rather than UTF-8, so any unpaired surrogates are kept.
+ * Symbols equal to one of a small fixed table of well known locale symbols are written as just the version and the
+ * index into the table. The table is part of the version, so new entries may only be appended.
+ * <br>
+ * This class is not available to J2CL as it uses {@link ByteBuffer}.
+ */
+public final class DecimalNumberSymbolsBinaryCodec implements PublicStaticHelper {
+
+    final static byte VERSION = 1;
+
+    private final static byte INLINE = 0;
+
+    /**
+     * Well known symbols, the index of each plus one is written. These are literals and not taken from
+     * {@link java.text.DecimalFormatSymbols} so they do not change between JREs.
+     */
+    final static DecimalNumberSymbols[] WELL_KNOWN = {
+        // en-US
+        DecimalNumberContexts.american(MathContext.UNLIMITED)
+            .decimalNumberSymbols(),
+        // en-GB
+        DecimalNumberSymbols.with(
+            '-',
+            '+',
+            '0',
+            "\u00a3",
+            '.',
+            "E",
+            ',',
+            "\u221e",
+            '.',
+            "NaN",
+            '%',
+            '\u2030'
+        ),
+        // de-DE
+        DecimalNumberSymbols.with(
+            '-',
+            '+',
+            '0',
+            "\u20ac",
+            ',',
+            "E",
+            '.',
+            "\u221e",
+            ',',
+            "NaN",
+            '%',
+            '\u2030'
+        ),
+        // fr-FR
+        DecimalNumberSymbols.with(
+            '-',
+            '+',
+            '0',
+            "\u20ac",
+            ',',
+            "E",
+            '\u202f',
+            "\u221e",
+            ',',
+            "NaN",
+            '%',
+            '\u2030'
+        )
+    };
+
+    private final static int CHARS_LENGTH = 8 * Character.BYTES;
+
+    private final static int MAX_STRING_LENGTH = 0xffff;
+
+    // encode...........................................................................................................
+
+    /**
+     * Returns the encoded form of the given {@link DecimalNumberSymbols}.
+     */
+    public static byte[] encode(final DecimalNumberSymbols symbols) {
+        Objects.requireNonNull(symbols, "symbols");
+
+        final int wellKnown = wellKnownIndex(symbols);
+
+        final int length;
+
+        if (INLINE == wellKnown) {
+            length = 2 +
+                CHARS_LENGTH +
+                stringLength(symbols.currencySymbol(), DecimalNumberSymbols.CURRENCY_SYMBOL_LABEL) +
+                stringLength(symbols.exponentSymbol(), DecimalNumberSymbols.EXPONENT_SYMBOL_LABEL) +
+                stringLength(symbols.infinitySymbol(), DecimalNumberSymbols.INFINITY_SYMBOL_LABEL) +
+                stringLength(symbols.nanSymbol(), DecimalNumberSymbols.NAN_SYMBOL_LABEL);
+        } else {
+            length = 2;
+        }
+
+        final byte[] bytes = new byte[length];
+        bytes[0] = VERSION;
+        bytes[1] = (byte) wellKnown;
+
+        if (INLINE == wellKnown) {
+            int i = 2;
+            i = putChar(symbols.negativeSign(), bytes, i);
+            i = putChar(symbols.positiveSign(), bytes, i);
+            i = putChar(symbols.zeroDigit(), bytes, i);
+            i = putChar(symbols.decimalSeparator(), bytes, i);
+            i = putChar(symbols.groupSeparator(), bytes, i);
+            i = putChar(symbols.monetaryDecimalSeparator(), bytes, i);
+            i = putChar(symbols.percentSymbol(), bytes, i);
+            i = putChar(symbols.permillSymbol(), bytes, i);
+
+            i = putString(symbols.currencySymbol(), bytes, i);
+            i = putString(symbols.exponentSymbol(), bytes, i);
+            i = putString(symbols.infinitySymbol(), bytes, i);
+            putString(symbols.nanSymbol(), bytes, i);
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Writes the encoded {@link DecimalNumberSymbols} to the given {@link ByteBuffer}, failing with
+     * {@link java.nio.BufferOverflowException} if it has insufficient space.
+     */
+    public static void encode(final DecimalNumberSymbols symbols,
+                              final ByteBuffer buffer) {
+        buffer.put(
+            encode(symbols)
+        );
+    }
+
+    /**
+     * Writes the encoded {@link DecimalNumberSymbols} to the given {@link DataOutput}.
+     */
+    public static void encode(final DecimalNumberSymbols symbols,
+                              final DataOutput output) throws IOException {
+        output.write(
+            encode(symbols)
+        );
+    }
+
+    private static int wellKnownIndex(final DecimalNumberSymbols symbols) {
+        final DecimalNumberSymbols[] wellKnown = WELL_KNOWN;
+        final int count = wellKnown.length;
+
+        for (int i = 0; i < count; i++) {
+            if (wellKnown[i].equals(symbols)) {
+                return i + 1;
+            }
+        }
+        return INLINE;
+    }
+
+    /**
+     * Returns the number of bytes for the length and chars of the string, failing if it is too long.
+     */
+    private static int stringLength(final String string,
+                                    final String label) {
+        final int length = string.length();
+        if (length > MAX_STRING_LENGTH) {
+            throw new IllegalArgumentException("Invalid " + label + " length " + length + " > " + MAX_STRING_LENGTH);
+        }
+        return 2 + length * Character.BYTES;
+    }
+
+    private static int putChar(final char c,
+                               final byte[] bytes,
+                               final int offset) {
+        bytes[offset] = (byte) (c >> 8);
+        bytes[offset + 1] = (byte) c;
+        return offset + 2;
+    }
+
+    private static int putString(final String string,
+                                 final byte[] bytes,
+                                 final int offset) {
+        final int length = string.length();
+        int i = putChar((char) length, bytes, offset);
+
+        for (int j = 0; j < length; j++) {
+            i = putChar(string.charAt(j), bytes, i);
+        }
+        return i;
+    }
+
+    // decode...........................................................................................................
+
+    /**
+     * Decodes the given bytes, failing if any bytes remain.
+     */
+    public static DecimalNumberSymbols decode(final byte[] bytes) {
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        final DecimalNumberSymbols symbols = decode(buffer);
+
+        final int remaining = buffer.remaining();
+        if (remaining > 0) {
+            throw new IllegalArgumentException("Invalid encoding " + remaining + " extra bytes");
+        }
+
+        return symbols;
+    }
+
+    /**
+     * Reads an encoded {@link DecimalNumberSymbols} from the given {@link ByteBuffer}, advancing its position past
+     * the encoding. Fails with {@link java.nio.BufferUnderflowException} if the encoding is incomplete.
+     */
+    public static DecimalNumberSymbols decode(final ByteBuffer buffer) {
+        checkVersion(buffer.get());
+
+        DecimalNumberSymbols symbols = wellKnownSymbols(buffer.get());
+        if (null == symbols) {
+            final char negativeSign = getChar(buffer);
+            final char positiveSign = getChar(buffer);
+            final char zeroDigit = getChar(buffer);
+            final char decimalSeparator = getChar(buffer);
+            final char groupSeparator = getChar(buffer);
+            final char monetaryDecimalSeparator = getChar(buffer);
+            final char percentSymbol = getChar(buffer);
+            final char permillSymbol = getChar(buffer);
+
+            final String currencySymbol = getString(buffer);
+            final String exponentSymbol = getString(buffer);
+            final String infinitySymbol = getString(buffer);
+            final String nanSymbol = getString(buffer);
+
+            symbols = DecimalNumberSymbols.with(
+                negativeSign,
+                positiveSign,
+                zeroDigit,
+                currencySymbol,
+                decimalSeparator,
+                exponentSymbol,
+                groupSeparator,
+                infinitySymbol,
+                monetaryDecimalSeparator,
+                nanSymbol,
+                percentSymbol,
+                permillSymbol
+            );
+        }
+
+        return symbols;
+    }
+
+    private static char getChar(final ByteBuffer buffer) {
+        final int high = buffer.get() & 0xff;
+        return (char) (high << 8 | buffer.get() & 0xff);
+    }
+
+    private static String getString(final ByteBuffer buffer) {
+        final char[] chars = new char[getChar(buffer)];
+
+        final int length = chars.length;
+        for (int i = 0; i < length; i++) {
+            chars[i] = getChar(buffer);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Reads an encoded {@link DecimalNumberSymbols} from the given {@link DataInput}.
+     */
+    public static DecimalNumberSymbols decode(final DataInput input) throws IOException {
+        checkVersion(input.readByte());
+
+        DecimalNumberSymbols symbols = wellKnownSymbols(input.readByte());
+        if (null == symbols) {
+            final char negativeSign = input.readChar();
+            final char positiveSign = input.readChar();
+            final char zeroDigit = input.readChar();
+            final char decimalSeparator = input.readChar();
+            final char groupSeparator = input.readChar();
+            final char monetaryDecimalSeparator = input.readChar();
+            final char percentSymbol = input.readChar();
+            final char permillSymbol = input.readChar();
+
+            final String currencySymbol = readString(input);
+            final String exponentSymbol = readString(input);
+            final String infinitySymbol = readString(input);
+            final String nanSymbol = readString(input);
+
+            symbols = DecimalNumberSymbols.with(
+                negativeSign,
+                positiveSign,
+                zeroDigit,
+                currencySymbol,
+                decimalSeparator,
+                exponentSymbol,
+                groupSeparator,
+                infinitySymbol,
+                monetaryDecimalSeparator,
+                nanSymbol,
+                percentSymbol,
+                permillSymbol
+            );
+        }
+
+        return symbols;
+    }
+
+    private static String readString(final DataInput input) throws IOException {
+        final char[] chars = new char[input.readUnsignedShort()];
+
+        final int length = chars.length;
+        for (int i = 0; i < length; i++) {
+            chars[i] = input.readChar();
+        }
+        return new String(chars);
+    }
+
+    private static void checkVersion(final byte version) {
+        if (VERSION != version) {
+            throw new IllegalArgumentException("Unsupported version " + version);
+        }
+    }
+
+    /**
+     * Returns the well known {@link DecimalNumberSymbols} or null if the symbols follow.
+     */
+    private static DecimalNumberSymbols wellKnownSymbols(final byte index) {
+        DecimalNumberSymbols symbols = null;
+
+        if (INLINE != index) {
+            final int i = index - 1;
+            if (i < 0 || i >= WELL_KNOWN.length) {
+                throw new IllegalArgumentException("Unknown well known symbols " + index);
+            }
+            symbols = WELL_KNOWN[i];
+        }
+
+        return symbols;
+    }
+
+    /**
+     * Stop creation.
+     */
+    private DecimalNumberSymbolsBinaryCodec() {
+        throw new UnsupportedOperationException();
+    }
+}
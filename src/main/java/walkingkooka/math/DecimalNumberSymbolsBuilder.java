@@ -0,0 +1,260 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import walkingkooka.build.Builder;
+import walkingkooka.build.BuilderException;
+
+import java.util.Objects;
+
+/**
+ * A mutable {@link Builder} seeded from a {@link DecimalNumberSymbols}, which accepts any number of changes and
+ * validates them once in {@link #build()}, instead of creating and validating a {@link DecimalNumberSymbols} for
+ * each setter.
+ */
+public final class DecimalNumberSymbolsBuilder implements Builder<DecimalNumberSymbols> {
+
+    /**
+     * Creates a new {@link DecimalNumberSymbolsBuilder} initialized with the given {@link DecimalNumberSymbols}.
+     */
+    public static DecimalNumberSymbolsBuilder with(final DecimalNumberSymbols symbols) {
+        return new DecimalNumberSymbolsBuilder(
+            Objects.requireNonNull(symbols, "symbols")
+        );
+    }
+
+    private DecimalNumberSymbolsBuilder(final DecimalNumberSymbols symbols) {
+        super();
+
+        this.seed = symbols;
+        this.negativeSign = symbols.negativeSign();
+        this.positiveSign = symbols.positiveSign();
+        this.zeroDigit = symbols.zeroDigit();
+        this.currencySymbol = symbols.currencySymbol();
+        this.decimalSeparator = symbols.decimalSeparator();
+        this.exponentSymbol = symbols.exponentSymbol();
+        this.groupSeparator = symbols.groupSeparator();
+        this.infinitySymbol = symbols.infinitySymbol();
+        this.monetaryDecimalSeparator = symbols.monetaryDecimalSeparator();
+        this.nanSymbol = symbols.nanSymbol();
+        this.percentSymbol = symbols.percentSymbol();
+        this.permillSymbol = symbols.permillSymbol();
+    }
+
+    /**
+     * The original {@link DecimalNumberSymbols}, returned by {@link #build()} if nothing was changed.
+     */
+    private final DecimalNumberSymbols seed;
+
+    /**
+     * Sets the {@link DecimalNumberSymbols#negativeSign()}.
+     */
+    public DecimalNumberSymbolsBuilder negativeSign(final char negativeSign) {
+        this.negativeSign = negativeSign;
+        return this;
+    }
+
+    private char negativeSign;
+
+    /**
+     * Sets the {@link DecimalNumberSymbols#positiveSign()}.
+     */
+    public DecimalNumberSymbolsBuilder positiveSign(final char positiveSign) {
+        this.positiveSign = positiveSign;
+        return this;
+    }
+
+    private char positiveSign;
+
+    /**
+     * Sets the {@link DecimalNumberSymbols#zeroDigit()}.
+     */
+    public DecimalNumberSymbolsBuilder zeroDigit(final char zeroDigit) {
+        this.zeroDigit = zeroDigit;
+        return this;
+    }
+
+    private char zeroDigit;
+
+    /**
+     * Sets the {@link DecimalNumberSymbols#currencySymbol()}.
+     */
+    public DecimalNumberSymbolsBuilder currencySymbol(final String currencySymbol) {
+        this.currencySymbol = Objects.requireNonNull(currencySymbol, DecimalNumberSymbols.CURRENCY_SYMBOL_LABEL);
+        return this;
+    }
+
+    private String currencySymbol;
+
+    /**
+     * Sets the {@link DecimalNumberSymbols#decimalSeparator()}.
+     */
+    public DecimalNumberSymbolsBuilder decimalSeparator(final char decimalSeparator) {
+        this.decimalSeparator = decimalSeparator;
+        return this;
+    }
+
+    private char decimalSeparator;
+
+    /**
+     * Sets the {@link DecimalNumberSymbols#exponentSymbol()}.
+     */
+    public DecimalNumberSymbolsBuilder exponentSymbol(final String exponentSymbol) {
+        this.exponentSymbol = Objects.requireNonNull(exponentSymbol, DecimalNumberSymbols.EXPONENT_SYMBOL_LABEL);
+        return this;
+    }
+
+    private String exponentSymbol;
+
+    /**
+     * Sets the {@link DecimalNumberSymbols#groupSeparator()}.
+     */
+    public DecimalNumberSymbolsBuilder groupSeparator(final char groupSeparator) {
+        this.groupSeparator = groupSeparator;
+        return this;
+    }
+
+    private char groupSeparator;
+
+    /**
+     * Sets the {@link DecimalNumberSymbols#infinitySymbol()}.
+     */
+    public DecimalNumberSymbolsBuilder infinitySymbol(final String infinitySymbol) {
+        this.infinitySymbol = Objects.requireNonNull(infinitySymbol, DecimalNumberSymbols.INFINITY_SYMBOL_LABEL);
+        return this;
+    }
+
+    private String infinitySymbol;
+
+    /**
+     * Sets the {@link DecimalNumberSymbols#monetaryDecimalSeparator()}.
+     */
+    public DecimalNumberSymbolsBuilder monetaryDecimalSeparator(final char monetaryDecimalSeparator) {
+        this.monetaryDecimalSeparator = monetaryDecimalSeparator;
+        return this;
+    }
+
+    private char monetaryDecimalSeparator;
+
+    /**
+     * Sets the {@link DecimalNumberSymbols#nanSymbol()}.
+     */
+    public DecimalNumberSymbolsBuilder nanSymbol(final String nanSymbol) {
+        this.nanSymbol = Objects.requireNonNull(nanSymbol, DecimalNumberSymbols.NAN_SYMBOL_LABEL);
+        return this;
+    }
+
+    private String nanSymbol;
+
+    /**
+     * Sets the {@link DecimalNumberSymbols#percentSymbol()}.
+     */
+    public DecimalNumberSymbolsBuilder percentSymbol(final char percentSymbol) {
+        this.percentSymbol = percentSymbol;
+        return this;
+    }
+
+    private char percentSymbol;
+
+    /**
+     * Sets the {@link DecimalNumberSymbols#permillSymbol()}.
+     */
+    public DecimalNumberSymbolsBuilder permillSymbol(final char permillSymbol) {
+        this.permillSymbol = permillSymbol;
+        return this;
+    }
+
+    private char permillSymbol;
+
+    // Builder..........................................................................................................
+
+    /**
+     * Validates all symbols and returns a {@link DecimalNumberSymbols}, failing with a {@link BuilderException} with the
+     * message and cause of any exception thrown by
+     * {@link DecimalNumberSymbols#with(char, char, char, String, char, String, char, String, char, String, char, char)}.
+     * If no symbol was changed the original {@link DecimalNumberSymbols} is returned.
+     */
+    @Override
+    public DecimalNumberSymbols build() throws BuilderException {
+        final DecimalNumberSymbols seed = this.seed;
+
+        final DecimalNumberSymbols symbols;
+        if (this.isUnchanged(seed)) {
+            symbols = seed;
+        } else {
+            try {
+                symbols = DecimalNumberSymbols.with(
+                    this.negativeSign,
+                    this.positiveSign,
+                    this.zeroDigit,
+                    this.currencySymbol,
+                    this.decimalSeparator,
+                    this.exponentSymbol,
+                    this.groupSeparator,
+                    this.infinitySymbol,
+                    this.monetaryDecimalSeparator,
+                    this.nanSymbol,
+                    this.percentSymbol,
+                    this.permillSymbol
+                );
+            } catch (final IllegalArgumentException cause) {
+                throw new BuilderException(
+                    cause.getMessage(),
+                    cause
+                );
+            }
+        }
+
+        return symbols;
+    }
+
+    private boolean isUnchanged(final DecimalNumberSymbols seed) {
+        return this.negativeSign == seed.negativeSign() &&
+            this.positiveSign == seed.positiveSign() &&
+            this.zeroDigit == seed.zeroDigit() &&
+            this.currencySymbol.equals(seed.currencySymbol()) &&
+            this.decimalSeparator == seed.decimalSeparator() &&
+            this.exponentSymbol.equals(seed.exponentSymbol()) &&
+            this.groupSeparator == seed.groupSeparator() &&
+            this.infinitySymbol.equals(seed.infinitySymbol()) &&
+            this.monetaryDecimalSeparator == seed.monetaryDecimalSeparator() &&
+            this.nanSymbol.equals(seed.nanSymbol()) &&
+            this.percentSymbol == seed.percentSymbol() &&
+            this.permillSymbol == seed.permillSymbol();
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return new DecimalNumberSymbols(
+            this.negativeSign,
+            this.positiveSign,
+            this.zeroDigit,
+            this.currencySymbol,
+            this.decimalSeparator,
+            this.exponentSymbol,
+            this.groupSeparator,
+            this.infinitySymbol,
+            this.monetaryDecimalSeparator,
+            this.nanSymbol,
+            this.percentSymbol,
+            this.permillSymbol
+        ).toString();
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import java.text.DecimalFormatSymbols;
+import java.util.Objects;
+
+/**
+ * A bounded interning cache that returns the same {@link DecimalNumberSymbols} instance for equal symbols, so later
+ * {@link DecimalNumberSymbols#equals(Object)} tests are satisfied by identity. A hit skips the character and duplicate
+ * symbol validation performed by {@link DecimalNumberSymbols#with(char, char, char, String, char, String, char, String, char, String, char, char)},
+ * and a {@link #parse(String)} hit also skips parsing the csv text. Symbols and parsed text are held separately, each
+ * up to maxSize entries, and when full an entry not recently used is evicted. The cache is thread safe and hits do
+ * not lock.
+ */
+public final class DecimalNumberSymbolsCache {
+
+    /**
+     * Creates a new empty {@link DecimalNumberSymbolsCache} holding at most maxSize symbols and maxSize parsed texts.
+     */
+    public static DecimalNumberSymbolsCache with(final int maxSize) {
+        return new DecimalNumberSymbolsCache(
+            BoundedCache.with(maxSize),
+            BoundedCache.with(maxSize)
+        );
+    }
+
+    private DecimalNumberSymbolsCache(final BoundedCache<DecimalNumberSymbols, DecimalNumberSymbols> symbols,
+                                      final BoundedCache<String, DecimalNumberSymbols> texts) {
+        super();
+
+        this.symbols = symbols;
+        this.texts = texts;
+    }
+
+    /**
+     * Interning equivalent of {@link DecimalNumberSymbols#with(char, char, char, String, char, String, char, String, char, String, char, char)}.
+     */
+    public DecimalNumberSymbols with(final char negativeSign,
+                                     final char positiveSign,
+                                     final char zeroDigit,
+                                     final String currencySymbol,
+                                     final char decimalSeparator,
+                                     final String exponentSymbol,
+                                     final char groupSeparator,
+                                     final String infinitySymbol,
+                                     final char monetaryDecimalSeparator,
+                                     final String nanSymbol,
+                                     final char percentSymbol,
+                                     final char permillSymbol) {
+        return this.symbols.get(
+            new DecimalNumberSymbols(
+                negativeSign,
+                positiveSign,
+                zeroDigit,
+                currencySymbol,
+                decimalSeparator,
+                exponentSymbol,
+                groupSeparator,
+                infinitySymbol,
+                monetaryDecimalSeparator,
+                nanSymbol,
+                percentSymbol,
+                permillSymbol
+            ),
+            () -> DecimalNumberSymbols.with(
+                negativeSign,
+                positiveSign,
+                zeroDigit,
+                currencySymbol,
+                decimalSeparator,
+                exponentSymbol,
+                groupSeparator,
+                infinitySymbol,
+                monetaryDecimalSeparator,
+                nanSymbol,
+                percentSymbol,
+                permillSymbol
+            )
+        );
+    }
+
+    /**
+     * Interning equivalent of {@link DecimalNumberSymbols#fromDecimalFormatSymbols(char, DecimalFormatSymbols)}.
+     */
+    public DecimalNumberSymbols fromDecimalFormatSymbols(final char positiveSign,
+                                                         final DecimalFormatSymbols symbols) {
+        Objects.requireNonNull(symbols, "symbols");
+
+        return this.with(
+            symbols.getMinusSign(),
+            positiveSign,
+            symbols.getZeroDigit(),
+            symbols.getCurrencySymbol(),
+            symbols.getDecimalSeparator(),
+            symbols.getExponentSeparator(),
+            symbols.getGroupingSeparator(),
+            symbols.getInfinity(),
+            symbols.getMonetaryDecimalSeparator(),
+            symbols.getNaN(),
+            symbols.getPercent(),
+            symbols.getPerMill()
+        );
+    }
+
+    /**
+     * Interning equivalent of {@link DecimalNumberSymbols#parse(String)}. The text is also remembered, so repeated
+     * parsing of the same text returns the cached instance without parsing. Each call counts a single hit or miss.
+     */
+    public DecimalNumberSymbols parse(final String text) {
+        Objects.requireNonNull(text, "text");
+
+        return this.texts.get(
+            text,
+            () -> this.putIfAbsent(
+                DecimalNumberSymbols.parse(text)
+            )
+        );
+    }
+
+    /**
+     * Returns the cached instance equal to the given {@link DecimalNumberSymbols}, caching the given if none is present.
+     */
+    public DecimalNumberSymbols intern(final DecimalNumberSymbols symbols) {
+        Objects.requireNonNull(symbols, "symbols");
+
+        return this.symbols.get(
+            symbols,
+            () -> symbols
+        );
+    }
+
+    /**
+     * Interns without counting a hit or miss, used by {@link #parse(String)} which has already counted its lookup.
+     */
+    private DecimalNumberSymbols putIfAbsent(final DecimalNumberSymbols symbols) {
+        return this.symbols.putIfAbsent(
+            symbols,
+            symbols
+        );
+    }
+
+    private final BoundedCache<DecimalNumberSymbols, DecimalNumberSymbols> symbols;
+
+    private final BoundedCache<String, DecimalNumberSymbols> texts;
+
+    /**
+     * The maximum number of symbols held, which is also the maximum number of {@link #parse(String)} texts held.
+     */
+    public int maxSize() {
+        return this.symbols.maxSize();
+    }
+
+    /**
+     * The number of entries currently held, which includes any {@link #parse(String)} text.
+     */
+    public int size() {
+        return this.symbols.size() + this.texts.size();
+    }
+
+    // metrics..........................................................................................................
+
+    /**
+     * The number of lookups that returned a cached instance.
+     */
+    public long hitCount() {
+        return this.symbols.hitCount() + this.texts.hitCount();
+    }
+
+    /**
+     * The number of lookups that created or cached a new instance.
+     */
+    public long missCount() {
+        return this.symbols.missCount() + this.texts.missCount();
+    }
+
+    /**
+     * The number of entries removed to stay within {@link #maxSize()}.
+     */
+    public long evictionCount() {
+        return this.symbols.evictionCount() + this.texts.evictionCount();
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return "size=" + this.size() +
+            " maxSize=" + this.maxSize() +
+            " hitCount=" + this.hitCount() +
+            " missCount=" + this.missCount() +
+            " evictionCount=" + this.evictionCount();
+    }
+}
@@ -55,6 +55,11 @@ public class FakeNumberTypeVisitor extends NumberTypeVisitor {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    protected void visitFixedDecimal() {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     protected void visitFloat() {
         throw new UnsupportedOperationException();
@@ -58,6 +58,11 @@ public class FakeNumberVisitor extends NumberVisitor {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    protected void visit(final FixedDecimal number) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     protected void visit(final Float number) {
         throw new UnsupportedOperationException();
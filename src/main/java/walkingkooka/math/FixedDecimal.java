@@ -0,0 +1,460 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Objects;
+
+/**
+ * A decimal number held as an unscaled long and a scale between 0 and {@link #MAX_SCALE}, which avoids the
+ * allocation and arithmetic costs of {@link BigDecimal} for most money like values. Values that do not fit, such as the
+ * result of an overflowing operation, are held exactly as a {@link BigDecimal}.
+ * <br>
+ * Values, scales and rounding behave exactly like the equivalent {@link BigDecimal} operations, including
+ * {@link #equals(Object)} which like {@link BigDecimal#equals(Object)} considers 1.0 and 1.00 different.
+ */
+public final class FixedDecimal extends Number {
+
+    /**
+     * The largest scale held in the compact long form.
+     */
+    public final static int MAX_SCALE = 18;
+
+    /**
+     * 10 raised to the power of the index.
+     */
+    private final static long[] TEN_POWERS = tenPowers();
+
+    private static long[] tenPowers() {
+        final long[] powers = new long[MAX_SCALE + 1];
+
+        long power = 1;
+        for (int i = 0; i <= MAX_SCALE; i++) {
+            powers[i] = power;
+            power = power * 10;
+        }
+
+        return powers;
+    }
+
+    /**
+     * Zero with a scale of zero.
+     */
+    public final static FixedDecimal ZERO = new FixedDecimal(
+        0,
+        0,
+        null
+    );
+
+    /**
+     * Factory that creates a new {@link FixedDecimal} with the value unscaled * 10<sup>-scale</sup>.
+     */
+    public static FixedDecimal with(final long unscaled,
+                                    final int scale) {
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("Invalid scale " + scale + " not between 0 and " + MAX_SCALE);
+        }
+
+        return compact(
+            unscaled,
+            scale
+        );
+    }
+
+    /**
+     * Factory that creates a new {@link FixedDecimal} with the same value and scale as the given {@link BigDecimal}.
+     */
+    public static FixedDecimal with(final BigDecimal value) {
+        Objects.requireNonNull(value, "value");
+
+        final int scale = value.scale();
+
+        return scale >= 0 && scale <= MAX_SCALE && value.unscaledValue().bitLength() < 64 ?
+            compact(
+                value.unscaledValue().longValue(),
+                scale
+            ) :
+            new FixedDecimal(
+                0,
+                scale,
+                value
+            );
+    }
+
+    private static FixedDecimal compact(final long unscaled,
+                                        final int scale) {
+        return 0 == unscaled && 0 == scale ?
+            ZERO :
+            new FixedDecimal(
+                unscaled,
+                scale,
+                null
+            );
+    }
+
+    /**
+     * Private ctor use factory.
+     */
+    private FixedDecimal(final long unscaled,
+                         final int scale,
+                         final BigDecimal inflated) {
+        super();
+
+        this.unscaled = unscaled;
+        this.scale = scale;
+        this.inflated = inflated;
+    }
+
+    /**
+     * The scale, which is only outside 0 to {@link #MAX_SCALE} when this is not compact.
+     */
+    public int scale() {
+        return this.scale;
+    }
+
+    private final int scale;
+
+    /**
+     * Returns true if this value is held as an unscaled long.
+     */
+    public boolean isCompact() {
+        return null == this.inflated;
+    }
+
+    /**
+     * The unscaled value, only meaningful when {@link #isCompact()}.
+     */
+    private final long unscaled;
+
+    /**
+     * The value when it does not fit in a long with a scale between 0 and {@link #MAX_SCALE}, or null.
+     */
+    private final BigDecimal inflated;
+
+    /**
+     * Returns this value as a {@link BigDecimal} with the same scale.
+     */
+    public BigDecimal toBigDecimal() {
+        final BigDecimal inflated = this.inflated;
+        return null != inflated ?
+            inflated :
+            BigDecimal.valueOf(
+                this.unscaled,
+                this.scale
+            );
+    }
+
+    // arithmetic.......................................................................................................
+
+    /**
+     * Adds the given value, giving the same result as {@link BigDecimal#add(BigDecimal, MathContext)}.
+     */
+    public FixedDecimal add(final FixedDecimal value,
+                            final MathContext context) {
+        Objects.requireNonNull(value, "value");
+        Objects.requireNonNull(context, "context");
+
+        FixedDecimal result = null;
+
+        if (this.isCompact() && value.isCompact()) {
+            final int scale = Math.max(
+                this.scale,
+                value.scale
+            );
+            final long left = rescale(this.unscaled, scale - this.scale);
+            final long right = rescale(value.unscaled, scale - value.scale);
+
+            if (OVERFLOW != left && OVERFLOW != right) {
+                final long sum = left + right;
+
+                // overflow if both operands have a different sign to the sum
+                if (((left ^ sum) & (right ^ sum)) >= 0) {
+                    result = this.result(sum, scale, context);
+                }
+            }
+        }
+
+        return null != result ?
+            result :
+            with(
+                this.toBigDecimal()
+                    .add(
+                        value.toBigDecimal(),
+                        context
+                    )
+            );
+    }
+
+    /**
+     * Subtracts the given value, giving the same result as {@link BigDecimal#subtract(BigDecimal, MathContext)}.
+     */
+    public FixedDecimal subtract(final FixedDecimal value,
+                                 final MathContext context) {
+        Objects.requireNonNull(value, "value");
+        Objects.requireNonNull(context, "context");
+
+        FixedDecimal result = null;
+
+        if (this.isCompact() && value.isCompact()) {
+            final int scale = Math.max(
+                this.scale,
+                value.scale
+            );
+            final long left = rescale(this.unscaled, scale - this.scale);
+            final long right = rescale(value.unscaled, scale - value.scale);
+
+            if (OVERFLOW != left && OVERFLOW != right) {
+                final long difference = left - right;
+
+                // overflow if the operands have different signs and the result sign differs from the left
+                if (((left ^ right) & (left ^ difference)) >= 0) {
+                    result = this.result(difference, scale, context);
+                }
+            }
+        }
+
+        return null != result ?
+            result :
+            with(
+                this.toBigDecimal()
+                    .subtract(
+                        value.toBigDecimal(),
+                        context
+                    )
+            );
+    }
+
+    /**
+     * Multiplies by the given value, giving the same result as {@link BigDecimal#multiply(BigDecimal, MathContext)}.
+     */
+    public FixedDecimal multiply(final FixedDecimal value,
+                                 final MathContext context) {
+        Objects.requireNonNull(value, "value");
+        Objects.requireNonNull(context, "context");
+
+        FixedDecimal result = null;
+
+        if (this.isCompact() && value.isCompact()) {
+            final int scale = this.scale + value.scale;
+
+            if (scale <= MAX_SCALE) {
+                final long product = multiply(
+                    this.unscaled,
+                    value.unscaled
+                );
+                if (OVERFLOW != product) {
+                    result = this.result(product, scale, context);
+                }
+            }
+        }
+
+        return null != result ?
+            result :
+            with(
+                this.toBigDecimal()
+                    .multiply(
+                        value.toBigDecimal(),
+                        context
+                    )
+            );
+    }
+
+    /**
+     * Divides by the given value, giving the same result as {@link BigDecimal#divide(BigDecimal, MathContext)}.
+     * Only exact quotients whose scale would not be smaller than the divisor are computed without {@link BigDecimal}.
+     */
+    public FixedDecimal divide(final FixedDecimal value,
+                               final MathContext context) {
+        Objects.requireNonNull(value, "value");
+        Objects.requireNonNull(context, "context");
+
+        FixedDecimal result = null;
+
+        if (this.isCompact() && value.isCompact()) {
+            final long dividend = this.unscaled;
+            final long divisor = value.unscaled;
+            final int scale = this.scale - value.scale;
+
+            if (0 != divisor && scale >= 0 && 0 == dividend % divisor && !(Long.MIN_VALUE == dividend && -1 == divisor)) {
+                result = this.result(dividend / divisor, scale, context);
+            }
+        }
+
+        return null != result ?
+            result :
+            with(
+                this.toBigDecimal()
+                    .divide(
+                        value.toBigDecimal(),
+                        context
+                    )
+            );
+    }
+
+    /**
+     * Rounds this value, giving the same result as {@link BigDecimal#round(MathContext)}.
+     */
+    public FixedDecimal round(final MathContext context) {
+        Objects.requireNonNull(context, "context");
+
+        return this.isCompact() && fitsPrecision(this.unscaled, context) ?
+            this :
+            with(
+                this.toBigDecimal()
+                    .round(context)
+            );
+    }
+
+    /**
+     * Returns a {@link FixedDecimal} for the exact result if it does not require rounding, otherwise returns null.
+     */
+    private FixedDecimal result(final long unscaled,
+                                final int scale,
+                                final MathContext context) {
+        return fitsPrecision(unscaled, context) ?
+            this.isCompact() && unscaled == this.unscaled && scale == this.scale ?
+                this :
+                compact(unscaled, scale) :
+            null;
+    }
+
+    /**
+     * Tests if the unscaled value has no more digits than the precision of the {@link MathContext}.
+     */
+    private static boolean fitsPrecision(final long unscaled,
+                                         final MathContext context) {
+        final int precision = context.getPrecision();
+
+        // Long.MIN_VALUE has 19 digits just like Long.MAX_VALUE
+        return 0 == precision ||
+            precision > MAX_SCALE ||
+            Math.abs(Math.max(unscaled, -Long.MAX_VALUE)) < TEN_POWERS[precision];
+    }
+
+    /**
+     * Marks an overflowing result of {@link #rescale(long, int)} or {@link #multiply(long, long)}. A genuine result of
+     * Long.MIN_VALUE is also treated as an overflow and computed using {@link BigDecimal}.
+     */
+    private final static long OVERFLOW = Long.MIN_VALUE;
+
+    /**
+     * Multiplies the value by 10<sup>power</sup>, returning {@link #OVERFLOW} if the result does not fit.
+     */
+    private static long rescale(final long value,
+                                final int power) {
+        return 0 == power ?
+            value :
+            multiply(
+                value,
+                TEN_POWERS[power]
+            );
+    }
+
+    /**
+     * Multiplies two longs returning {@link #OVERFLOW} if the product does not fit.
+     */
+    private static long multiply(final long left,
+                                 final long right) {
+        final long product = left * right;
+
+        long result = product;
+
+        final long absLeft = Math.abs(left);
+        final long absRight = Math.abs(right);
+        if (((absLeft | absRight) >>> 31) != 0) {
+            if ((0 != right && product / right != left) || (Long.MIN_VALUE == left && -1 == right)) {
+                result = OVERFLOW;
+            }
+        }
+
+        return result;
+    }
+
+    // Number...........................................................................................................
+
+    @Override
+    public int intValue() {
+        return (int) this.longValue();
+    }
+
+    @Override
+    public long longValue() {
+        final BigDecimal inflated = this.inflated;
+        return null != inflated ?
+            inflated.longValue() :
+            this.unscaled / TEN_POWERS[this.scale];
+    }
+
+    @Override
+    public float floatValue() {
+        final long unscaled = this.unscaled;
+        final int scale = this.scale;
+
+        // both are exact floats so the single division is correctly rounded
+        return this.isCompact() && Math.abs(unscaled) < (1L << 24) && scale <= 10 ?
+            (float) unscaled / TEN_POWERS[scale] :
+            this.toBigDecimal()
+                .floatValue();
+    }
+
+    @Override
+    public double doubleValue() {
+        final long unscaled = this.unscaled;
+
+        // both are exact doubles so the single division is correctly rounded
+        return this.isCompact() && Math.abs(unscaled) < (1L << 53) ?
+            (double) unscaled / TEN_POWERS[this.scale] :
+            this.toBigDecimal()
+                .doubleValue();
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        final BigDecimal inflated = this.inflated;
+        return null != inflated ?
+            inflated.hashCode() :
+            31 * Long.hashCode(this.unscaled) + this.scale;
+    }
+
+    /**
+     * Because values are always compact when possible, two equal values always have the same form.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof FixedDecimal && this.equals0((FixedDecimal) other);
+    }
+
+    private boolean equals0(final FixedDecimal other) {
+        return this.unscaled == other.unscaled &&
+            this.scale == other.scale &&
+            Objects.equals(this.inflated, other.inflated);
+    }
+
+    @Override
+    public String toString() {
+        return this.toBigDecimal()
+            .toString();
+    }
+
+    private final static long serialVersionUID = 1L;
+}
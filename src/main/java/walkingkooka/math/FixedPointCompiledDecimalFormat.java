@@ -0,0 +1,575 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Objects;
+
+/**
+ * A {@link CompiledDecimalFormat} for patterns without an exponent, that analyzes a {@link DecimalFormat} once and then
+ * formats with straight line code, giving the same results as {@link DecimalFormat} without its locking and generic
+ * state machine.
+ * <br>
+ * Doubles below {@link #LARGE} are rounded from their {@link BigDecimal#valueOf(double)} digits, with ties resolved
+ * using the exact binary value. Larger doubles are formatted by a private {@link DecimalFormat}, because from JDK 19
+ * {@link Double#toString(double)} returns the shortest digits while {@link DecimalFormat} continues to use the older
+ * and sometimes longer digits, which differ in the integer digits of large values. Ties where every kept digit is zero,
+ * such as 0.0005 with 3 fraction digits, are also formatted by the {@link DecimalFormat}, because it rounds these using
+ * whether its own digits are exact rather than the binary value.
+ */
+final class FixedPointCompiledDecimalFormat extends CompiledDecimalFormat {
+
+    /**
+     * Returns true if the {@link DecimalFormat} can be replaced by a {@link FixedPointCompiledDecimalFormat}.
+     */
+    static boolean isSupported(final DecimalFormat decimalFormat) {
+        // only exponent patterns limit the maximum integer digits
+        return decimalFormat.getRoundingMode() != RoundingMode.UNNECESSARY &&
+            decimalFormat.getMultiplier() > 0 &&
+            decimalFormat.getMaximumIntegerDigits() == Integer.MAX_VALUE;
+    }
+
+    static FixedPointCompiledDecimalFormat with(final String pattern,
+                                               final DecimalFormat decimalFormat) {
+        if (false == isSupported(decimalFormat)) {
+            throw new IllegalArgumentException("Unsupported pattern " + pattern);
+        }
+
+        return new FixedPointCompiledDecimalFormat(
+            pattern,
+            decimalFormat
+        );
+    }
+
+    private FixedPointCompiledDecimalFormat(final String pattern,
+                                            final DecimalFormat decimalFormat) {
+        super(pattern);
+
+        final DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
+
+        this.positivePrefix = decimalFormat.getPositivePrefix();
+        this.positiveSuffix = decimalFormat.getPositiveSuffix();
+        this.negativePrefix = decimalFormat.getNegativePrefix();
+        this.negativeSuffix = decimalFormat.getNegativeSuffix();
+
+        this.minimumIntegerDigits = decimalFormat.getMinimumIntegerDigits();
+        this.minimumFractionDigits = decimalFormat.getMinimumFractionDigits();
+        this.maximumFractionDigits = decimalFormat.getMaximumFractionDigits();
+        this.decimalSeparatorAlwaysShown = decimalFormat.isDecimalSeparatorAlwaysShown();
+        this.groupingSize = decimalFormat.isGroupingUsed() ?
+            decimalFormat.getGroupingSize() :
+            0;
+        this.multiplier = decimalFormat.getMultiplier();
+        this.bigDecimalMultiplier = BigDecimal.valueOf(this.multiplier);
+        this.roundingMode = decimalFormat.getRoundingMode();
+        this.half = isHalf(this.roundingMode);
+        this.zero = BigDecimal.ZERO.setScale(this.maximumFractionDigits);
+
+        this.zeroDigit = symbols.getZeroDigit();
+        this.infinity = symbols.getInfinity();
+        this.nan = symbols.getNaN();
+
+        this.decimalFormat = DecimalFormatCompiledDecimalFormat.with(
+            pattern,
+            (DecimalFormat) decimalFormat.clone()
+        );
+
+        // currency patterns use monetary separators, which are found by formatting to support all JREs
+        final DecimalFormat probe = (DecimalFormat) decimalFormat.clone();
+        probe.setPositivePrefix("");
+        probe.setPositiveSuffix("");
+        probe.setMultiplier(1);
+        probe.setMinimumIntegerDigits(1);
+        probe.setMinimumFractionDigits(1);
+        probe.setMaximumFractionDigits(1);
+        probe.setGroupingUsed(true);
+        probe.setGroupingSize(1);
+
+        final String probed = probe.format(11.5); // 1,1.5
+        this.groupingSeparator = probed.charAt(1);
+        this.decimalSeparator = probed.charAt(3);
+    }
+
+    // format...........................................................................................................
+
+    @Override
+    public String format(final long value) {
+        final String text;
+
+        final int multiplier = this.multiplier;
+        final long multiplied = value * multiplier;
+
+        if (Long.MIN_VALUE == value ||
+            Long.MIN_VALUE == multiplied ||
+            1 != multiplier && multiplied / multiplier != value) {
+            // too big for the long path
+            text = this.formatMultiplied(
+                BigDecimal.valueOf(value)
+                    .multiply(this.bigDecimalMultiplier)
+            );
+        } else {
+            final boolean negative = multiplied < 0;
+            text = this.format(
+                negative,
+                negative ?
+                    -multiplied :
+                    multiplied,
+                0
+            );
+        }
+
+        return text;
+    }
+
+    @Override
+    public String format(final double value) {
+        final String text;
+
+        if (Double.isNaN(value)) {
+            text = this.nan;
+        } else {
+            // the sign is taken before rounding so -0.001 becomes -0.00 like DecimalFormat
+            final boolean negative = value < 0.0 || (value == 0.0 && 1 / value < 0.0);
+            final double multiplied = value * this.multiplier;
+
+            if (Double.isInfinite(multiplied)) {
+                text = negative ?
+                    this.negativePrefix + this.infinity + this.negativeSuffix :
+                    this.positivePrefix + this.infinity + this.positiveSuffix;
+            } else {
+                final double abs = Math.abs(multiplied);
+                if (abs >= LARGE) {
+                    text = this.decimalFormat.format(value);
+                } else {
+                    final long fast = this.fastRound(abs);
+
+                    text = fast >= 0 ?
+                        this.format(
+                            negative,
+                            fast,
+                            this.maximumFractionDigits
+                        ) :
+                        this.formatSlow(
+                            value,
+                            negative,
+                            abs
+                        );
+                }
+            }
+        }
+
+        return text;
+    }
+
+    /**
+     * Returns the unscaled value of a double that is exactly a number with at most {@link #maximumFractionDigits},
+     * when using a HALF rounding mode, otherwise returns -1.
+     * <br>
+     * When the unscaled value is below 2^50 the rounding interval of the double is narrower than a quarter of
+     * the last fraction digit, so any digits for the double round to the same unscaled value.
+     */
+    private long fastRound(final double abs) {
+        long unscaled = -1;
+
+        final int maximumFractionDigits = this.maximumFractionDigits;
+        if (this.half && maximumFractionDigits < DOUBLE_TEN_POWERS.length) {
+            final double power = DOUBLE_TEN_POWERS[maximumFractionDigits];
+            final double scaled = abs * power;
+
+            if (scaled < FAST_LIMIT) {
+                final long rounded = Math.round(scaled);
+                if (rounded / power == abs) {
+                    unscaled = rounded;
+                }
+            }
+        }
+
+        return unscaled;
+    }
+
+    private final static double FAST_LIMIT = 1L << 50;
+
+    /**
+     * Multiplied doubles at or above this magnitude are formatted by {@link #decimalFormat}.
+     */
+    private final static double LARGE = 1e13;
+
+    private final static double[] DOUBLE_TEN_POWERS = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private String formatSlow(final double value,
+                              final boolean negative,
+                              final double abs) {
+        final BigDecimal digits = BigDecimal.valueOf(abs);
+
+        return this.isZeroTie(digits) ?
+            this.decimalFormat.format(value) :
+            this.format(
+                negative,
+                this.isUnderflow(digits) ?
+                    this.zero :
+                    this.roundDouble(
+                        abs,
+                        digits,
+                        this.roundingMode(negative)
+                    )
+            );
+    }
+
+    /**
+     * Tests if the only significant digit is a 5 immediately after the last fraction digit, when using a HALF rounding
+     * mode.
+     */
+    private boolean isZeroTie(final BigDecimal digits) {
+        return this.half &&
+            isTie(digits, this.maximumFractionDigits) &&
+            digits.stripTrailingZeros()
+                .precision() == 1;
+    }
+
+    /**
+     * Rounds the shortest digits of a double, ties at the rounding position are resolved using the exact binary value.
+     */
+    private BigDecimal roundDouble(final double value,
+                                   final BigDecimal digits,
+                                   final RoundingMode mode) {
+        final int maximumFractionDigits = this.maximumFractionDigits;
+        RoundingMode roundingMode = mode;
+
+        if (this.half && isTie(digits, maximumFractionDigits)) {
+            final int compare = new BigDecimal(value)
+                .compareTo(digits);
+            if (compare > 0) {
+                roundingMode = RoundingMode.UP;
+            } else {
+                if (compare < 0) {
+                    roundingMode = RoundingMode.DOWN;
+                }
+            }
+        }
+
+        return digits.setScale(
+            maximumFractionDigits,
+            roundingMode
+        );
+    }
+
+    private static boolean isHalf(final RoundingMode roundingMode) {
+        return RoundingMode.HALF_UP == roundingMode ||
+            RoundingMode.HALF_DOWN == roundingMode ||
+            RoundingMode.HALF_EVEN == roundingMode;
+    }
+
+    /**
+     * Tests if the last digit is a 5 immediately after the rounding position.
+     */
+    private static boolean isTie(final BigDecimal digits,
+                                 final int maximumFractionDigits) {
+        final BigDecimal stripped = digits.stripTrailingZeros();
+        return stripped.scale() == maximumFractionDigits + 1 &&
+            stripped.unscaledValue()
+                .mod(BigInteger.TEN)
+                .intValue() == 5;
+    }
+
+    @Override
+    public String format(final BigDecimal value) {
+        Objects.requireNonNull(value, "value");
+
+        return this.formatMultiplied(
+            1 == this.multiplier ?
+                value :
+                value.multiply(this.bigDecimalMultiplier)
+        );
+    }
+
+    private String formatMultiplied(final BigDecimal value) {
+        final boolean negative = value.signum() < 0;
+        final BigDecimal abs = value.abs();
+
+        final BigDecimal rounded;
+        if (this.isUnderflow(abs)) {
+            rounded = this.zero;
+        } else {
+            rounded = this.isHalfDownTieWithTrailingZeros(abs) ?
+                BigDecimal.valueOf(1, this.maximumFractionDigits) :
+                abs.setScale(
+                    this.maximumFractionDigits,
+                    this.roundingMode(negative)
+                );
+        }
+
+        return this.format(
+            negative,
+            rounded
+        );
+    }
+
+    /**
+     * {@link DecimalFormat} rounds a HALF_DOWN tie up when the only significant digit is a 5 immediately after the
+     * last fraction digit, if the {@link BigDecimal} also has trailing zeros.
+     */
+    private boolean isHalfDownTieWithTrailingZeros(final BigDecimal abs) {
+        return RoundingMode.HALF_DOWN == this.roundingMode &&
+            abs.precision() > 1 &&
+            abs.precision() - abs.scale() == -this.maximumFractionDigits &&
+            abs.stripTrailingZeros()
+                .unscaledValue()
+                .intValue() == 5;
+    }
+
+    /**
+     * {@link DecimalFormat} formats values with the first significant digit more than one place after the last
+     * fraction digit as zero, even when rounding up.
+     */
+    private boolean isUnderflow(final BigDecimal abs) {
+        return abs.signum() != 0 &&
+            abs.precision() - abs.scale() < -this.maximumFractionDigits;
+    }
+
+    /**
+     * Returns the {@link RoundingMode} that gives the same result when rounding the absolute value.
+     */
+    private RoundingMode roundingMode(final boolean negative) {
+        RoundingMode roundingMode = this.roundingMode;
+
+        switch (roundingMode) {
+            case CEILING:
+                roundingMode = negative ?
+                    RoundingMode.DOWN :
+                    RoundingMode.UP;
+                break;
+            case FLOOR:
+                roundingMode = negative ?
+                    RoundingMode.UP :
+                    RoundingMode.DOWN;
+                break;
+            default:
+                break;
+        }
+
+        return roundingMode;
+    }
+
+    /**
+     * Formats a rounded positive {@link BigDecimal} with a scale of {@link #maximumFractionDigits}.
+     */
+    private String format(final boolean negative,
+                          final BigDecimal rounded) {
+        return rounded.precision() <= 18 ?
+            this.format(
+                negative,
+                rounded.unscaledValue()
+                    .longValue(),
+                rounded.scale()
+            ) :
+            this.format(
+                negative,
+                rounded.unscaledValue()
+                    .toString(),
+                rounded.scale()
+            );
+    }
+
+    /**
+     * Formats a positive unscaled long.
+     */
+    private String format(final boolean negative,
+                          final long unscaled,
+                          final int scale) {
+        final char[] digits = new char[19];
+
+        long value = unscaled;
+        int start = digits.length;
+        do {
+            digits[--start] = (char) ('0' + value % 10);
+            value = value / 10;
+        } while (value > 0);
+
+        return this.format(
+            negative,
+            digits,
+            start,
+            digits.length,
+            scale
+        );
+    }
+
+    private String format(final boolean negative,
+                          final String unscaled,
+                          final int scale) {
+        return this.format(
+            negative,
+            unscaled.toCharArray(),
+            0,
+            unscaled.length(),
+            scale
+        );
+    }
+
+    /**
+     * Lays out the ASCII digits between start and end, which are the unscaled value of a number with the given scale.
+     */
+    private String format(final boolean negative,
+                          final char[] digits,
+                          final int start,
+                          final int end,
+                          final int scale) {
+        final String prefix = negative ?
+            this.negativePrefix :
+            this.positivePrefix;
+        final String suffix = negative ?
+            this.negativeSuffix :
+            this.positiveSuffix;
+
+        final int count = end - start;
+
+        // integer digits without leading zeros
+        int integerDigits = count - scale;
+        int first = start;
+        while (integerDigits > 0 && '0' == digits[first]) {
+            integerDigits--;
+            first++;
+        }
+        if (integerDigits < 0) {
+            integerDigits = 0;
+        }
+        final int printedIntegerDigits = Math.max(
+            integerDigits,
+            this.minimumIntegerDigits
+        );
+
+        // fraction digits without trailing zeros, but at least minimumFractionDigits
+        int fractionDigits = scale;
+        while (fractionDigits > 0) {
+            final int index = end - scale + fractionDigits - 1;
+            if (index >= start && '0' != digits[index]) {
+                break;
+            }
+            fractionDigits--;
+        }
+        final int printedFractionDigits = Math.max(
+            fractionDigits,
+            this.minimumFractionDigits
+        );
+
+        final int groupingSize = this.groupingSize;
+        final char zeroDigit = this.zeroDigit;
+
+        final StringBuilder b = new StringBuilder(
+            prefix.length() +
+                printedIntegerDigits * 2 +
+                1 +
+                printedFractionDigits +
+                suffix.length()
+        );
+        b.append(prefix);
+
+        for (int i = 0; i < printedIntegerDigits; i++) {
+            if (i > 0 && groupingSize > 0 && 0 == (printedIntegerDigits - i) % groupingSize) {
+                b.append(this.groupingSeparator);
+            }
+
+            // the digit for power of ten printedIntegerDigits - 1 - i
+            final int index = end - scale - printedIntegerDigits + i;
+            b.append(
+                (char) (zeroDigit + (index >= first ? digits[index] - '0' : 0))
+            );
+        }
+
+        // always print at least one digit
+        if (0 == printedIntegerDigits && 0 == printedFractionDigits) {
+            b.append(zeroDigit);
+        }
+
+        if (printedFractionDigits > 0 || this.decimalSeparatorAlwaysShown) {
+            b.append(this.decimalSeparator);
+        }
+
+        for (int i = 0; i < printedFractionDigits; i++) {
+            final int index = end - scale + i;
+            b.append(
+                (char) (zeroDigit + (i < scale && index >= start ? digits[index] - '0' : 0))
+            );
+        }
+
+        b.append(suffix);
+        return b.toString();
+    }
+
+    // properties.......................................................................................................
+
+    private final String positivePrefix;
+
+    private final String positiveSuffix;
+
+    private final String negativePrefix;
+
+    private final String negativeSuffix;
+
+    private final int minimumIntegerDigits;
+
+    private final int minimumFractionDigits;
+
+    private final int maximumFractionDigits;
+
+    private final boolean decimalSeparatorAlwaysShown;
+
+    /**
+     * Zero when grouping is not used.
+     */
+    private final int groupingSize;
+
+    private final int multiplier;
+
+    private final BigDecimal bigDecimalMultiplier;
+
+    private final RoundingMode roundingMode;
+
+    /**
+     * True when the {@link #roundingMode} is one of the HALF modes.
+     */
+    private final boolean half;
+
+    /**
+     * Zero with a scale of {@link #maximumFractionDigits}.
+     */
+    private final BigDecimal zero;
+
+    private final char zeroDigit;
+
+    private final char groupingSeparator;
+
+    private final char decimalSeparator;
+
+    private final String infinity;
+
+    private final String nan;
+
+    /**
+     * Formats doubles at or above {@link #LARGE} and ties where every kept digit is zero, giving the same results as
+     * {@link DecimalFormat}.
+     */
+    private final DecimalFormatCompiledDecimalFormat decimalFormat;
+}
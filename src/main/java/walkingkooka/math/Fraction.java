@@ -17,13 +17,37 @@
 
 package walkingkooka.math;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
 import java.util.Objects;
 
 /**
  * A fraction holds a numerator and non zero numerator.
+ * <br>
+ * Fractions whose numerator and denominator both fit in a long are held and computed using longs, and only promoted
+ * to {@link BigInteger} when an operation overflows. Results are not reduced after every operation, only when either
+ * part grows beyond {@link #REDUCE_BIT_LENGTH} bits or {@link #reduce()} is called. Because of this
+ * {@link #equals(Object)} compares the numerator and denominator, 1/2 and 2/4 are not equal but
+ * {@link #compareTo(Fraction)} returns zero.
  */
-public final class Fraction {
+public final class Fraction implements Comparable<Fraction> {
+
+    /**
+     * Results of operations with a numerator or denominator longer than this number of bits are reduced.
+     */
+    final static int REDUCE_BIT_LENGTH = 128;
+
+    /**
+     * Factory that creates a new {@link Fraction}
+     */
+    public static Fraction with(final long numerator, final long denominator) {
+        if (0 == denominator) {
+            throw new IllegalArgumentException("Denominator must not be zero");
+        }
+
+        return new Fraction(numerator, denominator, null, null);
+    }
 
     /**
      * Factory that creates a new {@link Fraction}
@@ -35,36 +59,412 @@ public final class Fraction {
             throw new IllegalArgumentException("Denominator must not be zero");
         }
 
-        return new Fraction(numerator, denominator);
+        return withBigInteger(numerator, denominator);
+    }
+
+    /**
+     * Creates a {@link Fraction} using longs if both parts fit.
+     */
+    private static Fraction withBigInteger(final BigInteger numerator, final BigInteger denominator) {
+        return numerator.bitLength() < 64 && denominator.bitLength() < 64 ?
+            new Fraction(numerator.longValue(), denominator.longValue(), null, null) :
+            new Fraction(0, 0, numerator, denominator);
     }
 
     /**
      * Private ctor use factory.
      */
-    private Fraction(final BigInteger numerator, final BigInteger denominator) {
+    private Fraction(final long numeratorLong,
+                     final long denominatorLong,
+                     final BigInteger numerator,
+                     final BigInteger denominator) {
+        this.numeratorLong = numeratorLong;
+        this.denominatorLong = denominatorLong;
         this.numerator = numerator;
         this.denominator = denominator;
     }
 
     public BigInteger numerator() {
-        return this.numerator;
+        final BigInteger numerator = this.numerator;
+        return null != numerator ?
+            numerator :
+            BigInteger.valueOf(this.numeratorLong);
     }
 
+    private final long numeratorLong;
+
+    /**
+     * The numerator when this fraction does not fit in longs, otherwise null.
+     */
     private final BigInteger numerator;
 
     public BigInteger denominator() {
-        return this.denominator;
+        final BigInteger denominator = this.denominator;
+        return null != denominator ?
+            denominator :
+            BigInteger.valueOf(this.denominatorLong);
     }
 
+    private final long denominatorLong;
+
+    /**
+     * The denominator when this fraction does not fit in longs, otherwise null.
+     */
     private final BigInteger denominator;
 
+    /**
+     * Returns true if the numerator and denominator are held as longs.
+     */
+    boolean isLong() {
+        return null == this.numerator;
+    }
+
+    // arithmetic.......................................................................................................
+
+    /**
+     * Adds the given {@link Fraction}.
+     */
+    public Fraction add(final Fraction value) {
+        Objects.requireNonNull(value, "value");
+
+        Fraction result = null;
+
+        if (this.isLong() && value.isLong()) {
+            final long a = this.numeratorLong;
+            final long b = this.denominatorLong;
+            final long c = value.numeratorLong;
+            final long d = value.denominatorLong;
+
+            try {
+                result = b == d ?
+                    with(Math.addExact(a, c), b) :
+                    with(
+                        Math.addExact(
+                            Math.multiplyExact(a, d),
+                            Math.multiplyExact(c, b)
+                        ),
+                        Math.multiplyExact(b, d)
+                    );
+            } catch (final ArithmeticException overflow) {
+                // computed below using BigInteger
+            }
+        }
+
+        if (null == result) {
+            final BigInteger a = this.numerator();
+            final BigInteger b = this.denominator();
+            final BigInteger c = value.numerator();
+            final BigInteger d = value.denominator();
+
+            result = b.equals(d) ?
+                result(a.add(c), b) :
+                result(
+                    a.multiply(d)
+                        .add(c.multiply(b)),
+                    b.multiply(d)
+                );
+        }
+
+        return result;
+    }
+
+    /**
+     * Subtracts the given {@link Fraction}.
+     */
+    public Fraction subtract(final Fraction value) {
+        Objects.requireNonNull(value, "value");
+
+        Fraction result = null;
+
+        if (this.isLong() && value.isLong()) {
+            final long a = this.numeratorLong;
+            final long b = this.denominatorLong;
+            final long c = value.numeratorLong;
+            final long d = value.denominatorLong;
+
+            try {
+                result = b == d ?
+                    with(Math.subtractExact(a, c), b) :
+                    with(
+                        Math.subtractExact(
+                            Math.multiplyExact(a, d),
+                            Math.multiplyExact(c, b)
+                        ),
+                        Math.multiplyExact(b, d)
+                    );
+            } catch (final ArithmeticException overflow) {
+                // computed below using BigInteger
+            }
+        }
+
+        if (null == result) {
+            final BigInteger a = this.numerator();
+            final BigInteger b = this.denominator();
+            final BigInteger c = value.numerator();
+            final BigInteger d = value.denominator();
+
+            result = b.equals(d) ?
+                result(a.subtract(c), b) :
+                result(
+                    a.multiply(d)
+                        .subtract(c.multiply(b)),
+                    b.multiply(d)
+                );
+        }
+
+        return result;
+    }
+
+    /**
+     * Multiplies by the given {@link Fraction}.
+     */
+    public Fraction multiply(final Fraction value) {
+        Objects.requireNonNull(value, "value");
+
+        Fraction result = null;
+
+        if (this.isLong() && value.isLong()) {
+            try {
+                result = with(
+                    Math.multiplyExact(this.numeratorLong, value.numeratorLong),
+                    Math.multiplyExact(this.denominatorLong, value.denominatorLong)
+                );
+            } catch (final ArithmeticException overflow) {
+                // computed below using BigInteger
+            }
+        }
+
+        return null != result ?
+            result :
+            result(
+                this.numerator()
+                    .multiply(value.numerator()),
+                this.denominator()
+                    .multiply(value.denominator())
+            );
+    }
+
+    /**
+     * Divides by the given {@link Fraction}, failing with an {@link ArithmeticException} if it is zero. A negative
+     * divisor negates the numerator rather than leaving a negative denominator.
+     */
+    public Fraction divide(final Fraction value) {
+        Objects.requireNonNull(value, "value");
+
+        if (value.signum() == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+
+        Fraction result = null;
+
+        if (this.isLong() && value.isLong()) {
+            final long numerator = this.numeratorLong;
+            final long denominator = this.denominatorLong;
+            long c = value.numeratorLong;
+            long d = value.denominatorLong;
+
+            try {
+                if (c < 0) {
+                    c = Math.negateExact(c);
+                    d = Math.negateExact(d);
+                }
+
+                result = with(
+                    Math.multiplyExact(numerator, d),
+                    Math.multiplyExact(denominator, c)
+                );
+            } catch (final ArithmeticException overflow) {
+                // computed below using BigInteger
+            }
+        }
+
+        if (null == result) {
+            BigInteger c = value.numerator();
+            BigInteger d = value.denominator();
+
+            if (c.signum() < 0) {
+                c = c.negate();
+                d = d.negate();
+            }
+
+            result = result(
+                this.numerator()
+                    .multiply(d),
+                this.denominator()
+                    .multiply(c)
+            );
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates the {@link Fraction} for the result of an operation, reducing it first if either part has grown
+     * beyond {@link #REDUCE_BIT_LENGTH} bits.
+     */
+    private static Fraction result(final BigInteger numerator,
+                                   final BigInteger denominator) {
+        return Math.max(numerator.bitLength(), denominator.bitLength()) > REDUCE_BIT_LENGTH ?
+            reduce(numerator, denominator) :
+            withBigInteger(numerator, denominator);
+    }
+
+    /**
+     * Returns this fraction in its lowest terms with a positive denominator.
+     */
+    public Fraction reduce() {
+        Fraction reduced = null;
+
+        if (this.isLong()) {
+            long numerator = this.numeratorLong;
+            long denominator = this.denominatorLong;
+
+            // the absolute value of Long.MIN_VALUE does not fit in a long
+            if (Long.MIN_VALUE != numerator && Long.MIN_VALUE != denominator) {
+                long gcd = gcd(
+                    Math.abs(numerator),
+                    Math.abs(denominator)
+                );
+                if (denominator < 0) {
+                    gcd = -gcd;
+                }
+
+                reduced = 1 == gcd ?
+                    this :
+                    with(
+                        numerator / gcd,
+                        denominator / gcd
+                    );
+            }
+        }
+
+        return null != reduced ?
+            reduced :
+            reduce(
+                this.numerator(),
+                this.denominator()
+            );
+    }
+
+    private static Fraction reduce(final BigInteger numerator,
+                                   final BigInteger denominator) {
+        BigInteger gcd = numerator.gcd(denominator);
+        if (denominator.signum() < 0) {
+            gcd = gcd.negate();
+        }
+
+        return withBigInteger(
+            numerator.divide(gcd),
+            denominator.divide(gcd)
+        );
+    }
+
+    /**
+     * Euclid's algorithm for two non negative longs, where the denominator is never zero.
+     */
+    private static long gcd(final long left,
+                            final long right) {
+        long a = left;
+        long b = right;
+
+        while (0 != b) {
+            final long remainder = a % b;
+            a = b;
+            b = remainder;
+        }
+
+        return a;
+    }
+
+    /**
+     * Returns -1, 0 or 1 as this fraction is negative, zero or positive.
+     */
+    public int signum() {
+        return this.isLong() ?
+            Long.signum(this.numeratorLong) * Long.signum(this.denominatorLong) :
+            this.numerator.signum() * this.denominator.signum();
+    }
+
+    /**
+     * Returns the value of this fraction as a {@link BigDecimal} rounded using the given {@link MathContext}. Like
+     * {@link BigDecimal#divide(BigDecimal, MathContext)} an {@link ArithmeticException} is thrown if the context has
+     * no precision and the decimal does not terminate.
+     */
+    public BigDecimal toBigDecimal(final MathContext context) {
+        Objects.requireNonNull(context, "context");
+
+        return this.isLong() ?
+            BigDecimal.valueOf(this.numeratorLong)
+                .divide(
+                    BigDecimal.valueOf(this.denominatorLong),
+                    context
+                ) :
+            new BigDecimal(this.numerator)
+                .divide(
+                    new BigDecimal(this.denominator),
+                    context
+                );
+    }
+
+    // Comparable.......................................................................................................
+
+    /**
+     * Compares the values of the two fractions, unlike {@link #equals(Object)} 1/2 and 2/4 compare as equal.
+     */
+    @Override
+    public int compareTo(final Fraction other) {
+        final int compare = this.isLong() && other.isLong() ?
+            this.compareLong(other) :
+            this.compareBigInteger(other);
+
+        // cross multiplying by a negative denominator reverses the order
+        return this.denominatorSignum() * other.denominatorSignum() < 0 ?
+            -compare :
+            compare;
+    }
+
+    private int compareLong(final Fraction other) {
+        int compare;
+
+        try {
+            compare = Long.compare(
+                Math.multiplyExact(this.numeratorLong, other.denominatorLong),
+                Math.multiplyExact(other.numeratorLong, this.denominatorLong)
+            );
+        } catch (final ArithmeticException overflow) {
+            compare = this.compareBigInteger(other);
+        }
+
+        return compare;
+    }
+
+    private int compareBigInteger(final Fraction other) {
+        return this.numerator()
+            .multiply(other.denominator())
+            .compareTo(
+                other.numerator()
+                    .multiply(this.denominator())
+            );
+    }
+
+    private int denominatorSignum() {
+        return this.isLong() ?
+            Long.signum(this.denominatorLong) :
+            this.denominator.signum();
+    }
+
     // Object...........................................................................................................
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.numerator, this.denominator);
+        return this.isLong() ?
+            31 * Long.hashCode(this.numeratorLong) + Long.hashCode(this.denominatorLong) :
+            Objects.hash(this.numerator, this.denominator);
     }
 
+    /**
+     * Because fractions are held as longs whenever both parts fit, two equal fractions always have the same form.
+     */
     @Override
     public boolean equals(final Object other) {
         return (this == other) || ((other instanceof Fraction)
@@ -72,12 +472,16 @@ public final class Fraction {
     }
 
     private boolean equals0(final Fraction other) {
-        return this.numerator.equals(other.numerator) &&
-            this.denominator.equals(other.denominator);
+        return this.numeratorLong == other.numeratorLong &&
+            this.denominatorLong == other.denominatorLong &&
+            Objects.equals(this.numerator, other.numerator) &&
+            Objects.equals(this.denominator, other.denominator);
     }
 
     @Override
     public String toString() {
-        return this.numerator + "/" + this.denominator;
+        return this.isLong() ?
+            this.numeratorLong + "/" + this.denominatorLong :
+            this.numerator + "/" + this.denominator;
     }
 }
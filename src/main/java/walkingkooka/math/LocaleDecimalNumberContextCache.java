@@ -0,0 +1,149 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import java.math.MathContext;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Memoizes a {@link DecimalNumberSymbols} for each {@link Locale}, and a {@link DecimalNumberContext} for each
+ * {@link Locale} and well known {@link MathContext}, avoiding the locale provider lookup performed by
+ * {@link DecimalFormatSymbols#getInstance(Locale)}. Lookups of existing entries do not lock.
+ * <br>
+ * Only contexts with a {@link MathContext} equal to {@link MathContext#DECIMAL32}, {@link MathContext#DECIMAL64},
+ * {@link MathContext#DECIMAL128} or {@link MathContext#UNLIMITED} are memoized, others are created each time so
+ * arbitrary caller supplied {@link MathContext} do not grow the cache forever.
+ */
+final class LocaleDecimalNumberContextCache {
+
+    /**
+     * The positive sign, which is not available from {@link DecimalFormatSymbols}.
+     */
+    final static char POSITIVE_SIGN = '+';
+
+    /**
+     * Returns the {@link DecimalNumberContext} for the given {@link Locale} and {@link MathContext}, creating it if necessary.
+     */
+    static DecimalNumberContext decimalNumberContext(final Locale locale,
+                                                     final MathContext mathContext) {
+        Objects.requireNonNull(locale, "locale");
+        Objects.requireNonNull(mathContext, "mathContext");
+
+        final int index = wellKnownIndex(mathContext);
+
+        final DecimalNumberContext context;
+        if (index < 0) {
+            context = create(
+                locale,
+                mathContext
+            );
+        } else {
+            final ConcurrentHashMap<Locale, DecimalNumberContext> localeToContext = CONTEXTS[index];
+            final DecimalNumberContext cached = localeToContext.get(locale);
+
+            context = null != cached ?
+                cached :
+                localeToContext.computeIfAbsent(
+                    locale,
+                    (l) -> create(
+                        l,
+                        WELL_KNOWN[index]
+                    )
+                );
+        }
+
+        return context;
+    }
+
+    /**
+     * Returns the index of the equal {@link MathContext} in {@link #WELL_KNOWN} or -1.
+     */
+    private static int wellKnownIndex(final MathContext mathContext) {
+        int index = -1;
+
+        final MathContext[] wellKnown = WELL_KNOWN;
+        for (int i = 0; i < wellKnown.length; i++) {
+            if (wellKnown[i].equals(mathContext)) {
+                index = i;
+                break;
+            }
+        }
+
+        return index;
+    }
+
+    private static DecimalNumberContext create(final Locale locale,
+                                               final MathContext mathContext) {
+        return BasicDecimalNumberContext.with(
+            DecimalNumberContext.DEFAULT_NUMBER_DIGIT_COUNT,
+            decimalNumberSymbols(locale),
+            locale,
+            mathContext
+        );
+    }
+
+    private final static MathContext[] WELL_KNOWN = {
+        MathContext.DECIMAL32,
+        MathContext.DECIMAL64,
+        MathContext.DECIMAL128,
+        MathContext.UNLIMITED
+    };
+
+    /**
+     * A {@link Locale} to {@link DecimalNumberContext} map for each of the {@link #WELL_KNOWN} {@link MathContext}.
+     */
+    @SuppressWarnings("unchecked")
+    private final static ConcurrentHashMap<Locale, DecimalNumberContext>[] CONTEXTS = new ConcurrentHashMap[]{
+        new ConcurrentHashMap<>(),
+        new ConcurrentHashMap<>(),
+        new ConcurrentHashMap<>(),
+        new ConcurrentHashMap<>()
+    };
+
+    /**
+     * Returns the {@link DecimalNumberSymbols} for the given {@link Locale}, creating it if necessary.
+     */
+    static DecimalNumberSymbols decimalNumberSymbols(final Locale locale) {
+        Objects.requireNonNull(locale, "locale");
+
+        DecimalNumberSymbols symbols = SYMBOLS.get(locale);
+        if (null == symbols) {
+            symbols = SYMBOLS.computeIfAbsent(
+                locale,
+                (l) -> DecimalNumberSymbols.fromDecimalFormatSymbols(
+                    POSITIVE_SIGN,
+                    DecimalFormatSymbols.getInstance(l)
+                )
+            );
+        }
+
+        return symbols;
+    }
+
+    private final static ConcurrentHashMap<Locale, DecimalNumberSymbols> SYMBOLS = new ConcurrentHashMap<>();
+
+    /**
+     * Stop creation.
+     */
+    private LocaleDecimalNumberContextCache() {
+        throw new UnsupportedOperationException();
+    }
+}
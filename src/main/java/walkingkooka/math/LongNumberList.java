@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import java.util.Arrays;
+
+/**
+ * A {@link NumberList} holding only {@link Long} values in a <code>long[]</code>. Values are boxed only when fetched
+ * by {@link #get(int)}.
+ */
+final class LongNumberList extends NumberList {
+
+    LongNumberList(final long[] values) {
+        super();
+        this.values = values;
+    }
+
+    @Override
+    public Long get(final int index) {
+        return this.values[index];
+    }
+
+    @Override
+    public int size() {
+        return this.values.length;
+    }
+
+    private final long[] values;
+
+    // aggregates.......................................................................................................
+
+    @Override
+    NumberListSumNumberVisitor sum(final int from,
+                                   final int to) {
+        final NumberListSumNumberVisitor visitor = new NumberListSumNumberVisitor();
+        final long[] values = this.values;
+
+        for (int i = from; i < to; i++) {
+            visitor.add(values[i]);
+        }
+
+        return visitor;
+    }
+
+    @Override
+    Number minOrMax(final int from,
+                    final int to,
+                    final boolean max) {
+        final long[] values = this.values;
+        long result = values[from];
+
+        for (int i = from + 1; i < to; i++) {
+            final long value = values[i];
+            if (max ? value > result : value < result) {
+                result = value;
+            }
+        }
+
+        return result;
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (final long value : this.values) {
+            hashCode = 31 * hashCode + Long.hashCode(value);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            (other instanceof LongNumberList ?
+                this.equals0((LongNumberList) other) :
+                super.equals(other));
+    }
+
+    private boolean equals0(final LongNumberList other) {
+        return Arrays.equals(
+            this.values,
+            other.values
+        );
+    }
+}
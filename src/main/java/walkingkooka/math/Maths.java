@@ -36,7 +36,7 @@ public final class Maths implements PublicStaticHelper {
     }
 
     /**
-     * Returns true if the given {@link Class type} is a JDK Number type and not a custom type.
+     * Returns true if the given {@link Class type} is a JDK Number type or {@link FixedDecimal} and not a custom type.
      * These are the same types supported by {@link NumberVisitor} and its visit methods.
      */
     public static boolean isNumberClass(final Class<?> type) {
@@ -44,6 +44,7 @@ public final class Maths implements PublicStaticHelper {
             type == BigInteger.class ||
             type == Byte.class ||
             type == Double.class ||
+            type == FixedDecimal.class ||
             type == Float.class ||
             type == Integer.class ||
             type == Long.class ||
@@ -51,7 +52,11 @@ public final class Maths implements PublicStaticHelper {
     }
 
     /**
-     * Rounds the given double using the provided {@link RoundingMode}. Note NAN or INIFINITE values are returned as is.
+     * Rounds the given double using the provided {@link RoundingMode}, giving the same results as
+     * {@code new BigDecimal(value).setScale(0, roundingMode).doubleValue()} across the whole double range.
+     * Unlike {@link BigDecimal} the result always keeps the sign of the value like {@link Math#ceil(double)}, so a
+     * negative value rounding to zero, such as {@code -0.3} with {@link RoundingMode#DOWN}, and {@code -0.0} itself
+     * both return {@code -0.0}. Note NaN or infinite values are returned as is.
      */
     public static double round(final double value,
                                final RoundingMode roundingMode) {
@@ -62,75 +67,608 @@ public final class Maths implements PublicStaticHelper {
             value;
     }
 
+    /**
+     * Doubles with this magnitude or larger are all integers, and are returned as is, which also avoids the limits of
+     * long.
+     */
+    private final static double INTEGRAL = 0x1p52;
+
+    /**
+     * Rounds the absolute value below {@link #INTEGRAL} where the fraction is exact, copying the sign afterwards,
+     * which keeps negative zero like {@link Math#ceil(double)}.
+     */
     private static double roundFinite(final double value,
                                       final RoundingMode roundingMode) {
-        double rounded = value;
+        final double abs = Math.abs(value);
+        final double rounded;
 
-        switch (roundingMode) {
-            case UP:
-                rounded = Math.ceil(
-                    Math.abs(value)
+        if (abs >= INTEGRAL) {
+            rounded = value;
+        } else {
+            final boolean negative = value < 0;
+            final double floor = Math.floor(abs);
+            final double fraction = abs - floor;
+            final double roundedAbs;
+
+            switch (roundingMode) {
+                case UP:
+                    roundedAbs = Math.ceil(abs);
+                    break;
+                case DOWN:
+                    roundedAbs = floor;
+                    break;
+                case CEILING:
+                    roundedAbs = negative ?
+                        floor :
+                        Math.ceil(abs);
+                    break;
+                case FLOOR:
+                    roundedAbs = negative ?
+                        Math.ceil(abs) :
+                        floor;
+                    break;
+                case HALF_UP:
+                    roundedAbs = fraction >= 0.5 ?
+                        floor + 1 :
+                        floor;
+                    break;
+                case HALF_DOWN:
+                    roundedAbs = fraction > 0.5 ?
+                        floor + 1 :
+                        floor;
+                    break;
+                case HALF_EVEN:
+                    roundedAbs = Math.rint(abs);
+                    break;
+                case UNNECESSARY:
+                    if (0 != fraction) {
+                        throw new IllegalArgumentException("Invalid value " + value);
+                    }
+                    roundedAbs = abs;
+                    break;
+                default:
+                    roundedAbs = NeverError.unhandledEnum(roundingMode, RoundingMode.values());
+            }
+
+            rounded = Math.copySign(
+                roundedAbs,
+                value
+            );
+        }
+
+        return rounded;
+    }
+
+    /**
+     * Rounds the values in place to the given number of decimal places, giving the same results as
+     * {@code BigDecimal.valueOf(value).setScale(scale, roundingMode).doubleValue()}. Note NAN or INIFINITE values are
+     * left as is.
+     */
+    public static void round(final double[] values,
+                             final int scale,
+                             final RoundingMode roundingMode) {
+        Objects.requireNonNull(values, "values");
+
+        round(
+            values,
+            0,
+            values,
+            0,
+            values.length,
+            scale,
+            roundingMode
+        );
+    }
+
+    /**
+     * Rounds length values starting at fromIndex to the given number of decimal places, writing the results starting
+     * at toIndex, giving the same results as {@code BigDecimal.valueOf(value).setScale(scale, roundingMode).doubleValue()}.
+     * Note NAN or INIFINITE values are copied as is. The same array and index may be used to round in place.
+     * <br>
+     * The rounding mode is resolved once, and values are scaled and rounded by a loop without branches that the JIT
+     * may vectorize. Only the values close to a rounding boundary, except those already with the scale, along with
+     * very large, NAN or INIFINITE values are rounded one at a time using {@link #round(double, int, RoundingMode)}.
+     */
+    public static void round(final double[] from,
+                             final int fromIndex,
+                             final double[] to,
+                             final int toIndex,
+                             final int length,
+                             final int scale,
+                             final RoundingMode roundingMode) {
+        Objects.requireNonNull(from, "from");
+        Objects.requireNonNull(to, "to");
+        Objects.requireNonNull(roundingMode, "roundingMode");
+
+        checkRange(from, fromIndex, length, "from");
+        checkRange(to, toIndex, length, "to");
+        if (from == to && toIndex > fromIndex && toIndex < fromIndex + length) {
+            throw new IllegalArgumentException("Invalid toIndex " + toIndex + " overlaps from " + fromIndex + ".." + (fromIndex + length));
+        }
+
+        if (scale < 0 || scale >= DOUBLE_TEN_POWERS.length) {
+            for (int i = 0; i < length; i++) {
+                to[toIndex + i] = roundBigDecimal(
+                    from[fromIndex + i],
+                    scale,
+                    roundingMode
                 );
+            }
+        } else {
+            final double power = DOUBLE_TEN_POWERS[scale];
+            final boolean half = isHalf(roundingMode);
+
+            if (RoundingMode.UNNECESSARY == roundingMode) {
+                for (int i = 0; i < length; i++) {
+                    to[toIndex + i] = round(
+                        from[fromIndex + i],
+                        power,
+                        half,
+                        scale,
+                        roundingMode
+                    );
+                }
+            } else {
+                for (int block = 0; block < length; block += Long.SIZE) {
+                    roundBlock(
+                        from,
+                        fromIndex + block,
+                        to,
+                        toIndex + block,
+                        Math.min(
+                            Long.SIZE,
+                            length - block
+                        ),
+                        power,
+                        half,
+                        scale,
+                        roundingMode
+                    );
+                }
+            }
+        }
+    }
 
-                rounded = value < 0 ? -rounded : rounded;
+    private static void checkRange(final double[] values,
+                                   final int index,
+                                   final int length,
+                                   final String label) {
+        if (index < 0 || length < 0 || index > values.length - length) {
+            throw new IndexOutOfBoundsException("Invalid " + label + " range " + index + ".." + ((long) index + length) + " for length " + values.length);
+        }
+    }
+
+    /**
+     * Rounds up to 64 values, first recording in a mask those that must be rounded one at a time, and then rounding the
+     * runs of values between them with {@link #roundScaled(double[], int, double[], int, int, double, RoundingMode)}.
+     * All values in the block are read before any are written, so overlapping ranges work as before.
+     */
+    private static void roundBlock(final double[] from,
+                                   final int fromIndex,
+                                   final double[] to,
+                                   final int toIndex,
+                                   final int length,
+                                   final double power,
+                                   final boolean half,
+                                   final int scale,
+                                   final RoundingMode roundingMode) {
+        long slow = 0;
+        for (int i = 0; i < length; i++) {
+            slow |= (isSlow(from[fromIndex + i], power, half) ? 1L : 0L) << i;
+        }
+
+        int start = 0;
+        while (0 != slow) {
+            final int index = Long.numberOfTrailingZeros(slow);
+
+            roundScaled(
+                from,
+                fromIndex + start,
+                to,
+                toIndex + start,
+                index - start,
+                power,
+                roundingMode
+            );
+            to[toIndex + index] = round(
+                from[fromIndex + index],
+                power,
+                half,
+                scale,
+                roundingMode
+            );
+
+            start = index + 1;
+            slow &= slow - 1;
+        }
+
+        roundScaled(
+            from,
+            fromIndex + start,
+            to,
+            toIndex + start,
+            length - start,
+            power,
+            roundingMode
+        );
+    }
+
+    /**
+     * Returns true if the value scaled by the power is too large, not finite or so close to a rounding boundary that
+     * it must be rounded by {@link #round(double, double, boolean, int, RoundingMode)}. Values that are already a
+     * decimal with the scale are close to a boundary for the modes that are not HALF, but are rounded by
+     * {@link #roundScaled(double[], int, double[], int, int, double, RoundingMode)} which returns them as is.
+     */
+    private static boolean isSlow(final double value,
+                                  final double power,
+                                  final boolean half) {
+        final double scaled = value * power;
+
+        return isNearBoundary(scaled, half) &&
+            (half || false == isScaled(value, scaled, power));
+    }
+
+    /**
+     * Returns true if the value is already a decimal with the scale, which for values below {@link #SCALED_LIMIT}
+     * means the scaled value rounded to the nearest integer divides back to the value.
+     */
+    private static boolean isScaled(final double value,
+                                    final double scaled,
+                                    final double power) {
+        return Math.abs(scaled) < SCALED_LIMIT &&
+            Math.rint(scaled) / power == value;
+    }
+
+    /**
+     * Rounds values that are not close to a rounding boundary, or for the modes that are not HALF are already a
+     * decimal with the scale, with a loop for each {@link RoundingMode} that the JIT may vectorize.
+     */
+    private static void roundScaled(final double[] from,
+                                    final int fromIndex,
+                                    final double[] to,
+                                    final int toIndex,
+                                    final int length,
+                                    final double power,
+                                    final RoundingMode roundingMode) {
+        switch (roundingMode) {
+            case UP:
+                for (int i = 0; i < length; i++) {
+                    final double scaled = from[fromIndex + i] * power;
+                    final double nearest = Math.rint(scaled);
+                    to[toIndex + i] = (nearest / power == from[fromIndex + i] ? nearest : upScaled(scaled)) / power + 0.0;
+                }
                 break;
             case DOWN:
-                rounded = Math.floor(
-                    Math.abs(value)
-                );
-
-                rounded = value < 0 ? -rounded : rounded;
+                for (int i = 0; i < length; i++) {
+                    final double scaled = from[fromIndex + i] * power;
+                    final double nearest = Math.rint(scaled);
+                    to[toIndex + i] = (nearest / power == from[fromIndex + i] ? nearest : downScaled(scaled)) / power + 0.0;
+                }
                 break;
             case CEILING:
-                rounded = Math.ceil(value);
+                for (int i = 0; i < length; i++) {
+                    final double scaled = from[fromIndex + i] * power;
+                    final double nearest = Math.rint(scaled);
+                    to[toIndex + i] = (nearest / power == from[fromIndex + i] ? nearest : Math.ceil(scaled)) / power + 0.0;
+                }
                 break;
             case FLOOR:
-                rounded = Math.floor(value);
+                for (int i = 0; i < length; i++) {
+                    final double scaled = from[fromIndex + i] * power;
+                    final double nearest = Math.rint(scaled);
+                    to[toIndex + i] = (nearest / power == from[fromIndex + i] ? nearest : Math.floor(scaled)) / power + 0.0;
+                }
                 break;
             case HALF_UP:
-                rounded = halfUp(value);
+                for (int i = 0; i < length; i++) {
+                    to[toIndex + i] = halfUpScaled(from[fromIndex + i] * power) / power + 0.0;
+                }
                 break;
             case HALF_DOWN:
-                rounded = halfDown(value);
+                for (int i = 0; i < length; i++) {
+                    to[toIndex + i] = halfDownScaled(from[fromIndex + i] * power) / power + 0.0;
+                }
                 break;
             case HALF_EVEN:
-                rounded = ((((long) value) & 1) == 1) ?
-                    halfUp(value) :
-                    halfDown(value);
-                break;
-            case UNNECESSARY:
-                rounded = Math.floor(value);
-                if (rounded != value) {
-                    throw new IllegalArgumentException("Invalid value " + value);
+                for (int i = 0; i < length; i++) {
+                    to[toIndex + i] = Math.rint(from[fromIndex + i] * power) / power + 0.0;
                 }
                 break;
             default:
                 NeverError.unhandledEnum(roundingMode, RoundingMode.values());
         }
+    }
+
+    private static boolean isNearBoundary(final double scaled,
+                                          final boolean half) {
+        final double abs = Math.abs(scaled);
+        final double distance = half ?
+            abs - Math.floor(abs) - 0.5 :
+            abs - Math.rint(abs);
+
+        // written so NaN is near
+        return false == (Math.abs(distance) > abs * BOUNDARY_ERROR && abs < SCALED_LIMIT);
+    }
+
+    /**
+     * The scaled double and the scaled decimal digits of the value are each within 2^-53 relative of the exact product,
+     * so this leaves plenty of room.
+     */
+    private final static double BOUNDARY_ERROR = 0x1p-50;
+
+    /**
+     * Scaled values must be below 2^52 so the rounded integer and its half are exact.
+     */
+    private final static double SCALED_LIMIT = 0x1p52;
+
+    /**
+     * Powers of ten that are exact doubles.
+     */
+    private final static double[] DOUBLE_TEN_POWERS = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Rounds the value to the given number of decimal places, giving the same results as
+     * {@code BigDecimal.valueOf(value).setScale(scale, roundingMode).doubleValue()} without creating a {@link BigDecimal}
+     * except in rare cases. Note NAN or INIFINITE values are returned as is.
+     * <br>
+     * The value is multiplied by an exact power of ten, and when that is not close to a rounding boundary it is rounded
+     * to an integer and divided by the same power, which is the correctly rounded double of the decimal result.
+     * Values close to a boundary are tested for being exactly a decimal with the scale, or exactly half way for the HALF
+     * modes, and only values near but not on a boundary, very large values and scales above 22 use {@link BigDecimal}.
+     */
+    public static double round(final double value,
+                               final int scale,
+                               final RoundingMode roundingMode) {
+        Objects.requireNonNull(roundingMode, "roundingMode");
+
+        return scale < 0 || scale >= DOUBLE_TEN_POWERS.length ?
+            roundBigDecimal(
+                value,
+                scale,
+                roundingMode
+            ) :
+            round(
+                value,
+                DOUBLE_TEN_POWERS[scale],
+                isHalf(roundingMode),
+                scale,
+                roundingMode
+            );
+    }
+
+    private static double round(final double value,
+                                final double power,
+                                final boolean half,
+                                final int scale,
+                                final RoundingMode roundingMode) {
+        final double scaled = value * power;
+
+        return isNearBoundary(scaled, half) ?
+            roundNearBoundary(
+                value,
+                scaled,
+                power,
+                half,
+                scale,
+                roundingMode
+            ) :
+            roundScaled(
+                scaled,
+                roundingMode
+            ) / power + 0.0;
+    }
+
+    /**
+     * While the scaled value is below {@link #SCALED_LIMIT}, the ulp of the value is less than a unit in the last
+     * decimal place, so only one decimal with the scale can round to the value, which must then be the digits of
+     * {@link Double#toString(double)} used by {@link BigDecimal#valueOf(double)}. The same is true for half a unit
+     * when the scaled value is ten times smaller.
+     */
+    private static double roundNearBoundary(final double value,
+                                            final double scaled,
+                                            final double power,
+                                            final boolean half,
+                                            final int scale,
+                                            final RoundingMode roundingMode) {
+        final double abs = Math.abs(scaled);
+        double rounded;
+
+        if (false == Double.isFinite(value) || abs >= SCALED_LIMIT) {
+            rounded = roundBigDecimal(
+                value,
+                scale,
+                roundingMode
+            );
+        } else {
+            if (half) {
+                final double floor = Math.floor(abs);
+
+                if (abs < SCALED_LIMIT / 10 && (floor * 2 + 1) / (power * 2) == Math.abs(value)) {
+                    rounded = Math.copySign(
+                        roundHalf(floor, roundingMode),
+                        value
+                    ) / power + 0.0;
+                } else {
+                    rounded = roundBigDecimal(
+                        value,
+                        scale,
+                        roundingMode
+                    );
+                }
+            } else {
+                // already a decimal with the scale
+                rounded = Math.rint(scaled) / power == value ?
+                    value + 0.0 :
+                    roundBigDecimal(
+                        value,
+                        scale,
+                        roundingMode
+                    );
+            }
+        }
 
         return rounded;
     }
 
-    private static double halfDown(final double value) {
-        final double rounded = Math.ceil(
-            Math.abs(value) - 0.5
+    /**
+     * Rounds a positive value that is exactly half way between floor and floor + 1.
+     */
+    private static double roundHalf(final double floor,
+                                    final RoundingMode roundingMode) {
+        final double rounded;
+
+        switch (roundingMode) {
+            case HALF_UP:
+                rounded = floor + 1;
+                break;
+            case HALF_DOWN:
+                rounded = floor;
+                break;
+            case HALF_EVEN:
+                rounded = floor % 2 == 0 ?
+                    floor :
+                    floor + 1;
+                break;
+            default:
+                rounded = NeverError.unhandledEnum(roundingMode, RoundingMode.values());
+        }
+
+        return rounded;
+    }
+
+    private static double roundBigDecimal(final double value,
+                                          final int scale,
+                                          final RoundingMode roundingMode) {
+        return Double.isFinite(value) ?
+            BigDecimal.valueOf(value)
+                .setScale(
+                    scale,
+                    roundingMode
+                ).doubleValue() :
+            value;
+    }
+
+    /**
+     * Rounds a scaled value that is not close to a rounding boundary to an integer.
+     */
+    private static double roundScaled(final double scaled,
+                                      final RoundingMode roundingMode) {
+        final double rounded;
+
+        switch (roundingMode) {
+            case UP:
+                rounded = upScaled(scaled);
+                break;
+            case DOWN:
+                rounded = downScaled(scaled);
+                break;
+            case CEILING:
+                rounded = Math.ceil(scaled);
+                break;
+            case FLOOR:
+                rounded = Math.floor(scaled);
+                break;
+            case HALF_UP:
+                rounded = halfUpScaled(scaled);
+                break;
+            case HALF_DOWN:
+                rounded = halfDownScaled(scaled);
+                break;
+            case HALF_EVEN:
+                rounded = Math.rint(scaled);
+                break;
+            case UNNECESSARY:
+                // not close to an integer so not a decimal with the scale
+                throw new ArithmeticException("Rounding necessary");
+            default:
+                rounded = NeverError.unhandledEnum(roundingMode, RoundingMode.values());
+        }
+
+        return rounded;
+    }
+
+    private static double upScaled(final double scaled) {
+        return Math.copySign(
+            Math.ceil(Math.abs(scaled)),
+            scaled
+        );
+    }
+
+    private static double downScaled(final double scaled) {
+        return Math.copySign(
+            Math.floor(Math.abs(scaled)),
+            scaled
         );
+    }
 
-        return value < 0 ? -rounded : rounded;
+    private static double halfUpScaled(final double scaled) {
+        return Math.copySign(
+            Math.floor(Math.abs(scaled) + 0.5),
+            scaled
+        );
     }
 
-    private static double halfUp(final double value) {
-        double rounded = Math.round(
-            Math.abs(value)
+    private static double halfDownScaled(final double scaled) {
+        return Math.copySign(
+            Math.ceil(Math.abs(scaled) - 0.5),
+            scaled
         );
-        return value < 0 ? -rounded : rounded;
+    }
+
+    private static boolean isHalf(final RoundingMode roundingMode) {
+        return RoundingMode.HALF_UP == roundingMode ||
+            RoundingMode.HALF_DOWN == roundingMode ||
+            RoundingMode.HALF_EVEN == roundingMode;
     }
 
     /**
      * Attempts to convert the given {@link Number number} to a {@link BigDecimal}.
      */
     public static Optional<BigDecimal> toBigDecimal(final Number value) {
-        return MathsToBigDecimalNumberVisitor.toBigDecimal(value);
+        return Optional.ofNullable(
+            toBigDecimalOrNull(value)
+        );
+    }
+
+    /**
+     * Converts the given {@link Number number} to a {@link BigDecimal} returning null if the type is not supported.
+     * Unlike {@link #toBigDecimal(Number)} this does not create a visitor or {@link Optional}, the only allocation is
+     * the {@link BigDecimal} result itself, and only when it is not the given value or a cached constant.
+     * Integral values within the range of {@link BigDecimalCache#DEFAULT} return the same canonical instance.
+     */
+    public static BigDecimal toBigDecimalOrNull(final Number value) {
+        Objects.requireNonNull(value, "value");
+
+        final Class<?> type = value.getClass();
+        final BigDecimal bigDecimal;
+
+        if (BigDecimal.class == type) {
+            bigDecimal = (BigDecimal) value;
+        } else if (Long.class == type || Integer.class == type || Short.class == type || Byte.class == type) {
+            bigDecimal = BigDecimalCache.DEFAULT.valueOf(
+                value.longValue()
+            );
+        } else if (Double.class == type || Float.class == type) {
+            bigDecimal = BigDecimal.valueOf(
+                value.doubleValue()
+            );
+        } else if (FixedDecimal.class == type) {
+            bigDecimal = ((FixedDecimal) value).toBigDecimal();
+        } else if (BigInteger.class == type) {
+            bigDecimal = new BigDecimal((BigInteger) value);
+        } else {
+            // BigDecimal and BigInteger are not final and may have sub classes
+            bigDecimal = value instanceof BigDecimal ?
+                (BigDecimal) value :
+                value instanceof BigInteger ?
+                    new BigDecimal((BigInteger) value) :
+                    null;
+        }
+
+        return bigDecimal;
     }
 
     /**
@@ -20,70 +20,412 @@ package walkingkooka.math;
 import walkingkooka.collect.list.ImmutableListDefaults;
 import walkingkooka.collect.list.Lists;
 
+import java.math.BigDecimal;
+import java.math.MathContext;
 import java.util.AbstractList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.stream.IntStream;
 
 /**
  * An immutable list of {@link Number} that allows null elements.
+ * <br>
+ * Lists where every element is a {@link Long} or every element is a {@link Double} are stored in a primitive array,
+ * boxing only happens when an element is fetched with {@link #get(int)}.
  */
-public final class NumberList extends AbstractList<Number>
+public abstract class NumberList extends AbstractList<Number>
     implements ImmutableListDefaults<NumberList, Number> {
 
     /**
      * An empty {@link NumberList}.
      */
-    public final static NumberList EMPTY = new NumberList(
+    public final static NumberList EMPTY = new BoxedNumberList(
         Lists.empty()
     );
 
-    // @VisibleForTesting
-    NumberList(final List<Number> numbers) {
-        this.numbers = numbers;
-    }
+    /**
+     * Lists with more elements than this threshold are aggregated in parallel chunks of this size. The default may be
+     * changed using the system property <code>walkingkooka.math.NumberList.parallelThreshold</code>, invalid values
+     * are ignored.
+     */
+    public final static int PARALLEL_THRESHOLD = parallelThreshold(
+        System.getProperty("walkingkooka.math.NumberList.parallelThreshold")
+    );
 
-    @Override
-    public Number get(int index) {
-        return this.numbers.get(index);
-    }
+    final static int DEFAULT_PARALLEL_THRESHOLD = 16384;
 
-    @Override
-    public int size() {
-        return this.numbers.size();
+    /**
+     * Parses the parallel threshold system property, returning {@link #DEFAULT_PARALLEL_THRESHOLD} when it is missing,
+     * not a number or less than 1, so a bad value can never stop this class from loading.
+     */
+    static int parallelThreshold(final String value) {
+        int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+        if (null != value) {
+            try {
+                final int parsed = Integer.parseInt(value.trim());
+                if (parsed >= 1) {
+                    parallelThreshold = parsed;
+                }
+            } catch (final NumberFormatException ignore) {
+                // use the default
+            }
+        }
+
+        return parallelThreshold;
     }
 
-    private final List<Number> numbers;
+    /**
+     * Package private to limit sub classing.
+     */
+    NumberList() {
+        super();
+    }
 
     @Override
-    public void elementCheck(final Number number) {
+    public final void elementCheck(final Number number) {
         // nulls are allowed.
     }
 
     @Override
-    public NumberList setElements(final Collection<Number> numbers) {
+    public final NumberList setElements(final Collection<Number> numbers) {
         Objects.requireNonNull(numbers, "numbers");
 
+        final NumberList numberList = numbers instanceof NumberList ?
+            (NumberList) numbers :
+            copy(numbers);
+
+        return this.equals(numberList) ?
+            this :
+            numberList;
+    }
+
+    /**
+     * Copies the given numbers picking a {@link LongNumberList} or {@link DoubleNumberList} when every element is
+     * a {@link Long} or every element is a {@link Double}.
+     */
+    private static NumberList copy(final Collection<Number> numbers) {
+        final Number[] array = numbers.toArray(new Number[0]);
+        final int count = array.length;
+
         NumberList numberList;
 
-        if (numbers instanceof NumberList) {
-            numberList = (NumberList) numbers;
+        if (0 == count) {
+            numberList = EMPTY;
         } else {
-            final List<Number> copy = Lists.array();
-            copy.addAll(numbers);
+            final Class<?> type = denseType(array);
 
-            switch (numbers.size()) {
-                case 0:
-                    numberList = EMPTY;
-                    break;
-                default:
-                    numberList = new NumberList(copy);
+            if (Long.class == type) {
+                final long[] values = new long[count];
+                for (int i = 0; i < count; i++) {
+                    values[i] = array[i].longValue();
+                }
+                numberList = new LongNumberList(values);
+            } else if (Double.class == type) {
+                final double[] values = new double[count];
+                for (int i = 0; i < count; i++) {
+                    values[i] = array[i].doubleValue();
+                }
+                numberList = new DoubleNumberList(values);
+            } else {
+                final List<Number> copy = Lists.array();
+                for (final Number number : array) {
+                    copy.add(number);
+                }
+                numberList = new BoxedNumberList(copy);
+            }
+        }
+
+        return numberList;
+    }
+
+    /**
+     * Returns {@link Long} or {@link Double} if every element is exactly that type, otherwise returns null.
+     * Sub classes and nulls always require the boxed form so {@link #get(int)} returns the original element type.
+     */
+    private static Class<?> denseType(final Number[] numbers) {
+        final Number first = numbers[0];
+
+        Class<?> type = null == first ?
+            null :
+            first.getClass();
+
+        if (Long.class == type || Double.class == type) {
+            for (final Number number : numbers) {
+                if (null == number || type != number.getClass()) {
+                    type = null;
                     break;
+                }
             }
+        } else {
+            type = null;
         }
 
-        return this.equals(numberList) ?
-            this :
-            numberList;
+        return type;
+    }
+
+    // aggregates.......................................................................................................
+
+    /**
+     * Returns the sum of all non null numbers, rounded using the given {@link MathContext}.
+     * An empty list returns zero.
+     */
+    public final BigDecimal sum(final MathContext context) {
+        return this.sum(
+            context,
+            PARALLEL_THRESHOLD
+        );
+    }
+
+    /**
+     * Returns the sum of all non null numbers, rounded using the given {@link MathContext}. The sum is computed
+     * exactly and rounded once, so the result is the same no matter how the list was split across threads.
+     */
+    public final BigDecimal sum(final MathContext context,
+                                final int parallelThreshold) {
+        Objects.requireNonNull(context, "context");
+
+        return this.sumNumberVisitor(parallelThreshold)
+            .sum()
+            .round(context);
+    }
+
+    /**
+     * Returns the average of all non null numbers, rounded using the given {@link MathContext}, or empty if there
+     * are no numbers.
+     */
+    public final Optional<BigDecimal> average(final MathContext context) {
+        return this.average(
+            context,
+            PARALLEL_THRESHOLD
+        );
+    }
+
+    /**
+     * Returns the average of all non null numbers, rounded using the given {@link MathContext}, or empty if there
+     * are no numbers.
+     */
+    public final Optional<BigDecimal> average(final MathContext context,
+                                              final int parallelThreshold) {
+        Objects.requireNonNull(context, "context");
+
+        final NumberListSumNumberVisitor visitor = this.sumNumberVisitor(parallelThreshold);
+        final int count = visitor.count();
+
+        return 0 == count ?
+            Optional.empty() :
+            Optional.of(
+                visitor.sum()
+                    .divide(
+                        BigDecimal.valueOf(count),
+                        context
+                    )
+            );
+    }
+
+    private NumberListSumNumberVisitor sumNumberVisitor(final int parallelThreshold) {
+        return this.aggregate(
+            parallelThreshold,
+            this::sum,
+            NumberListSumNumberVisitor::add
+        );
+    }
+
+    /**
+     * Returns the exact sum of the numbers between from and to.
+     */
+    NumberListSumNumberVisitor sum(final int from,
+                                   final int to) {
+        final NumberListSumNumberVisitor visitor = new NumberListSumNumberVisitor();
+
+        for (int i = from; i < to; i++) {
+            final Number number = this.get(i);
+            if (null != number) {
+                visitor.accept(number);
+            }
+        }
+
+        return visitor;
+    }
+
+    /**
+     * Returns the smallest non null number, or empty if there are no numbers. If several numbers have the same
+     * smallest value the first is returned.
+     */
+    public final Optional<Number> min() {
+        return this.min(PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Returns the smallest non null number, or empty if there are no numbers. If several numbers have the same
+     * smallest value the first is returned.
+     */
+    public final Optional<Number> min(final int parallelThreshold) {
+        return this.minOrMax(
+            parallelThreshold,
+            false
+        );
+    }
+
+    /**
+     * Returns the largest non null number, or empty if there are no numbers. If several numbers have the same
+     * largest value the first is returned.
+     */
+    public final Optional<Number> max() {
+        return this.max(PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Returns the largest non null number, or empty if there are no numbers. If several numbers have the same
+     * largest value the first is returned.
+     */
+    public final Optional<Number> max(final int parallelThreshold) {
+        return this.minOrMax(
+            parallelThreshold,
+            true
+        );
+    }
+
+    private Optional<Number> minOrMax(final int parallelThreshold,
+                                      final boolean max) {
+        return Optional.ofNullable(
+            this.aggregate(
+                parallelThreshold,
+                (from, to) -> this.minOrMax(
+                    from,
+                    to,
+                    max
+                ),
+                (left, right) -> compare(left, right, max) >= 0 ?
+                    left :
+                    right
+            )
+        );
+    }
+
+    /**
+     * Returns the smallest or largest number between from and to or null if they are all null.
+     */
+    Number minOrMax(final int from,
+                    final int to,
+                    final boolean max) {
+        Number result = null;
+        BigDecimal resultBigDecimal = null;
+
+        for (int i = from; i < to; i++) {
+            final Number number = this.get(i);
+            if (null != number) {
+                final BigDecimal bigDecimal = toBigDecimal(number);
+
+                if (null == resultBigDecimal || compare(bigDecimal, resultBigDecimal, max) > 0) {
+                    result = number;
+                    resultBigDecimal = bigDecimal;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a positive value if the left is a better min or max than the right.
+     */
+    private static int compare(final Number left,
+                               final Number right,
+                               final boolean max) {
+        return compare(
+            toBigDecimal(left),
+            toBigDecimal(right),
+            max
+        );
+    }
+
+    private static int compare(final BigDecimal left,
+                               final BigDecimal right,
+                               final boolean max) {
+        final int compare = left.compareTo(right);
+        return max ?
+            compare :
+            -compare;
+    }
+
+    /**
+     * Splits this list into chunks of parallelThreshold elements when larger than parallelThreshold, computing each
+     * chunk in parallel and combining the non null results in list order.
+     */
+    private <T> T aggregate(final int parallelThreshold,
+                            final BiFunction<Integer, Integer, T> chunk,
+                            final BinaryOperator<T> combiner) {
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException("Invalid parallelThreshold " + parallelThreshold + " < 1");
+        }
+
+        final int size = this.size();
+
+        return size <= parallelThreshold ?
+            chunk.apply(0, size) :
+            IntStream.range(
+                    0,
+                    (size - 1) / parallelThreshold + 1
+                ).parallel()
+                .mapToObj(
+                    c -> {
+                        final int from = c * parallelThreshold;
+                        return chunk.apply(
+                            from,
+                            size - from <= parallelThreshold ?
+                                size :
+                                from + parallelThreshold
+                        );
+                    }
+                ).reduce(
+                    null,
+                    (left, right) -> null == left ?
+                        right :
+                        null == right ?
+                            left :
+                            combiner.apply(left, right)
+                );
+    }
+
+    /**
+     * Converts any supported {@link Number} into a {@link BigDecimal}, failing for unknown types, NaN and infinity.
+     */
+    static BigDecimal toBigDecimal(final Number number) {
+        final BigDecimal bigDecimal;
+
+        if (number instanceof Double || number instanceof Float) {
+            bigDecimal = toBigDecimal(number.doubleValue());
+        } else {
+            bigDecimal = Maths.toBigDecimalOrNull(number);
+            if (null == bigDecimal) {
+                throw new IllegalArgumentException("Unknown number type " + number.getClass().getName());
+            }
+        }
+
+        return bigDecimal;
+    }
+
+    /**
+     * Converts the double into a {@link BigDecimal} failing if it is NaN or infinity.
+     */
+    static BigDecimal toBigDecimal(final double value) {
+        return BigDecimal.valueOf(
+            checkFinite(value)
+        );
+    }
+
+    /**
+     * Fails if the double is NaN or infinity, otherwise returns it.
+     */
+    static double checkFinite(final double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Invalid number " + value);
+        }
+        return value;
     }
 }
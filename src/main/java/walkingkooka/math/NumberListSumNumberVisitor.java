@@ -0,0 +1,156 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * A {@link NumberVisitor} that accumulates the exact sum and count of the visited {@link Number numbers}. Longs are
+ * added to a long until they overflow and only then promoted to {@link BigDecimal}.
+ */
+final class NumberListSumNumberVisitor extends NumberVisitor {
+
+    NumberListSumNumberVisitor() {
+        super();
+    }
+
+    @Override
+    protected void visit(final BigDecimal number) {
+        this.add(number);
+    }
+
+    @Override
+    protected void visit(final BigInteger number) {
+        this.add(
+            new BigDecimal(number)
+        );
+    }
+
+    @Override
+    protected void visit(final Byte number) {
+        this.add(number.longValue());
+    }
+
+    @Override
+    protected void visit(final Double number) {
+        this.add(number.doubleValue());
+    }
+
+    @Override
+    protected void visit(final FixedDecimal number) {
+        this.add(
+            number.toBigDecimal()
+        );
+    }
+
+    @Override
+    protected void visit(final Float number) {
+        this.add(number.doubleValue());
+    }
+
+    @Override
+    protected void visit(final Integer number) {
+        this.add(number.longValue());
+    }
+
+    @Override
+    protected void visit(final Long number) {
+        this.add(number.longValue());
+    }
+
+    @Override
+    protected void visit(final Short number) {
+        this.add(number.longValue());
+    }
+
+    @Override
+    protected void visitUnknown(final Number number) {
+        throw new IllegalArgumentException("Unknown number type " + number.getClass().getName());
+    }
+
+    /**
+     * Adds the long to the long sum, promoting the previous sum to the {@link BigDecimal} sum on overflow.
+     */
+    void add(final long value) {
+        final long sum = this.longSum;
+        final long result = sum + value;
+
+        // overflow if both operands have a different sign to the result
+        if (((sum ^ result) & (value ^ result)) < 0) {
+            this.bigDecimal = this.bigDecimal.add(
+                BigDecimal.valueOf(sum)
+            );
+            this.longSum = value;
+        } else {
+            this.longSum = result;
+        }
+
+        this.count++;
+    }
+
+    /**
+     * Adds the double, failing if it is NaN or infinity.
+     */
+    void add(final double value) {
+        this.add(
+            NumberList.toBigDecimal(value)
+        );
+    }
+
+    private void add(final BigDecimal value) {
+        this.bigDecimal = this.bigDecimal.add(value);
+        this.count++;
+    }
+
+    /**
+     * Adds the sum and count of another {@link NumberListSumNumberVisitor} to this.
+     */
+    NumberListSumNumberVisitor add(final NumberListSumNumberVisitor other) {
+        this.bigDecimal = this.bigDecimal.add(other.sum());
+        this.count += other.count;
+        return this;
+    }
+
+    /**
+     * The exact sum of all visited numbers.
+     */
+    BigDecimal sum() {
+        return this.bigDecimal.add(
+            BigDecimal.valueOf(this.longSum)
+        );
+    }
+
+    private long longSum;
+
+    private BigDecimal bigDecimal = BigDecimal.ZERO;
+
+    /**
+     * The number of visited numbers.
+     */
+    int count() {
+        return this.count;
+    }
+
+    private int count;
+
+    @Override
+    public String toString() {
+        return this.sum() + " count=" + this.count;
+    }
+}
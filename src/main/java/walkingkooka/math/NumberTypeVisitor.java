@@ -20,10 +20,13 @@ package walkingkooka.math;
 import walkingkooka.visit.Visiting;
 import walkingkooka.visit.Visitor;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.Objects;
 
 /**
- * A {@link Visitor} that dispatches to a visit overload for each for all JDK {@link Number} types.
+ * A {@link Visitor} that dispatches to a visit overload for each for all JDK {@link Number} types and
+ * {@link FixedDecimal}.
  */
 public abstract class NumberTypeVisitor extends Visitor<Class<?>> {
 
@@ -36,34 +39,27 @@ public abstract class NumberTypeVisitor extends Visitor<Class<?>> {
         Objects.requireNonNull(number, "number");
 
         if (Visiting.CONTINUE == this.startVisit(number)) {
-            switch (number.getName()) {
-                case "java.math.BigDecimal":
-                    this.visitBigDecimal();
-                    break;
-                case "java.math.BigInteger":
-                    this.visitBigInteger();
-                    break;
-                case "java.lang.Byte":
-                    this.visitByte();
-                    break;
-                case "java.lang.Double":
-                    this.visitDouble();
-                    break;
-                case "java.lang.Float":
-                    this.visitFloat();
-                    break;
-                case "java.lang.Integer":
-                    this.visitInteger();
-                    break;
-                case "java.lang.Long":
-                    this.visitLong();
-                    break;
-                case "java.lang.Short":
-                    this.visitShort();
-                    break;
-                default:
-                    this.visitUnknown(number);
-                    break;
+            // identity tests rather than a switch on the class name, which would hash and compare Strings
+            if (BigDecimal.class == number) {
+                this.visitBigDecimal();
+            } else if (BigInteger.class == number) {
+                this.visitBigInteger();
+            } else if (Byte.class == number) {
+                this.visitByte();
+            } else if (Double.class == number) {
+                this.visitDouble();
+            } else if (FixedDecimal.class == number) {
+                this.visitFixedDecimal();
+            } else if (Float.class == number) {
+                this.visitFloat();
+            } else if (Integer.class == number) {
+                this.visitInteger();
+            } else if (Long.class == number) {
+                this.visitLong();
+            } else if (Short.class == number) {
+                this.visitShort();
+            } else {
+                this.visitUnknown(number);
             }
         }
         this.endVisit(number);
@@ -88,6 +84,9 @@ public abstract class NumberTypeVisitor extends Visitor<Class<?>> {
     protected void visitDouble() {
     }
 
+    protected void visitFixedDecimal() {
+    }
+
     protected void visitFloat() {
     }
 
@@ -22,10 +22,14 @@ import walkingkooka.visit.Visitor;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 
 /**
- * A {@link Visitor} that dispatches to a visit overload for each for all JDK {@link Number} types.
+ * A {@link Visitor} that dispatches to a visit overload for each for all JDK {@link Number} types and
+ * {@link FixedDecimal}.
  */
 public abstract class NumberVisitor extends Visitor<Number> {
 
@@ -38,46 +42,54 @@ public abstract class NumberVisitor extends Visitor<Number> {
         Objects.requireNonNull(number, "number");
 
         if (Visiting.CONTINUE == this.startVisit(number)) {
-            do {
-                if (number instanceof BigDecimal) {
-                    this.visit((BigDecimal) number);
-                    break;
-                }
-                if (number instanceof BigInteger) {
-                    this.visit((BigInteger) number);
-                    break;
-                }
-                if (number instanceof Byte) {
-                    this.visit((Byte) number);
-                    break;
-                }
-                if (number instanceof Double) {
-                    this.visit((Double) number);
-                    break;
-                }
-                if (number instanceof Float) {
-                    this.visit((Float) number);
-                    break;
-                }
-                if (number instanceof Integer) {
-                    this.visit((Integer) number);
-                    break;
-                }
-                if (number instanceof Long) {
-                    this.visit((Long) number);
-                    break;
-                }
-                if (number instanceof Short) {
-                    this.visit((Short) number);
-                    break;
-                }
-                this.visitUnknown(number);
-
-            } while (false);
+            final BiConsumer<NumberVisitor, Number> visit = DISPATCH.get(number.getClass());
+            if (null != visit) {
+                visit.accept(this, number);
+            } else {
+                this.visitSubclassOrUnknown(number);
+            }
         }
         this.endVisit(number);
     }
 
+    /**
+     * Only {@link BigDecimal} and {@link BigInteger} may be sub-classed, all other supported {@link Number} types are
+     * final and will always be found in {@link #DISPATCH}.
+     */
+    private void visitSubclassOrUnknown(final Number number) {
+        if (number instanceof BigDecimal) {
+            this.visit((BigDecimal) number);
+        } else {
+            if (number instanceof BigInteger) {
+                this.visit((BigInteger) number);
+            } else {
+                this.visitUnknown(number);
+            }
+        }
+    }
+
+    /**
+     * A table keyed by the exact {@link Class} of each supported {@link Number} type, this avoids walking a chain of
+     * instanceof tests for every {@link #accept(Number)}.
+     */
+    private final static Map<Class<?>, BiConsumer<NumberVisitor, Number>> DISPATCH = dispatch();
+
+    private static Map<Class<?>, BiConsumer<NumberVisitor, Number>> dispatch() {
+        final Map<Class<?>, BiConsumer<NumberVisitor, Number>> dispatch = new IdentityHashMap<>();
+
+        dispatch.put(BigDecimal.class, (v, n) -> v.visit((BigDecimal) n));
+        dispatch.put(BigInteger.class, (v, n) -> v.visit((BigInteger) n));
+        dispatch.put(Byte.class, (v, n) -> v.visit((Byte) n));
+        dispatch.put(Double.class, (v, n) -> v.visit((Double) n));
+        dispatch.put(FixedDecimal.class, (v, n) -> v.visit((FixedDecimal) n));
+        dispatch.put(Float.class, (v, n) -> v.visit((Float) n));
+        dispatch.put(Integer.class, (v, n) -> v.visit((Integer) n));
+        dispatch.put(Long.class, (v, n) -> v.visit((Long) n));
+        dispatch.put(Short.class, (v, n) -> v.visit((Short) n));
+
+        return dispatch;
+    }
+
     protected Visiting startVisit(final Number number) {
         return Visiting.CONTINUE;
     }
@@ -97,6 +109,9 @@ public abstract class NumberVisitor extends Visitor<Number> {
     protected void visit(final Double number) {
     }
 
+    protected void visit(final FixedDecimal number) {
+    }
+
     protected void visit(final Float number) {
     }
 
@@ -0,0 +1,525 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * Formats doubles with the fewest digits that still parse back to the same double, using the Schubfach algorithm by
+ * Raffaello Giulietti, the same algorithm used by {@link Double#toString(double)} since Java 19. The output has the
+ * same layout as {@link Double#toString(double)}, but uses the zero digit, negative sign, decimal separator, exponent,
+ * NaN and infinity symbols of a {@link DecimalNumberSymbolsLike}.
+ * <br>
+ * Characters are written directly to a caller supplied char[] or {@link Appendable}, without creating any
+ * intermediate objects.
+ */
+public final class ShortestDoubleFormatter {
+
+    /**
+     * Factory that creates a new {@link ShortestDoubleFormatter} using the given symbols, which are read once.
+     */
+    public static ShortestDoubleFormatter with(final DecimalNumberSymbolsLike symbols) {
+        Objects.requireNonNull(symbols, "symbols");
+
+        return new ShortestDoubleFormatter(symbols);
+    }
+
+    /**
+     * Private ctor use factory.
+     */
+    private ShortestDoubleFormatter(final DecimalNumberSymbolsLike symbols) {
+        super();
+
+        this.symbols = symbols;
+
+        this.zeroDigit = symbols.zeroDigit();
+        this.negativeSign = symbols.negativeSign();
+        this.decimalSeparator = symbols.decimalSeparator();
+        this.exponentSymbol = symbols.exponentSymbol();
+        this.infinitySymbol = symbols.infinitySymbol();
+        this.nanSymbol = symbols.nanSymbol();
+
+        this.maxLength = Math.max(
+            Math.max(
+                22, // -0.00 followed by 17 digits
+                1 + 17 + 1 + this.exponentSymbol.length() + 1 + 3
+            ),
+            Math.max(
+                this.nanSymbol.length(),
+                1 + this.infinitySymbol.length()
+            )
+        );
+    }
+
+    /**
+     * The maximum number of characters that {@link #format(double, char[], int)} may write.
+     */
+    public int maxLength() {
+        return this.maxLength;
+    }
+
+    private final int maxLength;
+
+    /**
+     * Writes the double to the char[] starting at offset, returning the offset after the last character written.
+     * The char[] must have room for {@link #maxLength()} characters.
+     */
+    public int format(final double value,
+                      final char[] chars,
+                      final int offset) {
+        Objects.requireNonNull(chars, "chars");
+
+        try {
+            return this.format(
+                value,
+                chars,
+                offset,
+                null
+            );
+        } catch (final IOException never) {
+            // only an Appendable may throw
+            throw new IllegalStateException(never);
+        }
+    }
+
+    /**
+     * Appends the double to the {@link Appendable}.
+     */
+    public void format(final double value,
+                       final Appendable appendable) throws IOException {
+        Objects.requireNonNull(appendable, "appendable");
+
+        this.format(
+            value,
+            null,
+            0,
+            appendable
+        );
+    }
+
+    // Schubfach........................................................................................................
+
+    /**
+     * Characters are written to chars when it is not null, otherwise to the {@link Appendable}.
+     */
+    private int format(final double value,
+                       final char[] chars,
+                       final int offset,
+                       final Appendable appendable) throws IOException {
+        final long bits = Double.doubleToRawLongBits(value);
+        final long t = bits & T_MASK;
+        final int bq = (int) (bits >>> (P - 1)) & BQ_MASK;
+
+        int i = offset;
+
+        if (bq < BQ_MASK) {
+            if (bits < 0) {
+                i = put(this.negativeSign, chars, i, appendable);
+            }
+
+            if (0 != bq) {
+                // normal value, mq is -q
+                final int mq = -Q_MIN + 1 - bq;
+                final long c = C_MIN | t;
+
+                // integers below 2^53 are exact
+                if (0 < mq && mq < P) {
+                    final long f = c >> mq;
+                    if (f << mq == c) {
+                        return this.toChars(f, 0, chars, i, appendable);
+                    }
+                }
+                i = this.toDecimal(-mq, c, 0, chars, i, appendable);
+            } else {
+                if (0 != t) {
+                    // subnormal value
+                    i = t < C_TINY ?
+                        this.toDecimal(Q_MIN, 10 * t, -1, chars, i, appendable) :
+                        this.toDecimal(Q_MIN, t, 0, chars, i, appendable);
+                } else {
+                    i = put(this.zeroDigit, chars, i, appendable);
+                    i = put(this.decimalSeparator, chars, i, appendable);
+                    i = put(this.zeroDigit, chars, i, appendable);
+                }
+            }
+        } else {
+            if (0 != t) {
+                i = put(this.nanSymbol, chars, i, appendable);
+            } else {
+                if (bits < 0) {
+                    i = put(this.negativeSign, chars, i, appendable);
+                }
+                i = put(this.infinitySymbol, chars, i, appendable);
+            }
+        }
+
+        return i;
+    }
+
+    /**
+     * Finds the shortest decimal within the rounding interval of c * 2^q, picking the closest when there are several.
+     */
+    private int toDecimal(final int q,
+                          final long c,
+                          final int dk,
+                          final char[] chars,
+                          final int offset,
+                          final Appendable appendable) throws IOException {
+        final int out = (int) c & 0x1;
+        final long cb = c << 2;
+        final long cbr = cb + 2;
+        final long cbl;
+        final int k;
+
+        if (c != C_MIN | q == Q_MIN) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            // the interval is asymmetric for powers of two
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        final int h = q + flog2pow10(-k) + 2;
+
+        final long g1 = G[(k - K_MIN) << 1];
+        final long g0 = G[((k - K_MIN) << 1) + 1];
+
+        final long vb = rop(g1, g0, cb << h);
+        final long vbl = rop(g1, g0, cbl << h);
+        final long vbr = rop(g1, g0, cbr << h);
+
+        final long s = vb >> 2;
+        if (s >= 100) {
+            // try one digit less, s rounded down to a multiple of 10
+            final long sp10 = 10 * multiplyHigh(s, 115_292_150_460_684_698L << 4);
+            final long tp10 = sp10 + 10;
+            final boolean upin = vbl + out <= sp10 << 2;
+            final boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) {
+                return this.toChars(upin ? sp10 : tp10, k, chars, offset, appendable);
+            }
+        }
+
+        final long t = s + 1;
+        final boolean uin = vbl + out <= s << 2;
+        final boolean win = (t << 2) + out <= vbr;
+        if (uin != win) {
+            return this.toChars(uin ? s : t, k + dk, chars, offset, appendable);
+        }
+
+        // both are in the interval pick the closest, ties pick the even
+        final long cmp = vb - ((s + t) << 1);
+        return this.toChars(
+            cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t,
+            k + dk,
+            chars,
+            offset,
+            appendable
+        );
+    }
+
+    /**
+     * Rounds g * cp / 2^127 to odd.
+     */
+    private static long rop(final long g1,
+                            final long g0,
+                            final long cp) {
+        final long x1 = multiplyHigh(g0, cp);
+        final long y0 = g1 * cp;
+        final long y1 = multiplyHigh(g1, cp);
+        final long z = (y0 >>> 1) + x1;
+        final long vbp = y1 + (z >>> 63);
+        return vbp | ((z & MASK_63) + MASK_63) >>> 63;
+    }
+
+    /**
+     * Portable equivalent of Math#multiplyHigh(long, long).
+     */
+    private static long multiplyHigh(final long x,
+                                     final long y) {
+        final long x1 = x >> 32;
+        final long x2 = x & 0xFFFFFFFFL;
+        final long y1 = y >> 32;
+        final long y2 = y & 0xFFFFFFFFL;
+
+        final long z2 = x2 * y2;
+        final long t = x1 * y2 + (z2 >>> 32);
+        final long z1 = (t & 0xFFFFFFFFL) + x2 * y1;
+        final long z0 = t >> 32;
+
+        return x1 * y1 + z0 + (z1 >> 32);
+    }
+
+    // toChars..........................................................................................................
+
+    /**
+     * Writes the decimal f * 10^e using the same layout as {@link Double#toString(double)}.
+     */
+    private int toChars(final long f,
+                        final int e,
+                        final char[] chars,
+                        final int offset,
+                        final Appendable appendable) throws IOException {
+        int length = flog10pow2(Long.SIZE - Long.numberOfLeadingZeros(f));
+        if (f >= POW10[length]) {
+            length++;
+        }
+
+        // the value is now 0.digits * 10^exponent
+        final int exponent = e + length;
+
+        long digits = f;
+        while (0 == digits % 10) {
+            digits = digits / 10;
+            length--;
+        }
+
+        int i = offset;
+
+        if (0 < exponent && exponent <= 7) {
+            // plain without leading zeros
+            i = this.putDigits(digits, length, 0, Math.min(exponent, length), chars, i, appendable);
+            for (int z = length; z < exponent; z++) {
+                i = put(this.zeroDigit, chars, i, appendable);
+            }
+            i = put(this.decimalSeparator, chars, i, appendable);
+            i = exponent < length ?
+                this.putDigits(digits, length, exponent, length, chars, i, appendable) :
+                put(this.zeroDigit, chars, i, appendable);
+        } else {
+            if (-3 < exponent && exponent <= 0) {
+                // plain with leading zeros
+                i = put(this.zeroDigit, chars, i, appendable);
+                i = put(this.decimalSeparator, chars, i, appendable);
+                for (int z = exponent; z < 0; z++) {
+                    i = put(this.zeroDigit, chars, i, appendable);
+                }
+                i = this.putDigits(digits, length, 0, length, chars, i, appendable);
+            } else {
+                // scientific
+                i = this.putDigits(digits, length, 0, 1, chars, i, appendable);
+                i = put(this.decimalSeparator, chars, i, appendable);
+                i = 1 < length ?
+                    this.putDigits(digits, length, 1, length, chars, i, appendable) :
+                    put(this.zeroDigit, chars, i, appendable);
+                i = put(this.exponentSymbol, chars, i, appendable);
+
+                int value = exponent - 1;
+                if (value < 0) {
+                    i = put(this.negativeSign, chars, i, appendable);
+                    value = -value;
+                }
+                if (value >= 100) {
+                    i = put((char) (this.zeroDigit + value / 100), chars, i, appendable);
+                }
+                if (value >= 10) {
+                    i = put((char) (this.zeroDigit + value / 10 % 10), chars, i, appendable);
+                }
+                i = put((char) (this.zeroDigit + value % 10), chars, i, appendable);
+            }
+        }
+
+        return i;
+    }
+
+    /**
+     * Writes the digits from index to before end, where index 0 is the most significant of length digits.
+     */
+    private int putDigits(final long digits,
+                          final int length,
+                          final int from,
+                          final int to,
+                          final char[] chars,
+                          final int offset,
+                          final Appendable appendable) throws IOException {
+        final char zeroDigit = this.zeroDigit;
+        int i = offset;
+
+        for (int d = from; d < to; d++) {
+            i = put(
+                (char) (zeroDigit + digits / POW10[length - 1 - d] % 10),
+                chars,
+                i,
+                appendable
+            );
+        }
+
+        return i;
+    }
+
+    private static int put(final char c,
+                           final char[] chars,
+                           final int offset,
+                           final Appendable appendable) throws IOException {
+        if (null != chars) {
+            chars[offset] = c;
+        } else {
+            appendable.append(c);
+        }
+        return offset + 1;
+    }
+
+    private static int put(final String text,
+                           final char[] chars,
+                           final int offset,
+                           final Appendable appendable) throws IOException {
+        final int length = text.length();
+
+        if (null != chars) {
+            text.getChars(0, length, chars, offset);
+        } else {
+            appendable.append(text);
+        }
+        return offset + length;
+    }
+
+    // constants........................................................................................................
+
+    /**
+     * The precision of a double in bits.
+     */
+    private final static int P = 53;
+
+    private final static int W = (Double.SIZE - 1) - (P - 1);
+
+    private final static int Q_MIN = (-1 << (W - 1)) - P + 3;
+
+    private final static int Q_MAX = (1 << (W - 1)) - P;
+
+    private final static int K_MIN = flog10pow2(Q_MIN);
+
+    private final static int K_MAX = flog10pow2(Q_MAX);
+
+    private final static long C_MIN = 1L << (P - 1);
+
+    private final static int BQ_MASK = (1 << W) - 1;
+
+    private final static long T_MASK = (1L << (P - 1)) - 1;
+
+    /**
+     * Subnormals with a significand below this have too few digits and are scaled by 10.
+     */
+    private final static long C_TINY = 3;
+
+    private final static long MASK_63 = (1L << 63) - 1;
+
+    private final static long[] POW10 = {
+        1L,
+        10L,
+        100L,
+        1_000L,
+        10_000L,
+        100_000L,
+        1_000_000L,
+        10_000_000L,
+        100_000_000L,
+        1_000_000_000L,
+        10_000_000_000L,
+        100_000_000_000L,
+        1_000_000_000_000L,
+        10_000_000_000_000L,
+        100_000_000_000_000L,
+        1_000_000_000_000_000L,
+        10_000_000_000_000_000L,
+        100_000_000_000_000_000L,
+        1_000_000_000_000_000_000L
+    };
+
+    /**
+     * For each k between {@link #K_MIN} and {@link #K_MAX} holds the high and low 63 bits of g, where
+     * 10^-k = beta * 2^r with 2^125 <= beta < 2^126 and g = floor(beta) + 1.
+     */
+    private final static long[] G = g();
+
+    private static long[] g() {
+        final long[] g = new long[(K_MAX - K_MIN + 1) << 1];
+
+        final BigInteger mask63 = BigInteger.valueOf(MASK_63);
+
+        for (int k = K_MIN; k <= K_MAX; k++) {
+            final int e = -k;
+            final int r = flog2pow10(e) - 125;
+
+            BigInteger numerator = e >= 0 ?
+                BigInteger.TEN.pow(e) :
+                BigInteger.ONE;
+            BigInteger denominator = e >= 0 ?
+                BigInteger.ONE :
+                BigInteger.TEN.pow(-e);
+            if (r >= 0) {
+                denominator = denominator.shiftLeft(r);
+            } else {
+                numerator = numerator.shiftLeft(-r);
+            }
+
+            final BigInteger beta = numerator.divide(denominator)
+                .add(BigInteger.ONE);
+            final int index = (k - K_MIN) << 1;
+            g[index] = beta.shiftRight(63).longValue();
+            g[index + 1] = beta.and(mask63).longValue();
+        }
+
+        return g;
+    }
+
+    /**
+     * floor(e * log10(2))
+     */
+    private static int flog10pow2(final int e) {
+        return (int) (e * 661_971_961_083L >> 41);
+    }
+
+    /**
+     * floor(e * log10(2) + log10(3/4))
+     */
+    private static int flog10threeQuartersPow2(final int e) {
+        return (int) (e * 661_971_961_083L + -274_743_187_321L >> 41);
+    }
+
+    /**
+     * floor(e * log2(10))
+     */
+    private static int flog2pow10(final int e) {
+        return (int) (e * 913_124_641_741L >> 38);
+    }
+
+    // symbols..........................................................................................................
+
+    private final DecimalNumberSymbolsLike symbols;
+
+    private final char zeroDigit;
+
+    private final char negativeSign;
+
+    private final char decimalSeparator;
+
+    private final String exponentSymbol;
+
+    private final String infinitySymbol;
+
+    private final String nanSymbol;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.symbols.toString();
+    }
+}
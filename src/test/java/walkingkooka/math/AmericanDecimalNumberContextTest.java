@@ -103,6 +103,13 @@ public final class AmericanDecimalNumberContextTest implements ClassTesting2<Ame
         );
     }
 
+    @Test
+    public void testSymbolsAllocateNothing() {
+        this.symbolsAllocateNothingAndCheck(
+            this.createContext()
+        );
+    }
+
     @Test
     public void testToString() {
         this.toStringAndCheck(
@@ -122,6 +122,13 @@ public final class BasicDecimalNumberContextTest implements ClassTesting2<BasicD
         this.hasMathContextAndCheck(context, MATH_CONTEXT);
     }
 
+    @Test
+    public void testSymbolsAllocateNothing() {
+        this.symbolsAllocateNothingAndCheck(
+            this.createContext()
+        );
+    }
+
     @Test
     public void testToString() {
         this.toStringAndCheck(
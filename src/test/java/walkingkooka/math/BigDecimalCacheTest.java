@@ -0,0 +1,306 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class BigDecimalCacheTest implements ClassTesting2<BigDecimalCache>,
+    ToStringTesting<BigDecimalCache> {
+
+    // with.............................................................................................................
+
+    @Test
+    public void testWithMinGreaterThanMaxFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> BigDecimalCache.with(
+                2,
+                1,
+                false
+            )
+        );
+        this.checkEquals(
+            "Invalid range min 2 > max 1",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testWithTooManyValuesFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> BigDecimalCache.with(
+                0,
+                BigDecimalCache.MAX_SIZE,
+                false
+            )
+        );
+        this.checkEquals(
+            "Invalid range 0..65536 more than 65536 values",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testWithHugeRangeFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> BigDecimalCache.with(
+                Long.MIN_VALUE,
+                Long.MAX_VALUE,
+                false
+            )
+        );
+    }
+
+    @Test
+    public void testWith() {
+        final BigDecimalCache cache = BigDecimalCache.with(
+            -5,
+            5,
+            true
+        );
+        this.checkEquals(-5L, cache.min(), "min");
+        this.checkEquals(5L, cache.max(), "max");
+        this.checkEquals(true, cache.metrics(), "metrics");
+    }
+
+    @Test
+    public void testWithMaxSize() {
+        final BigDecimalCache cache = BigDecimalCache.with(
+            0,
+            BigDecimalCache.MAX_SIZE - 1,
+            false
+        );
+        this.checkEquals((long) BigDecimalCache.MAX_SIZE - 1, cache.max(), "max");
+    }
+
+    @Test
+    public void testDefault() {
+        final BigDecimalCache cache = BigDecimalCache.DEFAULT;
+        this.checkEquals(-1024L, cache.min(), "min");
+        this.checkEquals(1024L, cache.max(), "max");
+    }
+
+    @Test
+    public void testDefaultMaxMissing() {
+        this.defaultMaxAndCheck(
+            null,
+            BigDecimalCache.DEFAULT_MAX
+        );
+    }
+
+    @Test
+    public void testDefaultMaxInvalid() {
+        this.defaultMaxAndCheck(
+            "abc",
+            BigDecimalCache.DEFAULT_MAX
+        );
+    }
+
+    @Test
+    public void testDefaultMaxNegative() {
+        this.defaultMaxAndCheck(
+            "-1",
+            BigDecimalCache.DEFAULT_MAX
+        );
+    }
+
+    @Test
+    public void testDefaultMaxTooLarge() {
+        this.defaultMaxAndCheck(
+            String.valueOf(BigDecimalCache.MAX_SIZE / 2),
+            BigDecimalCache.DEFAULT_MAX
+        );
+    }
+
+    @Test
+    public void testDefaultMaxZero() {
+        this.defaultMaxAndCheck(
+            "0",
+            0
+        );
+    }
+
+    @Test
+    public void testDefaultMax() {
+        this.defaultMaxAndCheck(
+            String.valueOf(BigDecimalCache.MAX_SIZE / 2 - 1),
+            BigDecimalCache.MAX_SIZE / 2 - 1
+        );
+    }
+
+    private void defaultMaxAndCheck(final String value,
+                                    final long expected) {
+        this.checkEquals(
+            expected,
+            BigDecimalCache.defaultMax(value),
+            () -> "defaultMax " + value
+        );
+    }
+
+    // valueOf..........................................................................................................
+
+    @Test
+    public void testValueOfMin() {
+        this.valueOfCachedAndCheck(-1000);
+    }
+
+    @Test
+    public void testValueOfZero() {
+        this.valueOfCachedAndCheck(0);
+    }
+
+    @Test
+    public void testValueOfMax() {
+        this.valueOfCachedAndCheck(1000);
+    }
+
+    private void valueOfCachedAndCheck(final long value) {
+        final BigDecimalCache cache = this.createCache();
+        final BigDecimal bigDecimal = cache.valueOf(value);
+
+        this.checkEquals(
+            BigDecimal.valueOf(value),
+            bigDecimal
+        );
+        assertSame(
+            bigDecimal,
+            cache.valueOf(value)
+        );
+    }
+
+    @Test
+    public void testValueOfBelowMin() {
+        this.valueOfNotCachedAndCheck(-1001);
+    }
+
+    @Test
+    public void testValueOfAboveMax() {
+        this.valueOfNotCachedAndCheck(1001);
+    }
+
+    @Test
+    public void testValueOfLongMin() {
+        this.valueOfNotCachedAndCheck(Long.MIN_VALUE);
+    }
+
+    @Test
+    public void testValueOfLongMax() {
+        this.valueOfNotCachedAndCheck(Long.MAX_VALUE);
+    }
+
+    private void valueOfNotCachedAndCheck(final long value) {
+        final BigDecimalCache cache = this.createCache();
+        final BigDecimal bigDecimal = cache.valueOf(value);
+
+        this.checkEquals(
+            BigDecimal.valueOf(value),
+            bigDecimal
+        );
+        assertNotSame(
+            bigDecimal,
+            cache.valueOf(value)
+        );
+    }
+
+    // metrics..........................................................................................................
+
+    @Test
+    public void testHitCountMissCountHitRate() {
+        final BigDecimalCache cache = this.createCache();
+
+        cache.valueOf(1);
+        cache.valueOf(2);
+        cache.valueOf(3);
+        cache.valueOf(9999);
+
+        this.checkEquals(3L, cache.hitCount(), "hitCount");
+        this.checkEquals(1L, cache.missCount(), "missCount");
+        this.checkEquals(0.75, cache.hitRate(), "hitRate");
+    }
+
+    @Test
+    public void testHitRateNothingCounted() {
+        this.checkEquals(
+            0.0,
+            this.createCache()
+                .hitRate()
+        );
+    }
+
+    @Test
+    public void testMetricsDisabled() {
+        final BigDecimalCache cache = BigDecimalCache.with(
+            -1000,
+            1000,
+            false
+        );
+
+        cache.valueOf(1);
+        cache.valueOf(9999);
+
+        this.checkEquals(0L, cache.hitCount(), "hitCount");
+        this.checkEquals(0L, cache.missCount(), "missCount");
+        this.checkEquals(0.0, cache.hitRate(), "hitRate");
+    }
+
+    private BigDecimalCache createCache() {
+        return BigDecimalCache.with(
+            -1000,
+            1000,
+            true
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        final BigDecimalCache cache = this.createCache();
+        cache.valueOf(1);
+        cache.valueOf(2);
+        cache.valueOf(9999);
+
+        this.toStringAndCheck(
+            cache,
+            "-1000..1000 hitCount=2 missCount=1"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<BigDecimalCache> type() {
+        return BigDecimalCache.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
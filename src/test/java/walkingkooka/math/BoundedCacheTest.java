@@ -0,0 +1,235 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class BoundedCacheTest implements ClassTesting2<BoundedCache<?, ?>>,
+    ToStringTesting<BoundedCache<String, String>> {
+
+    // with.............................................................................................................
+
+    @Test
+    public void testWithZeroMaxSizeFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> BoundedCache.with(0)
+        );
+        this.checkEquals(
+            "Invalid maxSize 0 < 1",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testWith() {
+        final BoundedCache<String, String> cache = BoundedCache.with(10);
+        this.checkEquals(10, cache.maxSize(), "maxSize");
+        this.checkEquals(0, cache.size(), "size");
+    }
+
+    // get..............................................................................................................
+
+    @Test
+    public void testGet() {
+        final BoundedCache<String, String> cache = BoundedCache.with(2);
+
+        final String value = new String("value1");
+        assertSame(
+            value,
+            cache.get(
+                "key1",
+                () -> value
+            )
+        );
+        assertSame(
+            value,
+            cache.get(
+                "key1",
+                () -> "value2"
+            )
+        );
+
+        this.checkEquals(1L, cache.hitCount(), "hitCount");
+        this.checkEquals(1L, cache.missCount(), "missCount");
+        this.checkEquals(0L, cache.evictionCount(), "evictionCount");
+    }
+
+    @Test
+    public void testGetFactoryFails() {
+        final BoundedCache<String, String> cache = BoundedCache.with(2);
+
+        assertThrows(
+            IllegalStateException.class,
+            () -> cache.get(
+                "key1",
+                () -> {
+                    throw new IllegalStateException();
+                }
+            )
+        );
+        this.checkEquals(0, cache.size(), "size");
+    }
+
+    @Test
+    public void testGetEvictsNotRecentlyUsed() {
+        final BoundedCache<String, String> cache = BoundedCache.with(2);
+
+        final String value1 = new String("value1");
+        cache.get("key1", () -> value1);
+        cache.get("key2", () -> "value2");
+
+        // key1 becomes recently used
+        cache.get("key1", () -> "!");
+        cache.get("key3", () -> "value3");
+
+        this.checkEquals(2, cache.size(), "size");
+        this.checkEquals(1L, cache.evictionCount(), "evictionCount");
+
+        assertSame(
+            value1,
+            cache.get("key1", () -> "!")
+        );
+        this.checkEquals(2L, cache.hitCount(), "hitCount");
+        this.checkEquals(3L, cache.missCount(), "missCount");
+    }
+
+    @Test
+    public void testGetEvictsAllUsed() {
+        final BoundedCache<String, String> cache = BoundedCache.with(1);
+
+        cache.get("key1", () -> "value1");
+        cache.get("key1", () -> "!");
+        cache.get("key2", () -> "value2");
+
+        this.checkEquals(1, cache.size(), "size");
+        this.checkEquals(1L, cache.evictionCount(), "evictionCount");
+        this.checkEquals(
+            "value2",
+            cache.get("key2", () -> "!")
+        );
+    }
+
+    @Test
+    public void testGetManyThreads() throws InterruptedException {
+        final BoundedCache<Integer, Integer> cache = BoundedCache.with(100);
+        final List<Thread> threads = new ArrayList<>();
+        final List<Throwable> failures = new ArrayList<>();
+
+        for (int t = 0; t < 4; t++) {
+            final Random random = new Random(t);
+
+            final Thread thread = new Thread(
+                () -> {
+                    for (int i = 0; i < 100_000; i++) {
+                        final Integer key = random.nextInt(300);
+                        if (false == key.equals(cache.get(key, () -> key))) {
+                            synchronized (failures) {
+                                failures.add(new AssertionError("Wrong value for " + key));
+                            }
+                            break;
+                        }
+                    }
+                }
+            );
+            threads.add(thread);
+            thread.start();
+        }
+
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        this.checkEquals(
+            0,
+            failures.size(),
+            () -> failures.toString()
+        );
+        this.checkEquals(
+            true,
+            cache.size() <= 100,
+            () -> "size " + cache.size()
+        );
+        this.checkEquals(400_000L, cache.hitCount() + cache.missCount(), "hitCount + missCount");
+    }
+
+    // putIfAbsent......................................................................................................
+
+    @Test
+    public void testPutIfAbsent() {
+        final BoundedCache<String, String> cache = BoundedCache.with(2);
+
+        final String value = new String("value1");
+        assertSame(
+            value,
+            cache.putIfAbsent(
+                "key1",
+                value
+            )
+        );
+        assertSame(
+            value,
+            cache.putIfAbsent(
+                "key1",
+                "value2"
+            )
+        );
+
+        this.checkEquals(1, cache.size(), "size");
+        this.checkEquals(0L, cache.hitCount(), "hitCount");
+        this.checkEquals(0L, cache.missCount(), "missCount");
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        final BoundedCache<String, String> cache = BoundedCache.with(1);
+        cache.get("key1", () -> "value1");
+        cache.get("key1", () -> "value1");
+        cache.get("key2", () -> "value2");
+
+        this.toStringAndCheck(
+            cache,
+            "size=1 maxSize=1 hitCount=1 missCount=2 evictionCount=1"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<BoundedCache<?, ?>> type() {
+        return Cast.to(BoundedCache.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
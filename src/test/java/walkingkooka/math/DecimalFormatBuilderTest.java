@@ -18,6 +18,7 @@
 package walkingkooka.math;
 
 import org.junit.jupiter.api.Test;
+import walkingkooka.build.BuilderException;
 import walkingkooka.build.BuilderTesting;
 import walkingkooka.text.HasTextTesting;
 
@@ -135,6 +136,19 @@ public final class DecimalFormatBuilderTest implements BuilderTesting<DecimalFor
         this.textAndCheck(b, "##;00");
     }
 
+    @Test
+    public void testNegativeSubPatternWithPrefixAndSuffix() {
+        final DecimalFormatBuilder b = DecimalFormatBuilder.empty()
+            .prefix("A")
+            .digit()
+            .suffix("B")
+            .negativeSubPattern()
+            .prefix("C")
+            .digit()
+            .suffix("D");
+        this.textAndCheck(b, "A#B;C#D");
+    }
+
     @Test
     public void testNegativeSubPatternTwiceFails() {
         final DecimalFormatBuilder b = DecimalFormatBuilder.empty()
@@ -326,6 +340,84 @@ public final class DecimalFormatBuilderTest implements BuilderTesting<DecimalFor
             "C12-D");
     }
 
+    @Test
+    public void testBuildTwice() {
+        final DecimalFormatBuilder builder = DecimalFormatBuilder.empty()
+            .prefix("A")
+            .digit()
+            .suffix("B");
+        builder.build();
+
+        this.buildAndFormat(
+            builder,
+            12,
+            "A12B"
+        );
+        this.textAndCheck(builder, "A#B");
+    }
+
+    // compile..........................................................................................................
+
+    @Test
+    public void testCompileEmptyFails() {
+        assertThrows(
+            BuilderException.class,
+            () -> DecimalFormatBuilder.empty()
+                .compile()
+        );
+    }
+
+    @Test
+    public void testCompile() {
+        final DecimalFormatBuilder builder = DecimalFormatBuilder.empty()
+            .prefix("A")
+            .digit()
+            .groupSeparator()
+            .digitOrZero()
+            .decimalSeparator()
+            .digitOrZero()
+            .suffix("B")
+            .locale(Locale.US);
+        final CompiledDecimalFormat format = builder.compile();
+
+        this.checkEquals(
+            FixedPointCompiledDecimalFormat.class,
+            format.getClass(),
+            "class"
+        );
+        this.checkEquals(
+            "A#,0.0B",
+            format.pattern(),
+            "pattern"
+        );
+        this.checkEquals(
+            "A1,2,3,4.5B",
+            format.format(1234.5)
+        );
+    }
+
+    @Test
+    public void testCompileExponent() {
+        final CompiledDecimalFormat format = DecimalFormatBuilder.empty()
+            .digitOrZero()
+            .decimalSeparator()
+            .digitOrZero()
+            .exponent()
+            .digitOrZero()
+            .locale(Locale.US)
+            .compile();
+
+        this.checkEquals(
+            DecimalFormatCompiledDecimalFormat.class,
+            format.getClass(),
+            "class"
+        );
+        this.checkEquals(
+            "1.2E3",
+            format.format(1234L)
+        );
+    }
+
     private void buildAndFormat(final DecimalFormatBuilder builder,
                                 final Number number,
                                 final String text) {
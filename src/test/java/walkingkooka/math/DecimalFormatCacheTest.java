@@ -0,0 +1,268 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.build.BuilderException;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.math.RoundingMode;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class DecimalFormatCacheTest implements ClassTesting2<DecimalFormatCache>,
+    ToStringTesting<DecimalFormatCache> {
+
+    // with.............................................................................................................
+
+    @Test
+    public void testWithZeroMaxSizeFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> DecimalFormatCache.with(0)
+        );
+        this.checkEquals(
+            "Invalid maxSize 0 < 1",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testWith() {
+        final DecimalFormatCache cache = DecimalFormatCache.with(10);
+        this.checkEquals(10, cache.maxSize(), "maxSize");
+        this.checkEquals(0, cache.size(), "size");
+    }
+
+    // get..............................................................................................................
+
+    @Test
+    public void testGetNullBuilderFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> DecimalFormatCache.with(1)
+                .get(null)
+        );
+    }
+
+    @Test
+    public void testGetEmptyPatternFails() {
+        assertThrows(
+            BuilderException.class,
+            () -> DecimalFormatCache.with(1)
+                .get(DecimalFormatBuilder.empty())
+        );
+    }
+
+    @Test
+    public void testGet() {
+        final CompiledDecimalFormat format = DecimalFormatCache.with(1)
+            .get(money());
+
+        this.checkEquals(
+            "$#,##0.00",
+            format.pattern(),
+            "pattern"
+        );
+        this.checkEquals(
+            "$1,234.50",
+            format.format(1234.5)
+        );
+    }
+
+    @Test
+    public void testGetCached() {
+        final DecimalFormatCache cache = DecimalFormatCache.with(2);
+
+        final CompiledDecimalFormat format = cache.get(money());
+        assertSame(
+            format,
+            cache.get(money())
+        );
+
+        this.checkEquals(1L, cache.hitCount(), "hitCount");
+        this.checkEquals(1L, cache.missCount(), "missCount");
+        this.checkEquals(0L, cache.evictionCount(), "evictionCount");
+    }
+
+    @Test
+    public void testGetDifferentLocale() {
+        this.getDifferentAndCheck(
+            money()
+                .locale(Locale.FRANCE)
+        );
+    }
+
+    @Test
+    public void testGetWithoutLocaleAfterDefaultLocaleChanged() {
+        final Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+
+        try {
+            final DecimalFormatCache cache = DecimalFormatCache.with(2);
+
+            Locale.setDefault(Locale.Category.FORMAT, Locale.US);
+            this.checkEquals(
+                "1,234.50",
+                cache.get(withoutLocale())
+                    .format(1234.5)
+            );
+
+            Locale.setDefault(Locale.Category.FORMAT, Locale.GERMANY);
+            this.checkEquals(
+                "1.234,50",
+                cache.get(withoutLocale())
+                    .format(1234.5)
+            );
+
+            this.checkEquals(0L, cache.hitCount(), "hitCount");
+            this.checkEquals(2L, cache.missCount(), "missCount");
+        } finally {
+            Locale.setDefault(Locale.Category.FORMAT, locale);
+        }
+    }
+
+    private static DecimalFormatBuilder withoutLocale() {
+        return DecimalFormatBuilder.empty()
+            .digit()
+            .groupSeparator()
+            .digit()
+            .digit()
+            .digitOrZero()
+            .decimalSeparator()
+            .digitOrZero()
+            .digitOrZero();
+    }
+
+    @Test
+    public void testGetDifferentGroupingSize() {
+        this.getDifferentAndCheck(
+            money()
+                .groupingSize(2)
+        );
+    }
+
+    @Test
+    public void testGetDifferentRoundingMode() {
+        this.getDifferentAndCheck(
+            money()
+                .roundingMode(RoundingMode.UP)
+        );
+    }
+
+    @Test
+    public void testGetDifferentPattern() {
+        this.getDifferentAndCheck(
+            money()
+                .digitOrZero()
+        );
+    }
+
+    private void getDifferentAndCheck(final DecimalFormatBuilder builder) {
+        final DecimalFormatCache cache = DecimalFormatCache.with(2);
+
+        assertNotSame(
+            cache.get(money()),
+            cache.get(builder)
+        );
+
+        this.checkEquals(0L, cache.hitCount(), "hitCount");
+        this.checkEquals(2L, cache.missCount(), "missCount");
+        this.checkEquals(2, cache.size(), "size");
+    }
+
+    @Test
+    public void testGetEvictsLeastRecentlyUsed() {
+        final DecimalFormatCache cache = DecimalFormatCache.with(2);
+
+        final CompiledDecimalFormat money = cache.get(money());
+        cache.get(percent());
+
+        // money becomes the most recently used
+        cache.get(money());
+
+        cache.get(
+            DecimalFormatBuilder.empty()
+                .digitOrZero()
+        );
+
+        this.checkEquals(2, cache.size(), "size");
+        this.checkEquals(1L, cache.evictionCount(), "evictionCount");
+
+        assertSame(
+            money,
+            cache.get(money())
+        );
+        this.checkEquals(2L, cache.hitCount(), "hitCount");
+
+        cache.get(percent());
+        this.checkEquals(4L, cache.missCount(), "missCount");
+        this.checkEquals(2L, cache.evictionCount(), "evictionCount");
+    }
+
+    private static DecimalFormatBuilder money() {
+        return DecimalFormatBuilder.empty()
+            .prefix("$")
+            .digit()
+            .groupSeparator()
+            .digit()
+            .digit()
+            .digitOrZero()
+            .decimalSeparator()
+            .digitOrZero()
+            .digitOrZero()
+            .locale(Locale.US);
+    }
+
+    private static DecimalFormatBuilder percent() {
+        return DecimalFormatBuilder.empty()
+            .digitOrZero()
+            .percentage();
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        final DecimalFormatCache cache = DecimalFormatCache.with(1);
+        cache.get(money());
+        cache.get(money());
+        cache.get(percent());
+
+        this.toStringAndCheck(
+            cache,
+            "size=1 maxSize=1 hitCount=1 missCount=2 evictionCount=1"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<DecimalFormatCache> type() {
+        return DecimalFormatCache.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
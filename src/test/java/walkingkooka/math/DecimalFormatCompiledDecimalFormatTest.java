@@ -0,0 +1,135 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class DecimalFormatCompiledDecimalFormatTest implements ClassTesting2<DecimalFormatCompiledDecimalFormat>,
+    ToStringTesting<DecimalFormatCompiledDecimalFormat> {
+
+    private final static String PATTERN = "#,##0.00";
+
+    @Test
+    public void testWithNullPatternFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> DecimalFormatCompiledDecimalFormat.with(
+                null,
+                new DecimalFormat(PATTERN)
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullDecimalFormatFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> DecimalFormatCompiledDecimalFormat.with(
+                PATTERN,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testFormatLong() {
+        this.checkEquals(
+            "1,234.00",
+            this.createFormat()
+                .format(1234L)
+        );
+    }
+
+    @Test
+    public void testFormatDouble() {
+        this.checkEquals(
+            "-1,234.57",
+            this.createFormat()
+                .format(-1234.567)
+        );
+    }
+
+    @Test
+    public void testFormatBigDecimal() {
+        this.checkEquals(
+            "12,345,678,901,234,567,890.12",
+            this.createFormat()
+                .format(new BigDecimal("12345678901234567890.123"))
+        );
+    }
+
+    @Test
+    public void testFormatNullBigDecimalFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createFormat()
+                .format(null)
+        );
+    }
+
+    @Test
+    public void testPattern() {
+        this.checkEquals(
+            PATTERN,
+            this.createFormat()
+                .pattern()
+        );
+    }
+
+    private DecimalFormatCompiledDecimalFormat createFormat() {
+        return DecimalFormatCompiledDecimalFormat.with(
+            PATTERN,
+            new DecimalFormat(
+                PATTERN,
+                DecimalFormatSymbols.getInstance(Locale.US)
+            )
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createFormat(),
+            PATTERN
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<DecimalFormatCompiledDecimalFormat> type() {
+        return DecimalFormatCompiledDecimalFormat.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -17,6 +17,7 @@
 
 package walkingkooka.math;
 
+import org.junit.jupiter.api.Test;
 import walkingkooka.math.DecimalNumberContextDelegatorTest.TestDecimalNumberContextDelegator;
 
 import java.math.MathContext;
@@ -29,6 +30,13 @@ public final class DecimalNumberContextDelegatorTest implements DecimalNumberCon
         throw new UnsupportedOperationException();
     }
 
+    @Test
+    public void testSymbolsAllocateNothing() {
+        this.symbolsAllocateNothingAndCheck(
+            this.createContext()
+        );
+    }
+
     @Override
     public TestDecimalNumberContextDelegator createContext() {
         return new TestDecimalNumberContextDelegator();
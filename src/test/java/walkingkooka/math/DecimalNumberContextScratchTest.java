@@ -0,0 +1,276 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.math.MathContext;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class DecimalNumberContextScratchTest implements AllocationTesting,
+    ClassTesting2<DecimalNumberContextScratch>,
+    ToStringTesting<DecimalNumberContextScratch> {
+
+    // current..........................................................................................................
+
+    @Test
+    public void testCurrentSameThreadSame() {
+        assertSame(
+            DecimalNumberContextScratch.current(),
+            DecimalNumberContextScratch.current()
+        );
+    }
+
+    @Test
+    public void testCurrentDifferentThreadDifferent() throws InterruptedException {
+        final AtomicReference<DecimalNumberContextScratch> other = new AtomicReference<>();
+
+        final Thread thread = new Thread(() -> other.set(DecimalNumberContextScratch.current()));
+        thread.start();
+        thread.join();
+
+        assertNotSame(
+            DecimalNumberContextScratch.current(),
+            other.get()
+        );
+    }
+
+    // get..............................................................................................................
+
+    @Test
+    public void testGetNullContextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> DecimalNumberContextScratch.get(null)
+        );
+    }
+
+    @Test
+    public void testGetSameAsCurrent() {
+        final DecimalNumberContext context = DecimalNumberContexts.american(MathContext.DECIMAL32);
+
+        final DecimalNumberContextScratch scratch = DecimalNumberContextScratch.get(context);
+        assertSame(
+            DecimalNumberContextScratch.current(),
+            scratch
+        );
+        this.checkEquals(
+            true,
+            scratch.text(0).length >= DecimalNumberContextScratch.textLength(context),
+            () -> scratch.toString()
+        );
+    }
+
+    @Test
+    public void testTextLengthDecimalNumberDigitCount() {
+        this.textLengthAndCheck(
+            100,
+            MathContext.DECIMAL32,
+            100 * 2 + 2 + DecimalNumberContextScratch.EXPONENT_LENGTH
+        );
+    }
+
+    @Test
+    public void testTextLengthPrecision() {
+        this.textLengthAndCheck(
+            9,
+            MathContext.DECIMAL128,
+            34 * 2 + 2 + DecimalNumberContextScratch.EXPONENT_LENGTH
+        );
+    }
+
+    @Test
+    public void testTextLengthUnlimitedPrecision() {
+        this.textLengthAndCheck(
+            9,
+            MathContext.UNLIMITED,
+            9 * 2 + 2 + DecimalNumberContextScratch.EXPONENT_LENGTH
+        );
+    }
+
+    @Test
+    public void testTextLengthMax() {
+        this.textLengthAndCheck(
+            Integer.MAX_VALUE,
+            MathContext.DECIMAL32,
+            DecimalNumberContextScratch.MAX_TEXT_LENGTH
+        );
+    }
+
+    private void textLengthAndCheck(final int decimalNumberDigitCount,
+                                    final MathContext mathContext,
+                                    final int expected) {
+        this.checkEquals(
+            expected,
+            DecimalNumberContextScratch.textLength(
+                DecimalNumberContexts.basic(
+                    decimalNumberDigitCount,
+                    DecimalNumberContexts.american(mathContext)
+                        .decimalNumberSymbols(),
+                    Locale.US,
+                    mathContext
+                )
+            ),
+            () -> "textLength " + decimalNumberDigitCount + " " + mathContext
+        );
+    }
+
+    // text.............................................................................................................
+
+    @Test
+    public void testTextNegativeLengthFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> new DecimalNumberContextScratch()
+                .text(-1)
+        );
+        this.checkEquals(
+            "Invalid length -1 < 0",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testTextShorterSame() {
+        final DecimalNumberContextScratch scratch = new DecimalNumberContextScratch();
+        final char[] text = scratch.text(0);
+
+        this.checkEquals(DecimalNumberContextScratch.TEXT_LENGTH, text.length, "length");
+        assertSame(
+            text,
+            scratch.text(1)
+        );
+    }
+
+    @Test
+    public void testTextLongerGrows() {
+        final DecimalNumberContextScratch scratch = new DecimalNumberContextScratch();
+        final char[] text = scratch.text(DecimalNumberContextScratch.MAX_TEXT_LENGTH);
+
+        this.checkEquals(DecimalNumberContextScratch.MAX_TEXT_LENGTH, text.length, "length");
+        assertSame(
+            text,
+            scratch.text(1),
+            "text"
+        );
+    }
+
+    @Test
+    public void testTextAboveMaxNotKept() {
+        final DecimalNumberContextScratch scratch = new DecimalNumberContextScratch();
+        final char[] text = scratch.text(1);
+
+        final char[] large = scratch.text(DecimalNumberContextScratch.MAX_TEXT_LENGTH + 1);
+        this.checkEquals(DecimalNumberContextScratch.MAX_TEXT_LENGTH + 1, large.length, "length");
+
+        assertSame(
+            text,
+            scratch.text(1),
+            "text"
+        );
+        this.toStringAndCheck(
+            scratch,
+            "text=" + DecimalNumberContextScratch.TEXT_LENGTH
+        );
+    }
+
+    // allocation.......................................................................................................
+
+    @Test
+    public void testTextAllocatesNothingManyThreads() throws Throwable {
+        // skip in this thread, a skip or failure in a worker only ends that thread
+        this.threadAllocatedMemoryMXBean();
+
+        final int threadCount = 4;
+
+        final double[] allocated = new double[threadCount];
+        final Throwable[] thrown = new Throwable[threadCount];
+        final Thread[] threads = new Thread[threadCount];
+
+        for (int t = 0; t < threadCount; t++) {
+            final int index = t;
+            threads[t] = new Thread(() -> {
+                try {
+                    allocated[index] = this.allocatedBytesPerCall(DecimalNumberContextScratchTest::useScratch);
+                } catch (final Throwable cause) {
+                    thrown[index] = cause;
+                }
+            });
+            threads[t].start();
+        }
+
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        for (final Throwable cause : thrown) {
+            if (null != cause) {
+                throw cause;
+            }
+        }
+
+        for (int t = 0; t < threadCount; t++) {
+            final double bytes = allocated[t];
+
+            // less than one byte per call leaves room for the measurement itself
+            this.checkEquals(
+                true,
+                bytes < 1,
+                () -> "thread allocated " + bytes + " bytes per call"
+            );
+        }
+    }
+
+    private static void useScratch() {
+        DecimalNumberContextScratch.current()
+            .text(100)[0] = ',';
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        final DecimalNumberContextScratch scratch = new DecimalNumberContextScratch();
+        scratch.text(100);
+
+        this.toStringAndCheck(
+            scratch,
+            "text=100"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<DecimalNumberContextScratch> type() {
+        return DecimalNumberContextScratch.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
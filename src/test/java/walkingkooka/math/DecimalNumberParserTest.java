@@ -0,0 +1,796 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.text.ParsePosition;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class DecimalNumberParserTest implements ClassTesting2<DecimalNumberParser>,
+    ToStringTesting<DecimalNumberParser> {
+
+    private final static DecimalNumberSymbols SYMBOLS = DecimalNumberSymbols.with(
+        '-',
+        '+',
+        '0',
+        "AUD",
+        '.',
+        "E",
+        ',',
+        "INFINITY",
+        '*',
+        "NAN",
+        '%',
+        '^'
+    );
+
+    // with.............................................................................................................
+
+    @Test
+    public void testWithNullSymbolsFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> DecimalNumberParser.with(null)
+        );
+    }
+
+    // range............................................................................................................
+
+    @Test
+    public void testParseLongNullTextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createParser()
+                .parseLong(
+                    null,
+                    0,
+                    0,
+                    new ParsePosition(0)
+                )
+        );
+    }
+
+    @Test
+    public void testParseLongNullParsePositionFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createParser()
+                .parseLong(
+                    "1",
+                    0,
+                    1,
+                    null
+                )
+        );
+    }
+
+    @Test
+    public void testParseDoubleEndBeforeStartFails() {
+        final IndexOutOfBoundsException thrown = assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createParser()
+                .parseDouble(
+                    "123",
+                    2,
+                    1,
+                    new ParsePosition(0)
+                )
+        );
+        this.checkEquals(
+            "Invalid range 2..1 for text length 3",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testParseBigDecimalEndAfterTextFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createParser()
+                .parseBigDecimal(
+                    "123",
+                    0,
+                    4,
+                    new ParsePosition(0)
+                )
+        );
+    }
+
+    // parseLong........................................................................................................
+
+    @Test
+    public void testParseLongZero() {
+        this.parseLongAndCheck(
+            "0",
+            0
+        );
+    }
+
+    @Test
+    public void testParseLongPositiveSign() {
+        this.parseLongAndCheck(
+            "+123",
+            123
+        );
+    }
+
+    @Test
+    public void testParseLongNegative() {
+        this.parseLongAndCheck(
+            "-123",
+            -123
+        );
+    }
+
+    @Test
+    public void testParseLongGroupSeparators() {
+        this.parseLongAndCheck(
+            "1,234,567",
+            1234567
+        );
+    }
+
+    @Test
+    public void testParseLongMaxValue() {
+        this.parseLongAndCheck(
+            "9223372036854775807",
+            Long.MAX_VALUE
+        );
+    }
+
+    @Test
+    public void testParseLongMinValue() {
+        this.parseLongAndCheck(
+            "-9223372036854775808",
+            Long.MIN_VALUE
+        );
+    }
+
+    @Test
+    public void testParseLongRange() {
+        final ParsePosition position = new ParsePosition(0);
+
+        this.checkEquals(
+            456L,
+            this.createParser()
+                .parseLong(
+                    "123456789",
+                    3,
+                    6,
+                    position
+                )
+        );
+        this.checkEquals(
+            6,
+            position.getIndex(),
+            "index"
+        );
+    }
+
+    private void parseLongAndCheck(final String text,
+                                   final long expected) {
+        final ParsePosition position = new ParsePosition(0);
+
+        this.checkEquals(
+            expected,
+            this.createParser()
+                .parseLong(
+                    text,
+                    0,
+                    text.length(),
+                    position
+                ),
+            () -> "parseLong " + text
+        );
+        this.checkParsePosition(
+            text.length(),
+            -1,
+            position
+        );
+    }
+
+    @Test
+    public void testParseLongEmptyFails() {
+        this.parseLongFails(
+            "",
+            0
+        );
+    }
+
+    @Test
+    public void testParseLongSignOnlyFails() {
+        this.parseLongFails(
+            "-",
+            1
+        );
+    }
+
+    @Test
+    public void testParseLongLeadingGroupSeparatorFails() {
+        this.parseLongFails(
+            ",1",
+            0
+        );
+    }
+
+    @Test
+    public void testParseLongTwoGroupSeparatorsFails() {
+        this.parseLongFails(
+            "1,,2",
+            1
+        );
+    }
+
+    @Test
+    public void testParseLongTrailingGroupSeparatorFails() {
+        this.parseLongFails(
+            "1,",
+            1
+        );
+    }
+
+    @Test
+    public void testParseLongDecimalSeparatorFails() {
+        this.parseLongFails(
+            "1.5",
+            1
+        );
+    }
+
+    @Test
+    public void testParseLongExponentFails() {
+        this.parseLongFails(
+            "1E5",
+            1
+        );
+    }
+
+    @Test
+    public void testParseLongInvalidCharacterFails() {
+        this.parseLongFails(
+            "12x",
+            2
+        );
+    }
+
+    @Test
+    public void testParseLongOverflowFails() {
+        this.parseLongFails(
+            "9223372036854775808",
+            18
+        );
+    }
+
+    @Test
+    public void testParseLongUnderflowFails() {
+        this.parseLongFails(
+            "-9223372036854775809",
+            19
+        );
+    }
+
+    private void parseLongFails(final String text,
+                                final int errorIndex) {
+        final ParsePosition position = new ParsePosition(0);
+
+        this.createParser()
+            .parseLong(
+                text,
+                0,
+                text.length(),
+                position
+            );
+        this.checkParsePosition(
+            0,
+            errorIndex,
+            position
+        );
+    }
+
+    // parseDouble......................................................................................................
+
+    @Test
+    public void testParseDoubleInteger() {
+        this.parseDoubleAndCheck(
+            "123",
+            123
+        );
+    }
+
+    @Test
+    public void testParseDoubleNegativeZero() {
+        this.parseDoubleAndCheck(
+            "-0",
+            -0.0
+        );
+    }
+
+    @Test
+    public void testParseDoubleDecimal() {
+        this.parseDoubleAndCheck(
+            "1,234.5",
+            1234.5
+        );
+    }
+
+    @Test
+    public void testParseDoubleFraction() {
+        this.parseDoubleAndCheck(
+            "0.1",
+            0.1
+        );
+    }
+
+    @Test
+    public void testParseDoubleExponent() {
+        this.parseDoubleAndCheck(
+            "1.25E-3",
+            1.25E-3
+        );
+    }
+
+    @Test
+    public void testParseDoublePositiveExponent() {
+        this.parseDoubleAndCheck(
+            "-1.5E+10",
+            -1.5E10
+        );
+    }
+
+    @Test
+    public void testParseDoublePercent() {
+        this.parseDoubleAndCheck(
+            "12.5%",
+            0.125
+        );
+    }
+
+    @Test
+    public void testParseDoublePermill() {
+        this.parseDoubleAndCheck(
+            "5^",
+            0.005
+        );
+    }
+
+    @Test
+    public void testParseDoubleManyDigits() {
+        this.parseDoubleAndCheck(
+            "3.14159265358979323846264338327950288",
+            Math.PI
+        );
+    }
+
+    @Test
+    public void testParseDoubleLargeExponent() {
+        this.parseDoubleAndCheck(
+            "1.7976931348623157E308",
+            Double.MAX_VALUE
+        );
+    }
+
+    @Test
+    public void testParseDoubleSmallest() {
+        this.parseDoubleAndCheck(
+            "4.9E-324",
+            Double.MIN_VALUE
+        );
+    }
+
+    @Test
+    public void testParseDoubleOverflowInfinity() {
+        this.parseDoubleAndCheck(
+            "1E99999999999",
+            Double.POSITIVE_INFINITY
+        );
+    }
+
+    @Test
+    public void testParseDoubleUnderflowZero() {
+        this.parseDoubleAndCheck(
+            "-1E-99999999999",
+            -0.0
+        );
+    }
+
+    @Test
+    public void testParseDoubleNan() {
+        this.parseDoubleAndCheck(
+            "NAN",
+            Double.NaN
+        );
+    }
+
+    @Test
+    public void testParseDoubleInfinity() {
+        this.parseDoubleAndCheck(
+            "INFINITY",
+            Double.POSITIVE_INFINITY
+        );
+    }
+
+    @Test
+    public void testParseDoubleNegativeInfinity() {
+        this.parseDoubleAndCheck(
+            "-INFINITY",
+            Double.NEGATIVE_INFINITY
+        );
+    }
+
+    @Test
+    public void testParseDoubleSameAsDoubleParseDouble() {
+        final String[] texts = {
+            "0.3",
+            "123456789012345.6",
+            "9007199254740993",
+            "2.2250738585072011E-308",
+            "1.00000000000000011102230246251565404236316680908203125",
+            "7.3177701707893310E+15",
+            "123E-30",
+            "0.000000000000000000000000000001"
+        };
+
+        for (final String text : texts) {
+            this.parseDoubleAndCheck(
+                text,
+                Double.parseDouble(text)
+            );
+        }
+    }
+
+    private void parseDoubleAndCheck(final String text,
+                                     final double expected) {
+        final ParsePosition position = new ParsePosition(0);
+
+        this.checkEquals(
+            expected,
+            this.createParser()
+                .parseDouble(
+                    text,
+                    0,
+                    text.length(),
+                    position
+                ),
+            () -> "parseDouble " + text
+        );
+        this.checkParsePosition(
+            text.length(),
+            -1,
+            position
+        );
+    }
+
+    @Test
+    public void testParseDoubleEmptyFails() {
+        this.parseDoubleFails(
+            "",
+            0
+        );
+    }
+
+    @Test
+    public void testParseDoubleMissingExponentDigitsFails() {
+        this.parseDoubleFails(
+            "1E+",
+            3
+        );
+    }
+
+    @Test
+    public void testParseDoubleTwoDecimalSeparatorsFails() {
+        this.parseDoubleFails(
+            "1.2.3",
+            3
+        );
+    }
+
+    @Test
+    public void testParseDoubleTwoGroupSeparatorsFails() {
+        this.parseDoubleFails(
+            "1,,2",
+            1
+        );
+    }
+
+    @Test
+    public void testParseDoubleTrailingGroupSeparatorFails() {
+        this.parseDoubleFails(
+            "1,",
+            1
+        );
+    }
+
+    @Test
+    public void testParseDoubleGroupSeparatorInFractionFails() {
+        this.parseDoubleFails(
+            "1.2,3",
+            3
+        );
+    }
+
+    @Test
+    public void testParseDoubleTwoPercentFails() {
+        this.parseDoubleFails(
+            "1%%",
+            2
+        );
+    }
+
+    @Test
+    public void testParseDoubleNegativeNanFails() {
+        this.parseDoubleFails(
+            "-NAN",
+            1
+        );
+    }
+
+    private void parseDoubleFails(final String text,
+                                  final int errorIndex) {
+        final ParsePosition position = new ParsePosition(0);
+
+        this.createParser()
+            .parseDouble(
+                text,
+                0,
+                text.length(),
+                position
+            );
+        this.checkParsePosition(
+            0,
+            errorIndex,
+            position
+        );
+    }
+
+    // parseBigDecimal..................................................................................................
+
+    @Test
+    public void testParseBigDecimalInteger() {
+        this.parseBigDecimalAndCheck(
+            "-1,234",
+            "-1234"
+        );
+    }
+
+    @Test
+    public void testParseBigDecimalKeepsScale() {
+        this.parseBigDecimalAndCheck(
+            "1.50",
+            "1.50"
+        );
+    }
+
+    @Test
+    public void testParseBigDecimalExponent() {
+        this.parseBigDecimalAndCheck(
+            "1.5E3",
+            "1.5E3"
+        );
+    }
+
+    @Test
+    public void testParseBigDecimalPercent() {
+        this.parseBigDecimalAndCheck(
+            "50%",
+            "0.50"
+        );
+    }
+
+    @Test
+    public void testParseBigDecimalPermill() {
+        this.parseBigDecimalAndCheck(
+            "1.5^",
+            "0.0015"
+        );
+    }
+
+    @Test
+    public void testParseBigDecimalManyDigits() {
+        this.parseBigDecimalAndCheck(
+            "-123,456,789,012,345,678,901,234.567890123456789",
+            "-123456789012345678901234.567890123456789"
+        );
+    }
+
+    @Test
+    public void testParseBigDecimalLongerThanScratch() {
+        final String digits = "1234567890".repeat(DecimalNumberContextScratch.MAX_TEXT_LENGTH / 10 + 1);
+
+        this.parseBigDecimalAndCheck(
+            digits + ".5",
+            digits + ".5"
+        );
+    }
+
+    @Test
+    public void testParseBigDecimalDecimalNumberContextSizesScratch() throws InterruptedException {
+        final DecimalNumberContext context = DecimalNumberContexts.american(MathContext.DECIMAL128);
+        final AtomicReference<String> scratch = new AtomicReference<>();
+
+        // a new thread has a new scratch
+        final Thread thread = new Thread(() -> {
+            DecimalNumberParser.with(context)
+                .parseBigDecimal(
+                    "12345678901234567",
+                    0,
+                    17,
+                    new ParsePosition(0)
+                );
+            scratch.set(
+                DecimalNumberContextScratch.current()
+                    .toString()
+            );
+        });
+        thread.start();
+        thread.join();
+
+        this.checkEquals(
+            "text=" + DecimalNumberContextScratch.textLength(context),
+            scratch.get()
+        );
+    }
+
+    @Test
+    public void testParseBigDecimalLargeExponent() {
+        this.parseBigDecimalAndCheck(
+            "1.25E-999",
+            "1.25E-999"
+        );
+    }
+
+    private void parseBigDecimalAndCheck(final String text,
+                                         final String expected) {
+        final ParsePosition position = new ParsePosition(0);
+
+        this.checkEquals(
+            new BigDecimal(expected),
+            this.createParser()
+                .parseBigDecimal(
+                    text,
+                    0,
+                    text.length(),
+                    position
+                ),
+            () -> "parseBigDecimal " + text
+        );
+        this.checkParsePosition(
+            text.length(),
+            -1,
+            position
+        );
+    }
+
+    @Test
+    public void testParseBigDecimalNanFails() {
+        this.parseBigDecimalFails(
+            "NAN",
+            0
+        );
+    }
+
+    @Test
+    public void testParseBigDecimalInfinityFails() {
+        this.parseBigDecimalFails(
+            "INFINITY",
+            0
+        );
+    }
+
+    @Test
+    public void testParseBigDecimalExponentOverflowFails() {
+        this.parseBigDecimalFails(
+            "1E99999999999",
+            1
+        );
+    }
+
+    @Test
+    public void testParseBigDecimalTwoGroupSeparatorsFails() {
+        this.parseBigDecimalFails(
+            "1,,2",
+            1
+        );
+    }
+
+    @Test
+    public void testParseBigDecimalTrailingGroupSeparatorFails() {
+        this.parseBigDecimalFails(
+            "1,",
+            1
+        );
+    }
+
+    @Test
+    public void testParseBigDecimalInvalidCharacterFails() {
+        this.parseBigDecimalFails(
+            "12.3x",
+            4
+        );
+    }
+
+    private void parseBigDecimalFails(final String text,
+                                      final int errorIndex) {
+        final ParsePosition position = new ParsePosition(0);
+
+        this.checkEquals(
+            null,
+            this.createParser()
+                .parseBigDecimal(
+                    text,
+                    0,
+                    text.length(),
+                    position
+                ),
+            () -> "parseBigDecimal " + text
+        );
+        this.checkParsePosition(
+            0,
+            errorIndex,
+            position
+        );
+    }
+
+    private DecimalNumberParser createParser() {
+        return DecimalNumberParser.with(SYMBOLS);
+    }
+
+    private void checkParsePosition(final int index,
+                                    final int errorIndex,
+                                    final ParsePosition position) {
+        this.checkEquals(
+            index,
+            position.getIndex(),
+            "index"
+        );
+        this.checkEquals(
+            errorIndex,
+            position.getErrorIndex(),
+            "errorIndex"
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createParser(),
+            SYMBOLS.toString()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<DecimalNumberParser> type() {
+        return DecimalNumberParser.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
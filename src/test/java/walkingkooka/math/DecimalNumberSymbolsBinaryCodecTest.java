@@ -0,0 +1,327 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.math;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.reflect.PublicStaticHelperTesting;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.math.MathContext;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.text.DecimalFormatSymbols;
+import java.util.Arrays;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class DecimalNumberSymbolsBinaryCodecTest implements PublicStaticHelperTesting<DecimalNumberSymbolsBinaryCodec> {
+
+    private final static DecimalNumberSymbols SYMBOLS = DecimalNumberSymbols.with(
+        '-',
+        '+',
+        '0',
+        "AUD",
+        '.',
+        "E",
+        ',',
+        "\u221e",
+        '.',
+        "NaN",
+        '%',
+        '\u2030'
+    );
+
+    // encode...........................................................................................................
+
+    @Test
+    public void testEncodeNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> DecimalNumberSymbolsBinaryCodec.encode(null)
+        );
+    }
+
+    @Test
+    public void testEncode() {
+        final byte[] bytes = DecimalNumberSymbolsBinaryCodec.encode(SYMBOLS);
+
+        this.checkEquals(
+            2 + 8 * 2 + (2 + 3 * 2) + (2 + 1 * 2) + (2 + 1 * 2) + (2 + 3 * 2),
+            bytes.length,
+            "length"
+        );
+        this.checkEquals(
+            DecimalNumberSymbolsBinaryCodec.VERSION,
+            bytes[0],
+            "version"
+        );
+        this.checkEquals(
+            (byte) 0,
+            bytes[1],
+            "wellKnown"
+        );
+    }
+
+    @Test
+    public void testEncodeWellKnown() {
+        this.checkEquals(
+            Arrays.toString(
+                new byte[]{
+                    DecimalNumberSymbolsBinaryCodec.VERSION,
+                    1
+                }
+            ),
+            Arrays.toString(
+                DecimalNumberSymbolsBinaryCodec.encode(
+                    DecimalNumberContexts.american(MathContext.DECIMAL32)
+                        .decimalNumberSymbols()
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testEncodeByteBufferIgnoresByteOrder() {
+        final ByteBuffer buffer = ByteBuffer.allocate(100)
+            .order(ByteOrder.LITTLE_ENDIAN);
+        DecimalNumberSymbolsBinaryCodec.encode(
+            SYMBOLS,
+            buffer
+        );
+
+        final byte[] bytes = DecimalNumberSymbolsBinaryCodec.encode(SYMBOLS);
+        this.checkEquals(
+            bytes.length,
+            buffer.position(),
+            "position"
+        );
+        this.checkEquals(
+            Arrays.toString(bytes),
+            Arrays.toString(
+                Arrays.copyOf(
+                    buffer.array(),
+                    bytes.length
+                )
+            )
+        );
+    }
+
+    // decode...........................................................................................................
+
+    @Test
+    public void testDecodeUnsupportedVersionFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> DecimalNumberSymbolsBinaryCodec.decode(
+                new byte[]{
+                    2,
+                    1
+                }
+            )
+        );
+        this.checkEquals(
+            "Unsupported version 2",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testDecodeUnknownWellKnownFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> DecimalNumberSymbolsBinaryCodec.decode(
+                new byte[]{
+                    DecimalNumberSymbolsBinaryCodec.VERSION,
+                    99
+                }
+            )
+        );
+        this.checkEquals(
+            "Unknown well known symbols 99",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testDecodeExtraBytesFails() {
+        final byte[] bytes = DecimalNumberSymbolsBinaryCodec.encode(SYMBOLS);
+
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> DecimalNumberSymbolsBinaryCodec.decode(
+                Arrays.copyOf(
+                    bytes,
+                    bytes.length + 1
+                )
+            )
+        );
+        this.checkEquals(
+            "Invalid encoding 1 extra bytes",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testDecodeTruncatedFails() {
+        final byte[] bytes = DecimalNumberSymbolsBinaryCodec.encode(SYMBOLS);
+
+        assertThrows(
+            BufferUnderflowException.class,
+            () -> DecimalNumberSymbolsBinaryCodec.decode(
+                Arrays.copyOf(
+                    bytes,
+                    bytes.length - 1
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testDecodeWellKnown() {
+        for (final DecimalNumberSymbols symbols : DecimalNumberSymbolsBinaryCodec.WELL_KNOWN) {
+            final byte[] bytes = DecimalNumberSymbolsBinaryCodec.encode(symbols);
+            this.checkEquals(
+                2,
+                bytes.length,
+                symbols::toString
+            );
+            assertSame(
+                symbols,
+                DecimalNumberSymbolsBinaryCodec.decode(bytes)
+            );
+        }
+    }
+
+    @Test
+    public void testDecodeByteBufferPosition() {
+        final byte[] bytes = DecimalNumberSymbolsBinaryCodec.encode(SYMBOLS);
+        final ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 2);
+        buffer.put(bytes);
+        buffer.put(DecimalNumberSymbolsBinaryCodec.encode(DecimalNumberSymbolsBinaryCodec.WELL_KNOWN[0]));
+        buffer.flip();
+
+        this.checkEquals(
+            SYMBOLS,
+            DecimalNumberSymbolsBinaryCodec.decode(buffer)
+        );
+        this.checkEquals(
+            bytes.length,
+            buffer.position(),
+            "position"
+        );
+        assertSame(
+            DecimalNumberSymbolsBinaryCodec.WELL_KNOWN[0],
+            DecimalNumberSymbolsBinaryCodec.decode(buffer)
+        );
+    }
+
+    @Test
+    public void testRoundtripAvailableLocales() throws IOException {
+        for (final Locale locale : Locale.getAvailableLocales()) {
+            final DecimalNumberSymbols symbols;
+            try {
+                symbols = DecimalNumberSymbols.fromDecimalFormatSymbols(
+                    '+',
+                    DecimalFormatSymbols.getInstance(locale)
+                );
+            } catch (final IllegalArgumentException ignore) {
+                continue; // some locales have invalid or duplicate symbols
+            }
+
+            this.roundtripAndCheck(symbols);
+        }
+    }
+
+    @Test
+    public void testRoundtripNonAsciiStrings() throws IOException {
+        this.roundtripAndCheck(
+            SYMBOLS.setCurrencySymbol("\u20ac\ud83d\udcb6")
+                .setNanSymbol("\u975e\u6570")
+        );
+    }
+
+    @Test
+    public void testRoundtripUnpairedSurrogate() throws IOException {
+        this.roundtripAndCheck(
+            SYMBOLS.setCurrencySymbol("\uD800")
+        );
+    }
+
+    private void roundtripAndCheck(final DecimalNumberSymbols symbols) throws IOException {
+        final byte[] bytes = DecimalNumberSymbolsBinaryCodec.encode(symbols);
+
+        this.checkEquals(
+            symbols,
+            DecimalNumberSymbolsBinaryCodec.decode(bytes),
+            () -> "bytes " + symbols
+        );
+        this.checkEquals(
+            symbols,
+            DecimalNumberSymbolsBinaryCodec.decode(
+                ByteBuffer.wrap(bytes)
+            ),
+            () -> "ByteBuffer " + symbols
+        );
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        DecimalNumberSymbolsBinaryCodec.encode(
+            symbols,
+            new DataOutputStream(output)
+        );
+        this.checkEquals(
+            Arrays.toString(bytes),
+            Arrays.toString(output.toByteArray()),
+            () -> "DataOutput " + symbols
+        );
+
+        this.checkEquals(
+            symbols,
+            DecimalNumberSymbolsBinaryCodec.decode(
+                new DataInputStream(
+                    new ByteArrayInputStream(bytes)
+                )
+            ),
+            () -> "DataInput " + symbols
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<DecimalNumberSymbolsBinaryCodec> type() {
+        return DecimalNumberSymbolsBinaryCodec.class;
+    }
+
+    @Override
+    public boolean canHavePublicTypes(final Method method) {
+        return false;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
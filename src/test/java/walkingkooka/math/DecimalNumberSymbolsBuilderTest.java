@@ -0,0 +1,202 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.InvalidTextException;
+import walkingkooka.build.BuilderException;
+import walkingkooka.build.BuilderTesting;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class DecimalNumberSymbolsBuilderTest implements BuilderTesting<DecimalNumberSymbolsBuilder, DecimalNumberSymbols> {
+
+    private final static DecimalNumberSymbols SYMBOLS = DecimalNumberSymbols.with(
+        '-',
+        '+',
+        '0',
+        "$",
+        '.',
+        "E",
+        ',',
+        "INFINITY",
+        '.',
+        "NAN",
+        '%',
+        '^'
+    );
+
+    @Test
+    public void testWithNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> DecimalNumberSymbolsBuilder.with(null)
+        );
+    }
+
+    @Test
+    public void testCurrencySymbolNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createBuilder()
+                .currencySymbol(null)
+        );
+    }
+
+    @Test
+    public void testBuildUnchanged() {
+        assertSame(
+            SYMBOLS,
+            this.createBuilder()
+                .build()
+        );
+    }
+
+    @Test
+    public void testBuildSameValue() {
+        assertSame(
+            SYMBOLS,
+            this.createBuilder()
+                .negativeSign('-')
+                .currencySymbol("$")
+                .build()
+        );
+    }
+
+    @Test
+    public void testBuildSeveralChanges() {
+        final DecimalNumberSymbols symbols = this.createBuilder()
+            .currencySymbol("EUR")
+            .decimalSeparator(',')
+            .groupSeparator('.')
+            .monetaryDecimalSeparator(',')
+            .exponentSymbol("e")
+            .build();
+
+        assertNotSame(
+            SYMBOLS,
+            symbols
+        );
+        this.checkEquals(
+            DecimalNumberSymbols.with(
+                '-',
+                '+',
+                '0',
+                "EUR",
+                ',',
+                "e",
+                '.',
+                "INFINITY",
+                ',',
+                "NAN",
+                '%',
+                '^'
+            ),
+            symbols
+        );
+    }
+
+    @Test
+    public void testBuildIntermediateDuplicateIgnored() {
+        // swapping via setters would fail at the first, here only the final symbols are validated
+        final DecimalNumberSymbols symbols = this.createBuilder()
+            .decimalSeparator(',')
+            .groupSeparator('.')
+            .monetaryDecimalSeparator(',')
+            .build();
+
+        this.checkEquals(',', symbols.decimalSeparator(), "decimalSeparator");
+        this.checkEquals('.', symbols.groupSeparator(), "groupSeparator");
+    }
+
+    @Test
+    public void testBuildDuplicateFails() {
+        final BuilderException thrown = assertThrows(
+            BuilderException.class,
+            () -> this.createBuilder()
+                .positiveSign('-')
+                .build()
+        );
+        this.checkEquals(
+            "Duplicate \"positiveSign\" is same as \"negativeSign\" '-'",
+            thrown.getMessage()
+        );
+        this.checkEquals(
+            InvalidTextException.class,
+            thrown.getCause()
+                .getClass(),
+            "cause"
+        );
+    }
+
+    @Test
+    public void testBuildInvalidCharacterFails() {
+        final BuilderException thrown = assertThrows(
+            BuilderException.class,
+            () -> this.createBuilder()
+                .percentSymbol('A')
+                .build()
+        );
+        this.checkEquals(
+            true,
+            thrown.getCause() instanceof IllegalArgumentException,
+            "cause"
+        );
+    }
+
+    @Test
+    public void testDecimalNumberSymbolsBuilder() {
+        this.checkEquals(
+            SYMBOLS.setNanSymbol("NotANumber"),
+            SYMBOLS.builder()
+                .nanSymbol("NotANumber")
+                .build()
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createBuilder()
+                .currencySymbol("EUR"),
+            SYMBOLS.setCurrencySymbol("EUR")
+                .toString()
+        );
+    }
+
+    // Builder..........................................................................................................
+
+    @Override
+    public DecimalNumberSymbolsBuilder createBuilder() {
+        return DecimalNumberSymbolsBuilder.with(SYMBOLS);
+    }
+
+    @Override
+    public Class<DecimalNumberSymbols> builderProductType() {
+        return DecimalNumberSymbols.class;
+    }
+
+    @Override
+    public Class<DecimalNumberSymbolsBuilder> type() {
+        return DecimalNumberSymbolsBuilder.class;
+    }
+}
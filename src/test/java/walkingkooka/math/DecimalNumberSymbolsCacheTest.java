@@ -0,0 +1,350 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.InvalidTextException;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class DecimalNumberSymbolsCacheTest implements ClassTesting2<DecimalNumberSymbolsCache>,
+    ToStringTesting<DecimalNumberSymbolsCache> {
+
+    // with.............................................................................................................
+
+    @Test
+    public void testWithZeroMaxSizeFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> DecimalNumberSymbolsCache.with(0)
+        );
+        this.checkEquals(
+            "Invalid maxSize 0 < 1",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testWith() {
+        final DecimalNumberSymbolsCache cache = DecimalNumberSymbolsCache.with(10);
+        this.checkEquals(10, cache.maxSize(), "maxSize");
+        this.checkEquals(0, cache.size(), "size");
+    }
+
+    // with symbols.....................................................................................................
+
+    @Test
+    public void testWithSymbolsNullCurrencySymbolFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> DecimalNumberSymbolsCache.with(1)
+                .with(
+                    '-',
+                    '+',
+                    '0',
+                    null,
+                    '.',
+                    "E",
+                    ',',
+                    "INFINITY",
+                    '.',
+                    "NAN",
+                    '%',
+                    '\u2030'
+                )
+        );
+    }
+
+    @Test
+    public void testWithSymbolsDuplicateFails() {
+        final DecimalNumberSymbolsCache cache = DecimalNumberSymbolsCache.with(1);
+
+        assertThrows(
+            InvalidTextException.class,
+            () -> cache.with(
+                '-',
+                '-',
+                '0',
+                "$",
+                '.',
+                "E",
+                ',',
+                "INFINITY",
+                '.',
+                "NAN",
+                '%',
+                '\u2030'
+            )
+        );
+        this.checkEquals(0, cache.size(), "size");
+    }
+
+    @Test
+    public void testWithSymbols() {
+        final DecimalNumberSymbolsCache cache = DecimalNumberSymbolsCache.with(2);
+
+        final DecimalNumberSymbols symbols = american(cache);
+        this.checkEquals(
+            american(),
+            symbols
+        );
+        assertSame(
+            symbols,
+            american(cache)
+        );
+
+        this.checkEquals(1L, cache.hitCount(), "hitCount");
+        this.checkEquals(1L, cache.missCount(), "missCount");
+    }
+
+    @Test
+    public void testWithSymbolsDifferent() {
+        final DecimalNumberSymbolsCache cache = DecimalNumberSymbolsCache.with(2);
+
+        final DecimalNumberSymbols symbols = american(cache);
+        final DecimalNumberSymbols different = cache.with(
+            '-',
+            '+',
+            '0',
+            "EUR",
+            ',',
+            "E",
+            '.',
+            "INFINITY",
+            ',',
+            "NAN",
+            '%',
+            '\u2030'
+        );
+
+        assertNotSame(
+            symbols,
+            different
+        );
+        this.checkEquals(2, cache.size(), "size");
+    }
+
+    // fromDecimalFormatSymbols.........................................................................................
+
+    @Test
+    public void testFromDecimalFormatSymbols() {
+        final DecimalNumberSymbolsCache cache = DecimalNumberSymbolsCache.with(2);
+        final DecimalFormatSymbols decimalFormatSymbols = DecimalFormatSymbols.getInstance(Locale.FRANCE);
+
+        final DecimalNumberSymbols symbols = cache.fromDecimalFormatSymbols(
+            '+',
+            decimalFormatSymbols
+        );
+        this.checkEquals(
+            DecimalNumberSymbols.fromDecimalFormatSymbols(
+                '+',
+                decimalFormatSymbols
+            ),
+            symbols
+        );
+        assertSame(
+            symbols,
+            cache.fromDecimalFormatSymbols(
+                '+',
+                DecimalFormatSymbols.getInstance(Locale.FRANCE)
+            )
+        );
+    }
+
+    // parse............................................................................................................
+
+    @Test
+    public void testParse() {
+        final DecimalNumberSymbolsCache cache = DecimalNumberSymbolsCache.with(3);
+        final String text = american().text();
+
+        final DecimalNumberSymbols symbols = cache.parse(text);
+        this.checkEquals(
+            american(),
+            symbols
+        );
+        assertSame(
+            symbols,
+            cache.parse(text)
+        );
+        assertSame(
+            symbols,
+            american(cache)
+        );
+
+        this.checkEquals(2, cache.size(), "size");
+    }
+
+    @Test
+    public void testParseCountsOnce() {
+        final DecimalNumberSymbolsCache cache = DecimalNumberSymbolsCache.with(2);
+        final String text = american().text();
+
+        cache.parse(text);
+        this.checkEquals(0L, cache.hitCount(), "hitCount");
+        this.checkEquals(1L, cache.missCount(), "missCount");
+
+        cache.parse(text);
+        this.checkEquals(1L, cache.hitCount(), "hitCount");
+        this.checkEquals(1L, cache.missCount(), "missCount");
+    }
+
+    @Test
+    public void testParseTextDoesNotEvictSymbols() {
+        final DecimalNumberSymbolsCache cache = DecimalNumberSymbolsCache.with(1);
+
+        final DecimalNumberSymbols symbols = cache.intern(american());
+        assertSame(
+            symbols,
+            cache.parse(symbols.text())
+        );
+        assertSame(
+            symbols,
+            cache.intern(american())
+        );
+
+        this.checkEquals(0L, cache.evictionCount(), "evictionCount");
+        this.checkEquals(2, cache.size(), "size");
+    }
+
+    @Test
+    public void testParseInvalidFails() {
+        final DecimalNumberSymbolsCache cache = DecimalNumberSymbolsCache.with(1);
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> cache.parse("-,+")
+        );
+        this.checkEquals(0, cache.size(), "size");
+    }
+
+    // intern...........................................................................................................
+
+    @Test
+    public void testInternNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> DecimalNumberSymbolsCache.with(1)
+                .intern(null)
+        );
+    }
+
+    @Test
+    public void testIntern() {
+        final DecimalNumberSymbolsCache cache = DecimalNumberSymbolsCache.with(1);
+
+        final DecimalNumberSymbols symbols = american();
+        assertSame(
+            symbols,
+            cache.intern(symbols)
+        );
+        assertSame(
+            symbols,
+            cache.intern(american())
+        );
+        assertSame(
+            symbols,
+            american(cache)
+        );
+    }
+
+    @Test
+    public void testInternEvictsLeastRecentlyUsed() {
+        final DecimalNumberSymbolsCache cache = DecimalNumberSymbolsCache.with(1);
+
+        final DecimalNumberSymbols symbols = cache.intern(american());
+        cache.intern(
+            american()
+                .setCurrencySymbol("EUR")
+        );
+
+        this.checkEquals(1L, cache.evictionCount(), "evictionCount");
+        assertNotSame(
+            symbols,
+            cache.intern(american())
+        );
+    }
+
+    private static DecimalNumberSymbols american() {
+        return DecimalNumberSymbols.with(
+            '-',
+            '+',
+            '0',
+            "$",
+            '.',
+            "E",
+            ',',
+            "INFINITY",
+            '.',
+            "NAN",
+            '%',
+            '\u2030'
+        );
+    }
+
+    private static DecimalNumberSymbols american(final DecimalNumberSymbolsCache cache) {
+        return cache.with(
+            '-',
+            '+',
+            '0',
+            "$",
+            '.',
+            "E",
+            ',',
+            "INFINITY",
+            '.',
+            "NAN",
+            '%',
+            '\u2030'
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        final DecimalNumberSymbolsCache cache = DecimalNumberSymbolsCache.with(1);
+        american(cache);
+        american(cache);
+
+        this.toStringAndCheck(
+            cache,
+            "size=1 maxSize=1 hitCount=1 missCount=1 evictionCount=0"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<DecimalNumberSymbolsCache> type() {
+        return DecimalNumberSymbolsCache.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -27,6 +27,7 @@ import walkingkooka.props.Properties;
 import walkingkooka.reflect.ClassTesting;
 import walkingkooka.reflect.JavaVisibility;
 import walkingkooka.test.ParseStringTesting;
+import walkingkooka.text.CharSequences;
 import walkingkooka.text.HasTextTesting;
 import walkingkooka.text.printer.TreePrintableTesting;
 
@@ -810,6 +811,83 @@ public final class DecimalNumberSymbolsTest implements HashCodeEqualsDefinedTest
         );
     }
 
+    @Test
+    public void testWithNonAsciiPercentSymbolEqualPermillSymbolFails() {
+        final InvalidTextException thrown = assertThrows(
+            InvalidTextException.class,
+            () -> DecimalNumberSymbols.with(
+                NEGATIVE_SIGN,
+                POSITIVE_SIGN,
+                ZERO_DIGIT,
+                CURRENCY_SYMBOL,
+                DECIMAL_SEPARATOR,
+                EXPONENT_SYMBOL,
+                GROUP_SEPARATOR,
+                INFINITY_SYMBOL,
+                MONETARY_DECIMAL_SEPARATOR,
+                NAN_SYMBOL,
+                '\u2030',
+                '\u2030'
+            )
+        );
+
+        this.invalidTextExceptionAndCheck(
+            thrown,
+            "Duplicate \"permillSymbol\" is same as \"percentSymbol\" " + CharSequences.quoteAndEscape('\u2030'),
+            DecimalNumberSymbols.PERMILL_SYMBOL_LABEL
+        );
+    }
+
+    @Test
+    public void testWithSeveralDuplicatesFails() {
+        final InvalidTextException thrown = assertThrows(
+            InvalidTextException.class,
+            () -> DecimalNumberSymbols.with(
+                NEGATIVE_SIGN,
+                POSITIVE_SIGN,
+                ZERO_DIGIT,
+                CURRENCY_SYMBOL,
+                DECIMAL_SEPARATOR,
+                EXPONENT_SYMBOL,
+                PERMILL_SYMBOL,
+                INFINITY_SYMBOL,
+                MONETARY_DECIMAL_SEPARATOR,
+                NAN_SYMBOL,
+                PERMILL_SYMBOL,
+                PERMILL_SYMBOL
+            )
+        );
+
+        this.invalidTextExceptionAndCheck(
+            thrown,
+            "Duplicate \"percentSymbol\" is same as \"groupSeparator\" '^'",
+            DecimalNumberSymbols.PERCENT_SYMBOL_LABEL
+        );
+    }
+
+    @Test
+    public void testWithDecimalSeparatorEqualMonetaryDecimalSeparator() {
+        final DecimalNumberSymbols symbols = DecimalNumberSymbols.with(
+            NEGATIVE_SIGN,
+            POSITIVE_SIGN,
+            ZERO_DIGIT,
+            CURRENCY_SYMBOL,
+            DECIMAL_SEPARATOR,
+            EXPONENT_SYMBOL,
+            GROUP_SEPARATOR,
+            INFINITY_SYMBOL,
+            DECIMAL_SEPARATOR,
+            NAN_SYMBOL,
+            PERCENTAGE_SYMBOL,
+            PERMILL_SYMBOL
+        );
+
+        this.monetaryDecimalSeparatorAndCheck(
+            symbols,
+            DECIMAL_SEPARATOR
+        );
+    }
+
     @Test
     public void testWith() {
         final DecimalNumberSymbols symbols = DecimalNumberSymbols.with(
@@ -2225,6 +2303,21 @@ public final class DecimalNumberSymbolsTest implements HashCodeEqualsDefinedTest
         );
     }
 
+    @Test
+    public void testHashCodeCached() {
+        final DecimalNumberSymbols symbols = this.createObject();
+
+        this.checkEquals(
+            symbols.hashCode(),
+            symbols.hashCode()
+        );
+        this.checkEquals(
+            this.createObject()
+                .hashCode(),
+            symbols.hashCode()
+        );
+    }
+
     @Override
     public DecimalNumberSymbols createObject() {
         return DecimalNumberSymbols.with(
@@ -2403,6 +2496,16 @@ public final class DecimalNumberSymbolsTest implements HashCodeEqualsDefinedTest
         );
     }
 
+    @Test
+    public void testTextCached() {
+        final DecimalNumberSymbols symbols = this.createObject();
+
+        assertSame(
+            symbols.text(),
+            symbols.text()
+        );
+    }
+
     // parseString......................................................................................................
 
     @Test
@@ -2454,6 +2557,53 @@ public final class DecimalNumberSymbolsTest implements HashCodeEqualsDefinedTest
         );
     }
 
+    @Test
+    public void testParseQuotedTokens() {
+        this.parseStringAndCheck(
+            "-,+,0,\"A,U,D\",\",\",\"E\",;,\"INFINITY\",*,NAN,%,^",
+            this.createObject()
+                .setCurrencySymbol("A,U,D")
+                .setGroupSeparator(';')
+                .setDecimalSeparator(',')
+        );
+    }
+
+    @Test
+    public void testParseTrailingCommaFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> DecimalNumberSymbols.parse(
+                this.createObject()
+                    .text() + ","
+            )
+        );
+
+        this.checkEquals(
+            "Expected 12 tokens but got 13",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testParseTextForLocales() {
+        for (final Locale locale : Locale.getAvailableLocales()) {
+            final DecimalNumberSymbols symbols;
+            try {
+                symbols = DecimalNumberSymbols.fromDecimalFormatSymbols(
+                    '+',
+                    DecimalFormatSymbols.getInstance(locale)
+                );
+            } catch (final IllegalArgumentException ignore) {
+                continue; // some locales have invalid or duplicate symbols
+            }
+
+            this.parseStringAndCheck(
+                symbols.text(),
+                symbols
+            );
+        }
+    }
+
     @Override
     public DecimalNumberSymbols parseString(final String text) {
         return DecimalNumberSymbols.parse(text);
@@ -2570,6 +2720,16 @@ public final class DecimalNumberSymbolsTest implements HashCodeEqualsDefinedTest
         );
     }
 
+    @Test
+    public void testPropertiesCached() {
+        final DecimalNumberSymbols symbols = this.createObject();
+
+        assertSame(
+            symbols.properties(),
+            symbols.properties()
+        );
+    }
+
     // class............................................................................................................
 
     @Override
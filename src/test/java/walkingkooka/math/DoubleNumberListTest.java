@@ -0,0 +1,354 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.ImmutableListTesting;
+import walkingkooka.collect.list.ListTesting2;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class DoubleNumberListTest implements ListTesting2<NumberList, Number>,
+    ClassTesting<DoubleNumberList>,
+    ImmutableListTesting<NumberList, Number> {
+
+    private final static Double NUMBER1 = 1.5;
+
+    private final static Double NUMBER2 = -2.25;
+
+    // list.............................................................................................................
+
+    @Test
+    public void testGet() {
+        this.getAndCheck(
+            this.createList(),
+            0, // index
+            NUMBER1 // expected
+        );
+    }
+
+    @Test
+    public void testGet2() {
+        this.getAndCheck(
+            this.createList(),
+            1, // index
+            NUMBER2 // expected
+        );
+    }
+
+    @Test
+    public void testSetFails() {
+        this.setFails(
+            this.createList(),
+            0, // index
+            NUMBER1 // expected
+        );
+    }
+
+    @Test
+    public void testRemoveIndexFails() {
+        this.removeIndexFails(
+            this.createList(),
+            0
+        );
+    }
+
+    // setElements......................................................................................................
+
+    @Test
+    public void testSetElementsSame() {
+        final NumberList list = this.createList();
+        assertSame(
+            list,
+            list.setElements(
+                Lists.of(
+                    NUMBER1,
+                    NUMBER2
+                )
+            )
+        );
+    }
+
+    // replace..........................................................................................................
+
+    @Test
+    public void testReplace() {
+        this.replaceAndCheck(
+            this.createList(),
+            1,
+            3.0,
+            new DoubleNumberList(
+                new double[]{
+                    NUMBER1,
+                    3.0
+                }
+            )
+        );
+    }
+
+    @Test
+    public void testReplaceWithNull() {
+        this.replaceAndCheck(
+            this.createList(),
+            1,
+            (Number) null,
+            new BoxedNumberList(
+                Lists.of(
+                    NUMBER1,
+                    null
+                )
+            )
+        );
+    }
+
+    @Override
+    public NumberList createList() {
+        return new DoubleNumberList(
+            new double[]{
+                NUMBER1,
+                NUMBER2
+            }
+        );
+    }
+
+    // aggregates.......................................................................................................
+
+    @Test
+    public void testSum() {
+        final NumberList list = new DoubleNumberList(
+            new double[]{
+                0.1,
+                0.2,
+                0.3,
+                -0.5
+            }
+        );
+
+        for (int parallelThreshold = 1; parallelThreshold < 5; parallelThreshold++) {
+            this.checkEquals(
+                new BigDecimal("0.1"),
+                list.sum(
+                    MathContext.DECIMAL64,
+                    parallelThreshold
+                )
+            );
+        }
+    }
+
+    @Test
+    public void testSumExact() {
+        final NumberList list = new DoubleNumberList(
+            new double[]{
+                1e16,
+                1,
+                -1e16
+            }
+        );
+
+        for (int parallelThreshold = 1; parallelThreshold < 4; parallelThreshold++) {
+            this.checkEquals(
+                new BigDecimal("1.0"),
+                list.sum(
+                    MathContext.DECIMAL64,
+                    parallelThreshold
+                )
+            );
+        }
+    }
+
+    @Test
+    public void testSumDoubleOverflow() {
+        this.checkEquals(
+            BigDecimal.valueOf(Double.MAX_VALUE),
+            new DoubleNumberList(
+                new double[]{
+                    Double.MAX_VALUE,
+                    Double.MAX_VALUE,
+                    -Double.MAX_VALUE
+                }
+            ).sum(MathContext.UNLIMITED)
+        );
+    }
+
+    @Test
+    public void testSumSameAsBoxed() {
+        this.sumSameAsBoxedAndCheck(
+            "25.55",
+            19.99,
+            0.01,
+            5.55
+        );
+    }
+
+    @Test
+    public void testSumSameAsBoxed2() {
+        this.sumSameAsBoxedAndCheck(
+            "0.10",
+            0.01,
+            0.02,
+            0.07
+        );
+    }
+
+    private void sumSameAsBoxedAndCheck(final String expected,
+                                        final double... values) {
+        final List<Number> numbers = Lists.array();
+        for (final double value : values) {
+            numbers.add(value);
+        }
+
+        final NumberList dense = new DoubleNumberList(values);
+        final NumberList boxed = new BoxedNumberList(numbers);
+
+        for (int parallelThreshold = 1; parallelThreshold <= values.length; parallelThreshold++) {
+            final int finalParallelThreshold = parallelThreshold;
+
+            this.checkEquals(
+                new BigDecimal(expected),
+                dense.sum(
+                    MathContext.DECIMAL64,
+                    parallelThreshold
+                ),
+                () -> "dense parallelThreshold=" + finalParallelThreshold
+            );
+            this.checkEquals(
+                new BigDecimal(expected),
+                boxed.sum(
+                    MathContext.DECIMAL64,
+                    parallelThreshold
+                ),
+                () -> "boxed parallelThreshold=" + finalParallelThreshold
+            );
+        }
+    }
+
+    @Test
+    public void testSumInfinityFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> new DoubleNumberList(
+                new double[]{
+                    1,
+                    Double.NEGATIVE_INFINITY
+                }
+            ).sum(MathContext.DECIMAL64)
+        );
+        this.checkEquals(
+            "Invalid number -Infinity",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testAverage() {
+        this.checkEquals(
+            Optional.of(
+                BigDecimal.valueOf(-0.375)
+            ),
+            this.createList()
+                .average(MathContext.DECIMAL32)
+        );
+    }
+
+    @Test
+    public void testMinMax() {
+        final NumberList list = new DoubleNumberList(
+            new double[]{
+                5,
+                -3.5,
+                9.25,
+                -3.5,
+                9.25,
+                0
+            }
+        );
+
+        for (int parallelThreshold = 1; parallelThreshold < 7; parallelThreshold++) {
+            this.checkEquals(
+                Optional.of(-3.5),
+                list.min(parallelThreshold),
+                "min"
+            );
+            this.checkEquals(
+                Optional.of(9.25),
+                list.max(parallelThreshold),
+                "max"
+            );
+        }
+    }
+
+    @Test
+    public void testMinNaNFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new DoubleNumberList(
+                new double[]{
+                    1,
+                    Double.NaN
+                }
+            ).min()
+        );
+    }
+
+    // equals...........................................................................................................
+
+    @Test
+    public void testEqualsBoxed() {
+        final NumberList boxed = new BoxedNumberList(
+            Lists.of(
+                NUMBER1,
+                NUMBER2
+            )
+        );
+        final NumberList list = this.createList();
+
+        this.checkEquals(
+            boxed,
+            list
+        );
+        this.checkEquals(
+            list,
+            boxed
+        );
+        this.checkEquals(
+            boxed.hashCode(),
+            list.hashCode()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<DoubleNumberList> type() {
+        return DoubleNumberList.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,480 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class FixedDecimalTest implements ClassTesting2<FixedDecimal>,
+    HashCodeEqualsDefinedTesting2<FixedDecimal>,
+    ToStringTesting<FixedDecimal> {
+
+    private final static MathContext CONTEXT = MathContext.DECIMAL64;
+
+    private final static MathContext PRECISION2 = new MathContext(2, RoundingMode.HALF_UP);
+
+    // with.............................................................................................................
+
+    @Test
+    public void testWithNegativeScaleFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> FixedDecimal.with(1, -1)
+        );
+        this.checkEquals(
+            "Invalid scale -1 not between 0 and 18",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testWithScaleTooLargeFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> FixedDecimal.with(1, FixedDecimal.MAX_SCALE + 1)
+        );
+    }
+
+    @Test
+    public void testWithNullBigDecimalFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> FixedDecimal.with(null)
+        );
+    }
+
+    @Test
+    public void testWith() {
+        final FixedDecimal fixedDecimal = FixedDecimal.with(12345, 2);
+        this.checkEquals(2, fixedDecimal.scale(), "scale");
+        this.checkEquals(true, fixedDecimal.isCompact(), "isCompact");
+        this.checkEquals(new BigDecimal("123.45"), fixedDecimal.toBigDecimal(), "toBigDecimal");
+    }
+
+    @Test
+    public void testWithZero() {
+        assertSame(
+            FixedDecimal.ZERO,
+            FixedDecimal.with(0, 0)
+        );
+    }
+
+    @Test
+    public void testWithBigDecimalCompact() {
+        this.withAndCheck(
+            "-123.456789",
+            true
+        );
+    }
+
+    @Test
+    public void testWithBigDecimalMaxScale() {
+        this.withAndCheck(
+            "0.123456789012345678",
+            true
+        );
+    }
+
+    @Test
+    public void testWithBigDecimalNegativeScale() {
+        this.withAndCheck(
+            "1E+3",
+            false
+        );
+    }
+
+    @Test
+    public void testWithBigDecimalScaleTooLarge() {
+        this.withAndCheck(
+            "0.1234567890123456789",
+            false
+        );
+    }
+
+    @Test
+    public void testWithBigDecimalTooManyDigits() {
+        this.withAndCheck(
+            "9223372036854775808",
+            false
+        );
+    }
+
+    private void withAndCheck(final String value,
+                              final boolean compact) {
+        final BigDecimal bigDecimal = new BigDecimal(value);
+        final FixedDecimal fixedDecimal = FixedDecimal.with(bigDecimal);
+
+        this.checkEquals(compact, fixedDecimal.isCompact(), "isCompact");
+        this.checkEquals(bigDecimal, fixedDecimal.toBigDecimal(), "toBigDecimal");
+        this.checkEquals(bigDecimal.scale(), fixedDecimal.scale(), "scale");
+    }
+
+    // add..............................................................................................................
+
+    @Test
+    public void testAddNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> FixedDecimal.ZERO.add(null, CONTEXT)
+        );
+    }
+
+    @Test
+    public void testAddNullMathContextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> FixedDecimal.ZERO.add(FixedDecimal.ZERO, null)
+        );
+    }
+
+    @Test
+    public void testAdd() {
+        this.addAndCheck("1.25", "2.5", CONTEXT);
+    }
+
+    @Test
+    public void testAddNegative() {
+        this.addAndCheck("1.25", "-20.125", CONTEXT);
+    }
+
+    @Test
+    public void testAddRounded() {
+        this.addAndCheck("1.25", "2.5", PRECISION2);
+    }
+
+    @Test
+    public void testAddOverflow() {
+        this.addAndCheck("9223372036854775807", "1", MathContext.UNLIMITED);
+    }
+
+    @Test
+    public void testAddRescaleOverflow() {
+        this.addAndCheck("922337203685477580", "0.1", MathContext.UNLIMITED);
+    }
+
+    private void addAndCheck(final String left,
+                             final String right,
+                             final MathContext context) {
+        this.arithmeticAndCheck(
+            left,
+            right,
+            (l, r) -> l.add(r, context),
+            (l, r) -> l.add(r, context)
+        );
+    }
+
+    // subtract.........................................................................................................
+
+    @Test
+    public void testSubtract() {
+        this.subtractAndCheck("1.25", "2.5", CONTEXT);
+    }
+
+    @Test
+    public void testSubtractRounded() {
+        this.subtractAndCheck("1.25", "20.5", PRECISION2);
+    }
+
+    @Test
+    public void testSubtractOverflow() {
+        this.subtractAndCheck("-9223372036854775807", "2", MathContext.UNLIMITED);
+    }
+
+    private void subtractAndCheck(final String left,
+                                  final String right,
+                                  final MathContext context) {
+        this.arithmeticAndCheck(
+            left,
+            right,
+            (l, r) -> l.subtract(r, context),
+            (l, r) -> l.subtract(r, context)
+        );
+    }
+
+    // multiply.........................................................................................................
+
+    @Test
+    public void testMultiply() {
+        this.multiplyAndCheck("1.25", "-2.5", CONTEXT);
+    }
+
+    @Test
+    public void testMultiplyRounded() {
+        this.multiplyAndCheck("1.25", "2.5", PRECISION2);
+    }
+
+    @Test
+    public void testMultiplyOverflow() {
+        this.multiplyAndCheck("9223372036854775807", "2", MathContext.UNLIMITED);
+    }
+
+    @Test
+    public void testMultiplyScaleTooLarge() {
+        this.multiplyAndCheck("0.0000000001", "0.0000000001", MathContext.UNLIMITED);
+    }
+
+    private void multiplyAndCheck(final String left,
+                                  final String right,
+                                  final MathContext context) {
+        this.arithmeticAndCheck(
+            left,
+            right,
+            (l, r) -> l.multiply(r, context),
+            (l, r) -> l.multiply(r, context)
+        );
+    }
+
+    // divide...........................................................................................................
+
+    @Test
+    public void testDivideExact() {
+        this.divideAndCheck("12.50", "2.5", CONTEXT);
+    }
+
+    @Test
+    public void testDivideExactUnlimited() {
+        this.divideAndCheck("-12.50", "0.5", MathContext.UNLIMITED);
+    }
+
+    @Test
+    public void testDivideInexact() {
+        this.divideAndCheck("1", "3", CONTEXT);
+    }
+
+    @Test
+    public void testDivideDivisorScaleLarger() {
+        this.divideAndCheck("1", "0.25", CONTEXT);
+    }
+
+    @Test
+    public void testDivideRounded() {
+        this.divideAndCheck("12345", "5", PRECISION2);
+    }
+
+    @Test
+    public void testDivideLongMinValueByMinusOne() {
+        this.divideAndCheck("-9223372036854775808", "-1", MathContext.UNLIMITED);
+    }
+
+    @Test
+    public void testDivideByZeroFails() {
+        assertThrows(
+            ArithmeticException.class,
+            () -> FixedDecimal.with(1, 0)
+                .divide(FixedDecimal.ZERO, CONTEXT)
+        );
+    }
+
+    @Test
+    public void testDivideNonTerminatingUnlimitedFails() {
+        assertThrows(
+            ArithmeticException.class,
+            () -> FixedDecimal.with(1, 0)
+                .divide(FixedDecimal.with(3, 0), MathContext.UNLIMITED)
+        );
+    }
+
+    private void divideAndCheck(final String left,
+                                final String right,
+                                final MathContext context) {
+        this.arithmeticAndCheck(
+            left,
+            right,
+            (l, r) -> l.divide(r, context),
+            (l, r) -> l.divide(r, context)
+        );
+    }
+
+    private void arithmeticAndCheck(final String left,
+                                    final String right,
+                                    final BiFunction<BigDecimal, BigDecimal, BigDecimal> bigDecimal,
+                                    final BiFunction<FixedDecimal, FixedDecimal, FixedDecimal> fixedDecimal) {
+        final BigDecimal expected = bigDecimal.apply(
+            new BigDecimal(left),
+            new BigDecimal(right)
+        );
+
+        final FixedDecimal result = fixedDecimal.apply(
+            FixedDecimal.with(new BigDecimal(left)),
+            FixedDecimal.with(new BigDecimal(right))
+        );
+
+        this.checkEquals(
+            expected,
+            result.toBigDecimal(),
+            () -> left + " " + right
+        );
+        this.checkEquals(
+            FixedDecimal.with(expected),
+            result,
+            () -> left + " " + right
+        );
+    }
+
+    // round............................................................................................................
+
+    @Test
+    public void testRoundUnnecessary() {
+        final FixedDecimal fixedDecimal = FixedDecimal.with(12345, 2);
+        assertSame(
+            fixedDecimal,
+            fixedDecimal.round(CONTEXT)
+        );
+    }
+
+    @Test
+    public void testRound() {
+        this.checkEquals(
+            FixedDecimal.with(new BigDecimal("1.2E+2")),
+            FixedDecimal.with(12345, 2)
+                .round(PRECISION2)
+        );
+    }
+
+    @Test
+    public void testRoundHalfUp() {
+        this.checkEquals(
+            FixedDecimal.with(13, 1),
+            FixedDecimal.with(125, 2)
+                .round(PRECISION2)
+        );
+    }
+
+    // Number...........................................................................................................
+
+    @Test
+    public void testIntValue() {
+        this.checkEquals(
+            -123,
+            FixedDecimal.with(-12399, 2)
+                .intValue()
+        );
+    }
+
+    @Test
+    public void testLongValue() {
+        this.checkEquals(
+            123L,
+            FixedDecimal.with(12399, 2)
+                .longValue()
+        );
+    }
+
+    @Test
+    public void testFloatValue() {
+        this.checkEquals(
+            0.1f,
+            FixedDecimal.with(1, 1)
+                .floatValue()
+        );
+    }
+
+    @Test
+    public void testDoubleValue() {
+        this.checkEquals(
+            0.3,
+            FixedDecimal.with(3, 1)
+                .doubleValue()
+        );
+    }
+
+    @Test
+    public void testDoubleValueInflated() {
+        final BigDecimal bigDecimal = new BigDecimal("1234567890123456789.123");
+
+        this.checkEquals(
+            bigDecimal.doubleValue(),
+            FixedDecimal.with(bigDecimal)
+                .doubleValue()
+        );
+    }
+
+    // equals...........................................................................................................
+
+    @Test
+    public void testEqualsDifferentUnscaled() {
+        this.checkNotEquals(FixedDecimal.with(12346, 2));
+    }
+
+    @Test
+    public void testEqualsDifferentScale() {
+        this.checkNotEquals(FixedDecimal.with(123450, 3));
+    }
+
+    @Test
+    public void testEqualsInflated() {
+        final FixedDecimal fixedDecimal = FixedDecimal.with(new BigDecimal("12345678901234567890.5"));
+        final FixedDecimal other = FixedDecimal.with(new BigDecimal("12345678901234567890.5"));
+
+        this.checkEquals(
+            fixedDecimal,
+            other
+        );
+        this.checkEquals(
+            fixedDecimal.hashCode(),
+            other.hashCode(),
+            "hashCode"
+        );
+    }
+
+    @Override
+    public FixedDecimal createObject() {
+        return FixedDecimal.with(12345, 2);
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            FixedDecimal.with(-12345, 2),
+            "-123.45"
+        );
+    }
+
+    @Test
+    public void testToStringInflated() {
+        this.toStringAndCheck(
+            FixedDecimal.with(new BigDecimal("1E+3")),
+            "1E+3"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<FixedDecimal> type() {
+        return FixedDecimal.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
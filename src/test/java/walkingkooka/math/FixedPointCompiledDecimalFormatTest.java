@@ -0,0 +1,465 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class FixedPointCompiledDecimalFormatTest implements ClassTesting2<FixedPointCompiledDecimalFormat>,
+    ToStringTesting<FixedPointCompiledDecimalFormat> {
+
+    // with.............................................................................................................
+
+    @Test
+    public void testWithExponentFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> FixedPointCompiledDecimalFormat.with(
+                "0.0E0",
+                new DecimalFormat("0.0E0")
+            )
+        );
+        this.checkEquals(
+            "Unsupported pattern 0.0E0",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testWithRoundingModeUnnecessaryFails() {
+        final DecimalFormat decimalFormat = new DecimalFormat("0.0");
+        decimalFormat.setRoundingMode(RoundingMode.UNNECESSARY);
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> FixedPointCompiledDecimalFormat.with(
+                "0.0",
+                decimalFormat
+            )
+        );
+    }
+
+    // format...........................................................................................................
+
+    @Test
+    public void testFormatMoney() {
+        this.formatAndCheck(
+            money(),
+            1234.5,
+            "$1,234.50"
+        );
+    }
+
+    @Test
+    public void testFormatMoneyNegative() {
+        this.formatAndCheck(
+            money(),
+            -1234.567,
+            "-$1,234.57"
+        );
+    }
+
+    @Test
+    public void testFormatMoneyNegativeSubPattern() {
+        this.formatAndCheck(
+            money()
+                .negativeSubPattern()
+                .prefix("($")
+                .digit()
+                .suffix(")"),
+            -1234.5,
+            "($1,234.50)"
+        );
+    }
+
+    @Test
+    public void testFormatNegativeRoundsToZero() {
+        this.formatAndCheck(
+            money(),
+            -0.001,
+            "-$0.00"
+        );
+    }
+
+    @Test
+    public void testFormatNoIntegerDigits() {
+        this.formatAndCheck(
+            DecimalFormatBuilder.empty()
+                .digit()
+                .decimalSeparator()
+                .digitOrZero()
+                .digit()
+                .locale(Locale.US),
+            0.5,
+            ".5"
+        );
+    }
+
+    @Test
+    public void testFormatPercent() {
+        this.formatAndCheck(
+            DecimalFormatBuilder.empty()
+                .digitOrZero()
+                .decimalSeparator()
+                .digit()
+                .percentage()
+                .locale(Locale.US),
+            0.125,
+            "12.5%"
+        );
+    }
+
+    @Test
+    public void testFormatPermill() {
+        this.formatAndCheck(
+            DecimalFormatBuilder.empty()
+                .digitOrZero()
+                .multiplyBy1000()
+                .locale(Locale.US),
+            0.0125,
+            "12\u2030"
+        );
+    }
+
+    @Test
+    public void testFormatGroupingSize() {
+        this.formatAndCheck(
+            DecimalFormatBuilder.empty()
+                .digit()
+                .groupSeparator()
+                .digitOrZero()
+                .groupingSize(2)
+                .locale(Locale.US),
+            1234567L,
+            "1,23,45,67"
+        );
+    }
+
+    @Test
+    public void testFormatHalfEvenTieUsesBinaryValue() {
+        // 2.675 is slightly less than 2.675 as a double
+        this.formatAndCheck(
+            DecimalFormatBuilder.empty()
+                .digitOrZero()
+                .decimalSeparator()
+                .digitOrZero()
+                .digitOrZero()
+                .locale(Locale.US),
+            2.675,
+            "2.67"
+        );
+    }
+
+    @Test
+    public void testFormatHalfEvenTieKeptDigitsZero() {
+        this.formatAndCheck(
+            DecimalFormatBuilder.empty()
+                .digitOrZero()
+                .decimalSeparator()
+                .digitOrZero()
+                .digitOrZero()
+                .digitOrZero()
+                .roundingMode(RoundingMode.HALF_EVEN)
+                .locale(Locale.US),
+            0.0005,
+            "0.000"
+        );
+    }
+
+    @Test
+    public void testFormatHalfEvenTieKeptDigitsZero2() {
+        this.formatAndCheck(
+            DecimalFormatBuilder.empty()
+                .digitOrZero()
+                .decimalSeparator()
+                .digitOrZero()
+                .digitOrZero()
+                .digitOrZero()
+                .digitOrZero()
+                .roundingMode(RoundingMode.HALF_EVEN)
+                .locale(Locale.US),
+            5.0E-5,
+            "0.0000"
+        );
+    }
+
+    @Test
+    public void testFormatFloor() {
+        this.formatAndCheck(
+            DecimalFormatBuilder.empty()
+                .digitOrZero()
+                .roundingMode(RoundingMode.FLOOR)
+                .locale(Locale.US),
+            -1.5,
+            "-2"
+        );
+    }
+
+    @Test
+    public void testFormatLocale() {
+        this.formatAndCheck(
+            DecimalFormatBuilder.empty()
+                .digit()
+                .groupSeparator()
+                .digit()
+                .digit()
+                .digitOrZero()
+                .decimalSeparator()
+                .digitOrZero()
+                .digitOrZero()
+                .locale(Locale.GERMANY),
+            new BigDecimal("-1234567.891"),
+            "-1.234.567,89"
+        );
+    }
+
+    @Test
+    public void testFormatLongMinValue() {
+        this.formatAndCheck(
+            money(),
+            Long.MIN_VALUE,
+            "-$9,223,372,036,854,775,808.00"
+        );
+    }
+
+    @Test
+    public void testFormatNan() {
+        this.formatAndCheck(
+            money(),
+            Double.NaN,
+            "NaN"
+        );
+    }
+
+    @Test
+    public void testFormatInfinity() {
+        this.formatAndCheck(
+            money(),
+            Double.NEGATIVE_INFINITY,
+            "-$\u221E"
+        );
+    }
+
+    private void formatAndCheck(final DecimalFormatBuilder builder,
+                                final Number value,
+                                final String expected) {
+        final FixedPointCompiledDecimalFormat format = FixedPointCompiledDecimalFormat.with(
+            builder.text(),
+            builder.build()
+        );
+        this.checkEquals(
+            expected,
+            format(format, value),
+            () -> builder + " format " + value
+        );
+        this.checkEquals(
+            builder.build()
+                .format(value),
+            expected,
+            () -> builder + " DecimalFormat.format " + value
+        );
+    }
+
+    @Test
+    public void testFormatSameAsDecimalFormat() {
+        final DecimalFormatBuilder[] builders = {
+            money(),
+            money()
+                .locale(Locale.FRANCE),
+            DecimalFormatBuilder.empty()
+                .digitOrZero()
+                .decimalSeparator()
+                .digit()
+                .digit()
+                .digit()
+                .percentage()
+                .roundingMode(RoundingMode.HALF_DOWN),
+            DecimalFormatBuilder.empty()
+                .prefix("EUR ")
+                .digit()
+                .groupSeparator()
+                .digitOrZero()
+                .decimalSeparator()
+                .digitOrZero()
+                .roundingMode(RoundingMode.UP),
+            DecimalFormatBuilder.empty()
+                .digit()
+                .decimalSeparator()
+                .digit()
+                .digit()
+                .roundingMode(RoundingMode.CEILING)
+        };
+
+        final Random random = new Random(1);
+
+        for (final DecimalFormatBuilder builder : builders) {
+            final DecimalFormat decimalFormat = builder.build();
+            final FixedPointCompiledDecimalFormat format = FixedPointCompiledDecimalFormat.with(
+                builder.text(),
+                decimalFormat
+            );
+
+            for (int i = 0; i < 10_000; i++) {
+                final Number value;
+                switch (i % 4) {
+                    case 0:
+                        value = random.nextInt(2_000_001) - 1_000_000;
+                        break;
+                    case 1:
+                        value = (random.nextInt(2_000_001) - 1_000_000) / 1000.0;
+                        break;
+                    case 2:
+                        value = Double.longBitsToDouble(random.nextLong());
+                        break;
+                    default:
+                        value = new BigDecimal(
+                            new BigInteger(
+                                64,
+                                random
+                            ),
+                            random.nextInt(8)
+                        );
+                        break;
+                }
+
+                this.checkEquals(
+                    decimalFormat.format(value),
+                    format(format, value),
+                    () -> builder + " format " + value
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testFormatLargeDouble() {
+        final DecimalFormatBuilder builder = DecimalFormatBuilder.empty()
+            .digitOrZero()
+            .decimalSeparator()
+            .digitOrZero()
+            .digitOrZero()
+            .digitOrZero();
+
+        this.checkEquals(
+            builder.build()
+                .format(1.3660822804506142E17),
+            FixedPointCompiledDecimalFormat.with(
+                builder.text(),
+                builder.build()
+            ).format(1.3660822804506142E17)
+        );
+    }
+
+    @Test
+    public void testFormatLargeDoubleSameAsDecimalFormat() {
+        final Random random = new Random(1);
+
+        for (final RoundingMode roundingMode : RoundingMode.values()) {
+            if (RoundingMode.UNNECESSARY == roundingMode) {
+                continue;
+            }
+
+            final DecimalFormatBuilder builder = DecimalFormatBuilder.empty()
+                .digit()
+                .groupSeparator()
+                .digitOrZero()
+                .decimalSeparator()
+                .digitOrZero()
+                .digitOrZero()
+                .digitOrZero()
+                .roundingMode(roundingMode);
+            final DecimalFormat decimalFormat = builder.build();
+            final FixedPointCompiledDecimalFormat format = FixedPointCompiledDecimalFormat.with(
+                builder.text(),
+                decimalFormat
+            );
+
+            for (int i = 0; i < 10_000; i++) {
+                // magnitudes between 1e12 and 1e20 cross the switch to DecimalFormat at 1e13
+                final double value = (random.nextBoolean() ? 1 : -1) *
+                    random.nextDouble() *
+                    Math.pow(10, 12 + random.nextInt(9));
+
+                this.checkEquals(
+                    decimalFormat.format(value),
+                    format.format(value),
+                    () -> builder + " format " + value
+                );
+            }
+        }
+    }
+
+    private static String format(final CompiledDecimalFormat format,
+                                 final Number value) {
+        return value instanceof BigDecimal ?
+            format.format((BigDecimal) value) :
+            value instanceof Double ?
+                format.format((double) value) :
+                format.format(value.longValue());
+    }
+
+    private static DecimalFormatBuilder money() {
+        return DecimalFormatBuilder.empty()
+            .prefix("$")
+            .digit()
+            .groupSeparator()
+            .digit()
+            .digit()
+            .digitOrZero()
+            .decimalSeparator()
+            .digitOrZero()
+            .digitOrZero()
+            .locale(Locale.US);
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            FixedPointCompiledDecimalFormat.with(
+                "#0.00",
+                new DecimalFormat("#0.00")
+            ),
+            "#0.00"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<FixedPointCompiledDecimalFormat> type() {
+        return FixedPointCompiledDecimalFormat.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
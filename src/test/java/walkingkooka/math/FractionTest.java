@@ -23,8 +23,11 @@ import walkingkooka.ToStringTesting;
 import walkingkooka.reflect.ClassTesting2;
 import walkingkooka.reflect.JavaVisibility;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public final class FractionTest implements ClassTesting2<Fraction>,
@@ -57,6 +60,332 @@ public final class FractionTest implements ClassTesting2<Fraction>,
         this.checkEquals(DENOMINATOR, fraction.denominator(), "denominator");
     }
 
+    @Test
+    public void testWithLongZeroDenominatorFails() {
+        assertThrows(IllegalArgumentException.class, () -> Fraction.with(1, 0));
+    }
+
+    @Test
+    public void testWithLong() {
+        final Fraction fraction = Fraction.with(1, 10);
+        this.checkEquals(NUMERATOR, fraction.numerator(), "numerator");
+        this.checkEquals(DENOMINATOR, fraction.denominator(), "denominator");
+        this.checkEquals(true, fraction.isLong(), "isLong");
+    }
+
+    @Test
+    public void testWithBigIntegerFitsLong() {
+        this.checkEquals(
+            true,
+            Fraction.with(NUMERATOR, DENOMINATOR).isLong()
+        );
+    }
+
+    @Test
+    public void testWithBigIntegerLarge() {
+        final BigInteger numerator = BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE);
+        final Fraction fraction = Fraction.with(numerator, DENOMINATOR);
+
+        this.checkEquals(false, fraction.isLong(), "isLong");
+        this.checkEquals(numerator, fraction.numerator(), "numerator");
+        this.checkEquals(DENOMINATOR, fraction.denominator(), "denominator");
+    }
+
+    // add..............................................................................................................
+
+    @Test
+    public void testAddNullFails() {
+        assertThrows(NullPointerException.class, () -> this.createObject().add(null));
+    }
+
+    @Test
+    public void testAddSameDenominator() {
+        this.checkEquals(
+            Fraction.with(3, 10),
+            Fraction.with(1, 10).add(Fraction.with(2, 10))
+        );
+    }
+
+    @Test
+    public void testAddDifferentDenominator() {
+        this.checkEquals(
+            Fraction.with(5, 6),
+            Fraction.with(1, 2).add(Fraction.with(1, 3))
+        );
+    }
+
+    @Test
+    public void testAddNotReduced() {
+        this.checkEquals(
+            Fraction.with(2, 4),
+            Fraction.with(1, 4).add(Fraction.with(1, 4))
+        );
+    }
+
+    @Test
+    public void testAddOverflow() {
+        final Fraction sum = Fraction.with(Long.MAX_VALUE, 1).add(Fraction.with(1, 1));
+
+        this.checkEquals(false, sum.isLong(), "isLong");
+        this.checkEquals(
+            BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE),
+            sum.numerator(),
+            "numerator"
+        );
+    }
+
+    @Test
+    public void testAddOverflowDenominator() {
+        final Fraction sum = Fraction.with(1, Long.MAX_VALUE).add(Fraction.with(1, 3));
+
+        this.checkEquals(
+            Fraction.with(
+                BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.valueOf(3)),
+                BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf(3))
+            ),
+            sum
+        );
+    }
+
+    @Test
+    public void testAddReducedWhenLarge() {
+        final BigInteger large = BigInteger.ONE.shiftLeft(Fraction.REDUCE_BIT_LENGTH);
+        final Fraction half = Fraction.with(large, large.shiftLeft(1));
+
+        this.checkEquals(
+            Fraction.with(1, 1),
+            half.add(half)
+        );
+    }
+
+    // subtract.........................................................................................................
+
+    @Test
+    public void testSubtract() {
+        this.checkEquals(
+            Fraction.with(1, 6),
+            Fraction.with(1, 2).subtract(Fraction.with(1, 3))
+        );
+    }
+
+    @Test
+    public void testSubtractOverflow() {
+        this.checkEquals(
+            Fraction.with(
+                BigInteger.valueOf(Long.MIN_VALUE).subtract(BigInteger.ONE),
+                BigInteger.ONE
+            ),
+            Fraction.with(Long.MIN_VALUE, 1).subtract(Fraction.with(1, 1))
+        );
+    }
+
+    // multiply.........................................................................................................
+
+    @Test
+    public void testMultiply() {
+        this.checkEquals(
+            Fraction.with(-3, 8),
+            Fraction.with(1, 2).multiply(Fraction.with(-3, 4))
+        );
+    }
+
+    @Test
+    public void testMultiplyOverflow() {
+        final BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+
+        this.checkEquals(
+            Fraction.with(max.multiply(max), BigInteger.valueOf(4)),
+            Fraction.with(Long.MAX_VALUE, 2).multiply(Fraction.with(Long.MAX_VALUE, 2))
+        );
+    }
+
+    // divide...........................................................................................................
+
+    @Test
+    public void testDivide() {
+        this.checkEquals(
+            Fraction.with(4, 6),
+            Fraction.with(1, 2).divide(Fraction.with(3, 4))
+        );
+    }
+
+    @Test
+    public void testDivideNegative() {
+        this.checkEquals(
+            Fraction.with(-4, 6),
+            Fraction.with(1, 2).divide(Fraction.with(-3, 4))
+        );
+    }
+
+    @Test
+    public void testDivideByZeroFails() {
+        assertThrows(
+            ArithmeticException.class,
+            () -> Fraction.with(1, 2).divide(Fraction.with(0, 3))
+        );
+    }
+
+    @Test
+    public void testDivideOverflow() {
+        this.checkEquals(
+            Fraction.with(
+                BigInteger.valueOf(Long.MIN_VALUE).negate(),
+                BigInteger.ONE
+            ),
+            Fraction.with(Long.MIN_VALUE, 1).divide(Fraction.with(-1, 1))
+        );
+    }
+
+    // reduce...........................................................................................................
+
+    @Test
+    public void testReduce() {
+        this.checkEquals(
+            Fraction.with(1, 2),
+            Fraction.with(6, 12).reduce()
+        );
+    }
+
+    @Test
+    public void testReduceNegativeDenominator() {
+        this.checkEquals(
+            Fraction.with(-1, 2),
+            Fraction.with(6, -12).reduce()
+        );
+    }
+
+    @Test
+    public void testReduceZero() {
+        this.checkEquals(
+            Fraction.with(0, 1),
+            Fraction.with(0, -5).reduce()
+        );
+    }
+
+    @Test
+    public void testReduceAlreadyReduced() {
+        final Fraction fraction = Fraction.with(2, 3);
+        assertSame(
+            fraction,
+            fraction.reduce()
+        );
+    }
+
+    @Test
+    public void testReduceLongMinValue() {
+        this.checkEquals(
+            Fraction.with(Long.MIN_VALUE / 2, 1),
+            Fraction.with(Long.MIN_VALUE, 2).reduce()
+        );
+    }
+
+    @Test
+    public void testReduceBigIntegerToLong() {
+        final BigInteger large = BigInteger.ONE.shiftLeft(100);
+        final Fraction reduced = Fraction.with(large, large.multiply(BigInteger.valueOf(3))).reduce();
+
+        this.checkEquals(Fraction.with(1, 3), reduced);
+        this.checkEquals(true, reduced.isLong(), "isLong");
+    }
+
+    // signum...........................................................................................................
+
+    @Test
+    public void testSignum() {
+        this.checkEquals(-1, Fraction.with(1, -2).signum(), "1/-2");
+        this.checkEquals(0, Fraction.with(0, 2).signum(), "0/2");
+        this.checkEquals(1, Fraction.with(-1, -2).signum(), "-1/-2");
+    }
+
+    // toBigDecimal.....................................................................................................
+
+    @Test
+    public void testToBigDecimal() {
+        this.checkEquals(
+            new BigDecimal("0.3333333"),
+            Fraction.with(1, 3).toBigDecimal(MathContext.DECIMAL32)
+        );
+    }
+
+    @Test
+    public void testToBigDecimalBigInteger() {
+        final BigInteger large = BigInteger.ONE.shiftLeft(100);
+
+        this.checkEquals(
+            new BigDecimal("0.5"),
+            Fraction.with(large, large.shiftLeft(1)).toBigDecimal(MathContext.DECIMAL32)
+        );
+    }
+
+    @Test
+    public void testToBigDecimalNonTerminatingFails() {
+        assertThrows(
+            ArithmeticException.class,
+            () -> Fraction.with(1, 3).toBigDecimal(MathContext.UNLIMITED)
+        );
+    }
+
+    // compareTo........................................................................................................
+
+    @Test
+    public void testCompareToLess() {
+        this.compareToAndCheck(Fraction.with(1, 3), Fraction.with(1, 2), -1);
+    }
+
+    @Test
+    public void testCompareToEqualValue() {
+        this.compareToAndCheck(Fraction.with(1, 2), Fraction.with(2, 4), 0);
+    }
+
+    @Test
+    public void testCompareToGreater() {
+        this.compareToAndCheck(Fraction.with(2, 3), Fraction.with(1, 2), 1);
+    }
+
+    @Test
+    public void testCompareToNegativeDenominator() {
+        this.compareToAndCheck(Fraction.with(1, -2), Fraction.with(1, 3), -1);
+    }
+
+    @Test
+    public void testCompareToOverflow() {
+        this.compareToAndCheck(Fraction.with(Long.MAX_VALUE, 3), Fraction.with(Long.MAX_VALUE - 1, 3), 1);
+    }
+
+    private void compareToAndCheck(final Fraction left,
+                                   final Fraction right,
+                                   final int expected) {
+        this.checkEquals(
+            expected,
+            Integer.signum(left.compareTo(right)),
+            () -> left + " compareTo " + right
+        );
+        this.checkEquals(
+            -expected,
+            Integer.signum(right.compareTo(left)),
+            () -> right + " compareTo " + left
+        );
+    }
+
+    // equals...........................................................................................................
+
+    @Test
+    public void testEqualsSameValueDifferentTerms() {
+        this.checkNotEquals(Fraction.with(2, 20));
+    }
+
+    @Test
+    public void testEqualsLongAndBigInteger() {
+        this.checkEquals(
+            Fraction.with(1, 10),
+            this.createObject()
+        );
+        this.checkEquals(
+            Fraction.with(1, 10).hashCode(),
+            this.createObject().hashCode()
+        );
+    }
+
     @Test
     public void testEqualsDifferentNumerator() {
         this.checkNotEquals(Fraction.with(DIFFERENT, DENOMINATOR));
@@ -72,6 +401,12 @@ public final class FractionTest implements ClassTesting2<Fraction>,
         this.toStringAndCheck(Fraction.with(NUMERATOR, DENOMINATOR), "1/10");
     }
 
+    @Test
+    public void testToStringBigInteger() {
+        final BigInteger large = BigInteger.ONE.shiftLeft(64);
+        this.toStringAndCheck(Fraction.with(large, DENOMINATOR), "18446744073709551616/10");
+    }
+
     @Override
     public Class<Fraction> type() {
         return Fraction.class;
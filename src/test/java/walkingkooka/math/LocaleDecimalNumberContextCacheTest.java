@@ -0,0 +1,213 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.math.MathContext;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class LocaleDecimalNumberContextCacheTest implements ClassTesting2<LocaleDecimalNumberContextCache> {
+
+    private final static Locale LOCALE = Locale.GERMANY;
+
+    // decimalNumberContext.............................................................................................
+
+    @Test
+    public void testDecimalNumberContextNullLocaleFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> LocaleDecimalNumberContextCache.decimalNumberContext(
+                null,
+                MathContext.DECIMAL32
+            )
+        );
+    }
+
+    @Test
+    public void testDecimalNumberContextNullMathContextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> LocaleDecimalNumberContextCache.decimalNumberContext(
+                LOCALE,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testDecimalNumberContext() {
+        final DecimalNumberContext context = LocaleDecimalNumberContextCache.decimalNumberContext(
+            LOCALE,
+            MathContext.DECIMAL32
+        );
+
+        this.checkEquals(
+            DecimalNumberContext.DEFAULT_NUMBER_DIGIT_COUNT,
+            context.decimalNumberDigitCount(),
+            "decimalNumberDigitCount"
+        );
+        this.checkEquals(
+            LOCALE,
+            context.locale(),
+            "locale"
+        );
+        this.checkEquals(
+            MathContext.DECIMAL32,
+            context.mathContext(),
+            "mathContext"
+        );
+        assertSame(
+            LocaleDecimalNumberContextCache.decimalNumberSymbols(LOCALE),
+            context.decimalNumberSymbols(),
+            "decimalNumberSymbols"
+        );
+    }
+
+    @Test
+    public void testDecimalNumberContextCached() {
+        assertSame(
+            LocaleDecimalNumberContextCache.decimalNumberContext(
+                LOCALE,
+                MathContext.DECIMAL64
+            ),
+            LocaleDecimalNumberContextCache.decimalNumberContext(
+                LOCALE,
+                new MathContext(
+                    MathContext.DECIMAL64.getPrecision(),
+                    MathContext.DECIMAL64.getRoundingMode()
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testDecimalNumberContextUnlimitedCached() {
+        assertSame(
+            LocaleDecimalNumberContextCache.decimalNumberContext(
+                LOCALE,
+                MathContext.UNLIMITED
+            ),
+            LocaleDecimalNumberContextCache.decimalNumberContext(
+                LOCALE,
+                MathContext.UNLIMITED
+            )
+        );
+    }
+
+    @Test
+    public void testDecimalNumberContextCustomMathContextNotCached() {
+        final MathContext mathContext = new MathContext(5);
+
+        final DecimalNumberContext context = LocaleDecimalNumberContextCache.decimalNumberContext(
+            LOCALE,
+            mathContext
+        );
+        this.checkEquals(
+            mathContext,
+            context.mathContext(),
+            "mathContext"
+        );
+        assertSame(
+            LocaleDecimalNumberContextCache.decimalNumberSymbols(LOCALE),
+            context.decimalNumberSymbols(),
+            "decimalNumberSymbols"
+        );
+        assertNotSame(
+            context,
+            LocaleDecimalNumberContextCache.decimalNumberContext(
+                LOCALE,
+                mathContext
+            )
+        );
+    }
+
+    @Test
+    public void testDecimalNumberContextDifferentMathContext() {
+        assertNotSame(
+            LocaleDecimalNumberContextCache.decimalNumberContext(
+                LOCALE,
+                MathContext.DECIMAL64
+            ),
+            LocaleDecimalNumberContextCache.decimalNumberContext(
+                LOCALE,
+                MathContext.DECIMAL128
+            )
+        );
+    }
+
+    @Test
+    public void testDecimalNumberContextDifferentLocale() {
+        assertNotSame(
+            LocaleDecimalNumberContextCache.decimalNumberContext(
+                LOCALE,
+                MathContext.DECIMAL64
+            ),
+            LocaleDecimalNumberContextCache.decimalNumberContext(
+                Locale.FRANCE,
+                MathContext.DECIMAL64
+            )
+        );
+    }
+
+    // decimalNumberSymbols.............................................................................................
+
+    @Test
+    public void testDecimalNumberSymbolsNullLocaleFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> LocaleDecimalNumberContextCache.decimalNumberSymbols(null)
+        );
+    }
+
+    @Test
+    public void testDecimalNumberSymbols() {
+        final DecimalNumberSymbols symbols = LocaleDecimalNumberContextCache.decimalNumberSymbols(LOCALE);
+
+        this.checkEquals(
+            DecimalNumberSymbols.fromDecimalFormatSymbols(
+                '+',
+                DecimalFormatSymbols.getInstance(LOCALE)
+            ),
+            symbols
+        );
+        assertSame(
+            symbols,
+            LocaleDecimalNumberContextCache.decimalNumberSymbols(LOCALE)
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<LocaleDecimalNumberContextCache> type() {
+        return LocaleDecimalNumberContextCache.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.ImmutableListTesting;
+import walkingkooka.collect.list.ListTesting2;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class LongNumberListTest implements ListTesting2<NumberList, Number>,
+    ClassTesting<LongNumberList>,
+    ImmutableListTesting<NumberList, Number> {
+
+    private final static Long NUMBER1 = 111L;
+
+    private final static Long NUMBER2 = 222L;
+
+    // list.............................................................................................................
+
+    @Test
+    public void testGet() {
+        this.getAndCheck(
+            this.createList(),
+            0, // index
+            NUMBER1 // expected
+        );
+    }
+
+    @Test
+    public void testGet2() {
+        this.getAndCheck(
+            this.createList(),
+            1, // index
+            NUMBER2 // expected
+        );
+    }
+
+    @Test
+    public void testSetFails() {
+        this.setFails(
+            this.createList(),
+            0, // index
+            NUMBER1 // expected
+        );
+    }
+
+    @Test
+    public void testRemoveIndexFails() {
+        this.removeIndexFails(
+            this.createList(),
+            0
+        );
+    }
+
+    // setElements......................................................................................................
+
+    @Test
+    public void testSetElementsSame() {
+        final NumberList list = this.createList();
+        assertSame(
+            list,
+            list.setElements(
+                Lists.of(
+                    NUMBER1,
+                    NUMBER2
+                )
+            )
+        );
+    }
+
+    // replace..........................................................................................................
+
+    @Test
+    public void testReplace() {
+        this.replaceAndCheck(
+            this.createList(),
+            1,
+            333L,
+            new LongNumberList(
+                new long[]{
+                    NUMBER1,
+                    333L
+                }
+            )
+        );
+    }
+
+    @Test
+    public void testReplaceWithNull() {
+        this.replaceAndCheck(
+            this.createList(),
+            1,
+            (Number) null,
+            new BoxedNumberList(
+                Lists.of(
+                    NUMBER1,
+                    null
+                )
+            )
+        );
+    }
+
+    @Override
+    public NumberList createList() {
+        return new LongNumberList(
+            new long[]{
+                NUMBER1,
+                NUMBER2
+            }
+        );
+    }
+
+    // aggregates.......................................................................................................
+
+    @Test
+    public void testSumOverflow() {
+        final NumberList list = new LongNumberList(
+            new long[]{
+                Long.MAX_VALUE,
+                Long.MAX_VALUE,
+                2,
+                -1
+            }
+        );
+
+        for (int parallelThreshold = 1; parallelThreshold < 5; parallelThreshold++) {
+            this.checkEquals(
+                new BigDecimal("18446744073709551615"),
+                list.sum(
+                    MathContext.UNLIMITED,
+                    parallelThreshold
+                )
+            );
+        }
+    }
+
+    @Test
+    public void testAverage() {
+        this.checkEquals(
+            Optional.of(
+                BigDecimal.valueOf(166.5)
+            ),
+            this.createList()
+                .average(MathContext.DECIMAL32)
+        );
+    }
+
+    @Test
+    public void testMinMax() {
+        final NumberList list = new LongNumberList(
+            new long[]{
+                5,
+                -3,
+                9,
+                -3,
+                9,
+                0
+            }
+        );
+
+        for (int parallelThreshold = 1; parallelThreshold < 7; parallelThreshold++) {
+            this.checkEquals(
+                Optional.of(-3L),
+                list.min(parallelThreshold),
+                "min"
+            );
+            this.checkEquals(
+                Optional.of(9L),
+                list.max(parallelThreshold),
+                "max"
+            );
+        }
+    }
+
+    // equals...........................................................................................................
+
+    @Test
+    public void testEqualsBoxed() {
+        final NumberList boxed = new BoxedNumberList(
+            Lists.of(
+                NUMBER1,
+                NUMBER2
+            )
+        );
+        final NumberList list = this.createList();
+
+        this.checkEquals(
+            boxed,
+            list
+        );
+        this.checkEquals(
+            list,
+            boxed
+        );
+        this.checkEquals(
+            boxed.hashCode(),
+            list.hashCode()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<LongNumberList> type() {
+        return LongNumberList.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -27,11 +27,15 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.util.Arrays;
+import java.util.Optional;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
-public final class MathsTest implements ClassTesting2<Maths>,
+public final class MathsTest implements AllocationTesting,
+    ClassTesting2<Maths>,
     PublicStaticHelperTesting<Maths> {
 
     @Test
@@ -79,6 +83,11 @@ public final class MathsTest implements ClassTesting2<Maths>,
         this.isNumberAndCheck(BigDecimal.ONE);
     }
 
+    @Test
+    public void testIsNumberFixedDecimal() {
+        this.isNumberAndCheck(FixedDecimal.ZERO);
+    }
+
     @Test
     public void testIsNumberNonJdkNumberType() {
         this.isNumberAndCheck(new Number() {
@@ -894,6 +903,1122 @@ public final class MathsTest implements ClassTesting2<Maths>,
             );
         }
     }
+
+    @Test
+    public void testRoundHalfUpJustBelowHalf() {
+        this.roundAndCheck(
+            0.49999999999999994,
+            RoundingMode.HALF_UP,
+            0.0
+        );
+    }
+
+    @Test
+    public void testRoundNegativeRoundsToNegativeZero() {
+        for (final RoundingMode roundingMode : new RoundingMode[]{
+            RoundingMode.CEILING,
+            RoundingMode.DOWN,
+            RoundingMode.HALF_DOWN,
+            RoundingMode.HALF_EVEN,
+            RoundingMode.HALF_UP
+        }) {
+            this.roundAndCheck(
+                -0.3,
+                roundingMode,
+                -0.0
+            );
+        }
+    }
+
+    @Test
+    public void testRoundNegativeZero() {
+        for (final RoundingMode roundingMode : RoundingMode.values()) {
+            this.roundAndCheck(
+                -0.0,
+                roundingMode,
+                -0.0
+            );
+        }
+    }
+
+    @Test
+    public void testRoundPositiveRoundsToPositiveZero() {
+        this.roundAndCheck(
+            0.3,
+            RoundingMode.DOWN,
+            0.0
+        );
+    }
+
+    @Test
+    public void testRoundHalfEvenTieBelowIntegral() {
+        this.roundAndCheck(
+            4503599627370495.5,
+            RoundingMode.HALF_EVEN,
+            4503599627370496.0
+        );
+    }
+
+    @Test
+    public void testRoundHalfEvenOddAboveIntegral() {
+        this.roundAndCheck(
+            4503599627370497.0,
+            RoundingMode.HALF_EVEN,
+            4503599627370497.0
+        );
+    }
+
+    @Test
+    public void testRoundHalfDownOddAboveIntegral() {
+        this.roundAndCheck(
+            4503599627370497.0,
+            RoundingMode.HALF_DOWN,
+            4503599627370497.0
+        );
+    }
+
+    @Test
+    public void testRoundHalfUpGreaterThanLongMax() {
+        this.roundAndCheck(
+            1.0E19,
+            RoundingMode.HALF_UP,
+            1.0E19
+        );
+    }
+
+    @Test
+    public void testRoundHalfEvenLessThanLongMin() {
+        this.roundAndCheck(
+            -1.0E19,
+            RoundingMode.HALF_EVEN,
+            -1.0E19
+        );
+    }
+
+    @Test
+    public void testRoundMaxValue() {
+        for (final RoundingMode roundingMode : RoundingMode.values()) {
+            this.roundAndCheck(
+                Double.MAX_VALUE,
+                roundingMode,
+                Double.MAX_VALUE
+            );
+            this.roundAndCheck(
+                -Double.MAX_VALUE,
+                roundingMode,
+                -Double.MAX_VALUE
+            );
+        }
+    }
+
+    @Test
+    public void testRoundManyLargeValuesUp() {
+        this.roundManyLargeValuesAndCheck(RoundingMode.UP);
+    }
+
+    @Test
+    public void testRoundManyLargeValuesDown() {
+        this.roundManyLargeValuesAndCheck(RoundingMode.DOWN);
+    }
+
+    @Test
+    public void testRoundManyLargeValuesCeiling() {
+        this.roundManyLargeValuesAndCheck(RoundingMode.CEILING);
+    }
+
+    @Test
+    public void testRoundManyLargeValuesFloor() {
+        this.roundManyLargeValuesAndCheck(RoundingMode.FLOOR);
+    }
+
+    @Test
+    public void testRoundManyLargeValuesHalfUp() {
+        this.roundManyLargeValuesAndCheck(RoundingMode.HALF_UP);
+    }
+
+    @Test
+    public void testRoundManyLargeValuesHalfDown() {
+        this.roundManyLargeValuesAndCheck(RoundingMode.HALF_DOWN);
+    }
+
+    @Test
+    public void testRoundManyLargeValuesHalfEven() {
+        this.roundManyLargeValuesAndCheck(RoundingMode.HALF_EVEN);
+    }
+
+    /**
+     * Walks binary exponents from 2^-2 to 2^70 including ties and values either side of them, which crosses both the
+     * range where every double is an integer and the range of long.
+     */
+    private void roundManyLargeValuesAndCheck(final RoundingMode roundingMode) {
+        for (int exponent = -2; exponent <= 70; exponent++) {
+            final double power = Math.scalb(1.0, exponent);
+
+            for (final double value : new double[]{
+                power,
+                power + 0.5,
+                power + 1.5,
+                Math.nextUp(power + 0.5),
+                Math.nextDown(power + 0.5),
+                Math.nextDown(power),
+                Math.nextUp(power)
+            }) {
+                for (final double signed : new double[]{value, -value}) {
+                    assertEquals(
+                        new BigDecimal(signed)
+                            .setScale(0, roundingMode)
+                            .doubleValue(),
+                        Maths.round(signed, roundingMode),
+                        0,
+                        () -> "round " + signed + " " + roundingMode
+                    );
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRoundAllocatesNothing() {
+        for (final RoundingMode roundingMode : RoundingMode.values()) {
+            if (RoundingMode.UNNECESSARY == roundingMode) {
+                continue;
+            }
+            this.allocatesNothingAndCheck(
+                () -> Maths.round(-2.5, roundingMode),
+                "round " + roundingMode
+            );
+        }
+    }
+
+    // round scale......................................................................................................
+
+    @Test
+    public void testRoundScaleNullRoundingModeFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Maths.round(
+                1.5,
+                2,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testRoundScaleHalfUpTie() {
+        // 1.005 * 100 is 100.49999999999999
+        this.roundScaleAndCheck(
+            1.005,
+            2,
+            RoundingMode.HALF_UP,
+            1.01
+        );
+    }
+
+    @Test
+    public void testRoundScaleHalfUpNegativeTie() {
+        this.roundScaleAndCheck(
+            -1.005,
+            2,
+            RoundingMode.HALF_UP,
+            -1.01
+        );
+    }
+
+    @Test
+    public void testRoundScaleHalfDownTie() {
+        this.roundScaleAndCheck(
+            2.675,
+            2,
+            RoundingMode.HALF_DOWN,
+            2.67
+        );
+    }
+
+    @Test
+    public void testRoundScaleHalfEvenTieOdd() {
+        this.roundScaleAndCheck(
+            2.675,
+            2,
+            RoundingMode.HALF_EVEN,
+            2.68
+        );
+    }
+
+    @Test
+    public void testRoundScaleHalfEvenTieEven() {
+        this.roundScaleAndCheck(
+            2.665,
+            2,
+            RoundingMode.HALF_EVEN,
+            2.66
+        );
+    }
+
+    @Test
+    public void testRoundScaleHalfEven() {
+        this.roundScaleAndCheck(
+            1234.5678,
+            2,
+            RoundingMode.HALF_EVEN,
+            1234.57
+        );
+    }
+
+    @Test
+    public void testRoundScaleFloorAlreadyScale() {
+        // 1.15 * 100 is 114.99999999999999
+        this.roundScaleAndCheck(
+            1.15,
+            2,
+            RoundingMode.FLOOR,
+            1.15
+        );
+    }
+
+    @Test
+    public void testRoundScaleCeilingNegative() {
+        this.roundScaleAndCheck(
+            -1.251,
+            2,
+            RoundingMode.CEILING,
+            -1.25
+        );
+    }
+
+    @Test
+    public void testRoundScaleUp() {
+        this.roundScaleAndCheck(
+            0.001,
+            2,
+            RoundingMode.UP,
+            0.01
+        );
+    }
+
+    @Test
+    public void testRoundScaleDownNegativeZero() {
+        this.roundScaleAndCheck(
+            -0.001,
+            2,
+            RoundingMode.DOWN,
+            0.0
+        );
+    }
+
+    @Test
+    public void testRoundScaleNegativeZero() {
+        this.roundScaleAndCheck(
+            -0.0,
+            2,
+            RoundingMode.FLOOR,
+            0.0
+        );
+    }
+
+    @Test
+    public void testRoundScaleUnnecessary() {
+        this.roundScaleAndCheck(
+            1.25,
+            2,
+            RoundingMode.UNNECESSARY,
+            1.25
+        );
+    }
+
+    @Test
+    public void testRoundScaleUnnecessaryFails() {
+        final ArithmeticException thrown = assertThrows(
+            ArithmeticException.class,
+            () -> Maths.round(
+                1.255,
+                2,
+                RoundingMode.UNNECESSARY
+            )
+        );
+        this.checkEquals(
+            "Rounding necessary",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testRoundScaleNegativeScale() {
+        this.roundScaleAndCheck(
+            1250,
+            -2,
+            RoundingMode.HALF_EVEN,
+            1200
+        );
+    }
+
+    @Test
+    public void testRoundScaleLargeScale() {
+        this.roundScaleAndCheck(
+            1.5E-30,
+            30,
+            RoundingMode.HALF_UP,
+            2E-30
+        );
+    }
+
+    @Test
+    public void testRoundScaleLargeValue() {
+        this.roundScaleAndCheck(
+            1.2345678912345678E17,
+            2,
+            RoundingMode.HALF_UP,
+            1.2345678912345678E17
+        );
+    }
+
+    @Test
+    public void testRoundScaleNaN() {
+        this.roundScaleAndCheck(
+            Double.NaN,
+            2,
+            RoundingMode.HALF_UP,
+            Double.NaN
+        );
+    }
+
+    @Test
+    public void testRoundScaleInfinity() {
+        this.roundScaleAndCheck(
+            Double.POSITIVE_INFINITY,
+            2,
+            RoundingMode.HALF_UP,
+            Double.POSITIVE_INFINITY
+        );
+    }
+
+    private void roundScaleAndCheck(final double value,
+                                    final int scale,
+                                    final RoundingMode roundingMode,
+                                    final double expected) {
+        this.checkEquals(
+            expected,
+            Maths.round(
+                value,
+                scale,
+                roundingMode
+            ),
+            () -> "round " + value + " " + scale + " " + roundingMode
+        );
+    }
+
+    /**
+     * The number of random inputs compared against {@link BigDecimal} by the property tests below, which may be
+     * increased using the system property <code>walkingkooka.math.MathsTest.roundScaleCount</code> for a long run.
+     */
+    private final static int ROUND_SCALE_COUNT = Integer.parseInt(
+        System.getProperty(
+            "walkingkooka.math.MathsTest.roundScaleCount",
+            "200000"
+        )
+    );
+
+    @Test
+    public void testRoundScaleManyValuesUp() {
+        this.roundScaleManyValuesAndCheck(RoundingMode.UP);
+    }
+
+    @Test
+    public void testRoundScaleManyValuesDown() {
+        this.roundScaleManyValuesAndCheck(RoundingMode.DOWN);
+    }
+
+    @Test
+    public void testRoundScaleManyValuesCeiling() {
+        this.roundScaleManyValuesAndCheck(RoundingMode.CEILING);
+    }
+
+    @Test
+    public void testRoundScaleManyValuesFloor() {
+        this.roundScaleManyValuesAndCheck(RoundingMode.FLOOR);
+    }
+
+    @Test
+    public void testRoundScaleManyValuesHalfUp() {
+        this.roundScaleManyValuesAndCheck(RoundingMode.HALF_UP);
+    }
+
+    @Test
+    public void testRoundScaleManyValuesHalfDown() {
+        this.roundScaleManyValuesAndCheck(RoundingMode.HALF_DOWN);
+    }
+
+    @Test
+    public void testRoundScaleManyValuesHalfEven() {
+        this.roundScaleManyValuesAndCheck(RoundingMode.HALF_EVEN);
+    }
+
+    @Test
+    public void testRoundScaleManyValuesUnnecessary() {
+        this.roundScaleManyValuesAndCheck(RoundingMode.UNNECESSARY);
+    }
+
+    private void roundScaleManyValuesAndCheck(final RoundingMode roundingMode) {
+        final Random random = new Random(roundingMode.ordinal());
+
+        for (int i = 0; i < ROUND_SCALE_COUNT; i++) {
+            final int scale = random.nextInt(25) - 2;
+            final double value = randomRoundScaleValue(random, Math.max(0, scale));
+
+            Object expected;
+            try {
+                expected = Double.isFinite(value) ?
+                    BigDecimal.valueOf(value)
+                        .setScale(scale, roundingMode)
+                        .doubleValue() :
+                    value;
+            } catch (final ArithmeticException rounding) {
+                expected = rounding.getMessage();
+            }
+
+            Object rounded;
+            try {
+                rounded = Maths.round(
+                    value,
+                    scale,
+                    roundingMode
+                );
+            } catch (final ArithmeticException rounding) {
+                rounded = rounding.getMessage();
+            }
+
+            this.checkEquals(
+                expected,
+                rounded,
+                () -> "round " + value + " " + scale + " " + roundingMode
+            );
+        }
+    }
+
+    /**
+     * Random doubles, decimals with the scale or half way and the doubles either side, which are all close to a
+     * rounding boundary.
+     */
+    private static double randomRoundScaleValue(final Random random,
+                                                final int scale) {
+        final double value;
+
+        switch (random.nextInt(6)) {
+            case 0:
+                value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(24) - 8);
+                break;
+            case 1:
+                value = Double.longBitsToDouble(random.nextLong());
+                break;
+            case 2:
+                value = BigDecimal.valueOf(random.nextLong() % 10000000000L, scale)
+                    .doubleValue();
+                break;
+            case 3:
+                value = BigDecimal.valueOf((random.nextLong() % 10000000000L) * 10 + 5, scale + 1)
+                    .doubleValue();
+                break;
+            case 4:
+                value = Math.nextUp(
+                    BigDecimal.valueOf((random.nextLong() % 10000000000L) * 10 + 5, scale + 1)
+                        .doubleValue()
+                );
+                break;
+            default:
+                value = Math.nextDown(
+                    BigDecimal.valueOf(random.nextLong() % 10000000000L, scale)
+                        .doubleValue()
+                );
+                break;
+        }
+
+        return value;
+    }
+
+    @Test
+    public void testRoundScaleAllocatesNothing() {
+        this.allocatesNothingAndCheck(
+            () -> Maths.round(1234.5678, 2, RoundingMode.HALF_EVEN),
+            "round"
+        );
+    }
+
+    @Test
+    public void testRoundScaleTieAllocatesNothing() {
+        this.allocatesNothingAndCheck(
+            () -> Maths.round(1.005, 2, RoundingMode.HALF_UP),
+            "round"
+        );
+    }
+
+    @Test
+    public void testRoundScaleAlreadyScaleAllocatesNothing() {
+        this.allocatesNothingAndCheck(
+            () -> Maths.round(1.15, 2, RoundingMode.FLOOR),
+            "round"
+        );
+    }
+
+    // round double[]...................................................................................................
+
+    @Test
+    public void testRoundArrayNullValuesFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Maths.round(
+                null,
+                2,
+                RoundingMode.HALF_UP
+            )
+        );
+    }
+
+    @Test
+    public void testRoundArrayNullRoundingModeFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Maths.round(
+                new double[1],
+                2,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testRoundArrayInvalidFromRangeFails() {
+        final IndexOutOfBoundsException thrown = assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> Maths.round(
+                new double[3],
+                1,
+                new double[3],
+                0,
+                3,
+                2,
+                RoundingMode.HALF_UP
+            )
+        );
+        this.checkEquals(
+            "Invalid from range 1..4 for length 3",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testRoundArrayInvalidToRangeFails() {
+        final IndexOutOfBoundsException thrown = assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> Maths.round(
+                new double[3],
+                0,
+                new double[3],
+                -1,
+                3,
+                2,
+                RoundingMode.HALF_UP
+            )
+        );
+        this.checkEquals(
+            "Invalid to range -1..2 for length 3",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testRoundArrayOverlappingFails() {
+        final double[] values = new double[4];
+
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> Maths.round(
+                values,
+                0,
+                values,
+                1,
+                3,
+                2,
+                RoundingMode.HALF_UP
+            )
+        );
+        this.checkEquals(
+            "Invalid toIndex 1 overlaps from 0..3",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testRoundArrayInPlace() {
+        final double[] values = {
+            1.005,
+            2.675,
+            -1.005,
+            1.0,
+            -0.001,
+            Double.NaN,
+            Double.NEGATIVE_INFINITY
+        };
+
+        Maths.round(
+            values,
+            2,
+            RoundingMode.HALF_UP
+        );
+
+        this.checkEquals(
+            Arrays.toString(
+                new double[]{
+                    1.01,
+                    2.68,
+                    -1.01,
+                    1.0,
+                    0.0,
+                    Double.NaN,
+                    Double.NEGATIVE_INFINITY
+                }
+            ),
+            Arrays.toString(values)
+        );
+    }
+
+    @Test
+    public void testRoundArrayDestination() {
+        final double[] from = {
+            999,
+            1.25,
+            -1.35,
+            999
+        };
+        final double[] to = new double[4];
+
+        Maths.round(
+            from,
+            1,
+            to,
+            2,
+            2,
+            1,
+            RoundingMode.HALF_EVEN
+        );
+
+        this.checkEquals(
+            Arrays.toString(
+                new double[]{
+                    0,
+                    0,
+                    1.2,
+                    -1.4
+                }
+            ),
+            Arrays.toString(to)
+        );
+    }
+
+    @Test
+    public void testRoundArrayNegativeScale() {
+        final double[] values = {
+            1250.0,
+            -1234.5
+        };
+
+        Maths.round(
+            values,
+            -2,
+            RoundingMode.HALF_DOWN
+        );
+
+        this.checkEquals(
+            Arrays.toString(
+                new double[]{
+                    1200.0,
+                    -1200.0
+                }
+            ),
+            Arrays.toString(values)
+        );
+    }
+
+    @Test
+    public void testRoundArrayUnnecessaryFails() {
+        assertThrows(
+            ArithmeticException.class,
+            () -> Maths.round(
+                new double[]{
+                    1.25,
+                    1.255
+                },
+                2,
+                RoundingMode.UNNECESSARY
+            )
+        );
+    }
+
+    @Test
+    public void testRoundArrayManyValuesUp() {
+        this.roundArrayManyValuesAndCheck(RoundingMode.UP);
+    }
+
+    @Test
+    public void testRoundArrayManyValuesDown() {
+        this.roundArrayManyValuesAndCheck(RoundingMode.DOWN);
+    }
+
+    @Test
+    public void testRoundArrayManyValuesCeiling() {
+        this.roundArrayManyValuesAndCheck(RoundingMode.CEILING);
+    }
+
+    @Test
+    public void testRoundArrayManyValuesFloor() {
+        this.roundArrayManyValuesAndCheck(RoundingMode.FLOOR);
+    }
+
+    @Test
+    public void testRoundArrayManyValuesHalfUp() {
+        this.roundArrayManyValuesAndCheck(RoundingMode.HALF_UP);
+    }
+
+    @Test
+    public void testRoundArrayManyValuesHalfDown() {
+        this.roundArrayManyValuesAndCheck(RoundingMode.HALF_DOWN);
+    }
+
+    @Test
+    public void testRoundArrayManyValuesHalfEven() {
+        this.roundArrayManyValuesAndCheck(RoundingMode.HALF_EVEN);
+    }
+
+    private void roundArrayManyValuesAndCheck(final RoundingMode roundingMode) {
+        final Random random = new Random(roundingMode.ordinal());
+
+        for (int scale = 0; scale < 8; scale++) {
+            // random values, and exact ties and values with scale digits, which are close to a boundary
+            final double[] values = new double[3000];
+            for (int i = 0; i < values.length; i++) {
+                switch (i % 3) {
+                    case 0:
+                        values[i] = (random.nextDouble() - 0.5) * 1e6;
+                        break;
+                    case 1:
+                        values[i] = BigDecimal.valueOf(random.nextInt(200001) - 100000, scale)
+                            .doubleValue();
+                        break;
+                    default:
+                        values[i] = BigDecimal.valueOf(random.nextInt(200001) * 10L - 1000005, scale + 1)
+                            .doubleValue();
+                        break;
+                }
+            }
+
+            final double[] rounded = values.clone();
+            Maths.round(
+                rounded,
+                scale,
+                roundingMode
+            );
+
+            for (int i = 0; i < values.length; i++) {
+                final double value = values[i];
+                final int finalScale = scale;
+
+                this.checkEquals(
+                    BigDecimal.valueOf(value)
+                        .setScale(scale, roundingMode)
+                        .doubleValue(),
+                    rounded[i],
+                    () -> "round " + value + " " + finalScale + " " + roundingMode
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testRoundArrayAllocatesNothing() {
+        final Random random = new Random(1);
+        final double[] values = new double[100];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (random.nextDouble() - 0.5) * 1e6;
+        }
+
+        this.allocatesNothingAndCheck(
+            () -> {
+                Maths.round(
+                    values,
+                    2,
+                    RoundingMode.HALF_EVEN
+                );
+                return values;
+            },
+            "round double[]"
+        );
+    }
+
+    @Test
+    public void testRoundArrayAlreadyRoundedUp() {
+        this.roundArrayAlreadyRoundedAndCheck(RoundingMode.UP);
+    }
+
+    @Test
+    public void testRoundArrayAlreadyRoundedDown() {
+        this.roundArrayAlreadyRoundedAndCheck(RoundingMode.DOWN);
+    }
+
+    @Test
+    public void testRoundArrayAlreadyRoundedCeiling() {
+        this.roundArrayAlreadyRoundedAndCheck(RoundingMode.CEILING);
+    }
+
+    @Test
+    public void testRoundArrayAlreadyRoundedFloor() {
+        this.roundArrayAlreadyRoundedAndCheck(RoundingMode.FLOOR);
+    }
+
+    /**
+     * Money values already with the scale are close to a boundary for the modes that are not HALF, but are returned as
+     * is by the loop rather than rounded one at a time, see MathsBenchmark.roundMoneyColumn.
+     */
+    private void roundArrayAlreadyRoundedAndCheck(final RoundingMode roundingMode) {
+        final Random random = new Random(1);
+        final double[] values = new double[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = BigDecimal.valueOf(random.nextInt(100_000_001) - 50_000_000, 2)
+                .doubleValue();
+        }
+
+        final double[] rounded = new double[values.length];
+        Maths.round(
+            values,
+            0,
+            rounded,
+            0,
+            values.length,
+            2,
+            roundingMode
+        );
+
+        this.checkEquals(
+            Arrays.toString(values),
+            Arrays.toString(rounded)
+        );
+
+        this.allocatesNothingAndCheck(
+            () -> {
+                Maths.round(
+                    values,
+                    0,
+                    rounded,
+                    0,
+                    values.length,
+                    2,
+                    roundingMode
+                );
+                return rounded;
+            },
+            "round double[] " + roundingMode
+        );
+    }
+
+    // toBigDecimalOrNull...............................................................................................
+
+    @Test
+    public void testToBigDecimalOrNullWithNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Maths.toBigDecimalOrNull(null)
+        );
+    }
+
+    @Test
+    public void testToBigDecimalOrNullBigDecimal() {
+        final BigDecimal value = BigDecimal.valueOf(123.5);
+
+        assertSame(
+            value,
+            Maths.toBigDecimalOrNull(value)
+        );
+    }
+
+    @Test
+    public void testToBigDecimalOrNullBigDecimalSubclass() {
+        final BigDecimal value = new BigDecimal("123.5") {
+            private static final long serialVersionUID = 0;
+        };
+
+        assertSame(
+            value,
+            Maths.toBigDecimalOrNull(value)
+        );
+    }
+
+    @Test
+    public void testToBigDecimalOrNullBigInteger() {
+        this.toBigDecimalOrNullAndCheck(
+            BigInteger.valueOf(123),
+            BigDecimal.valueOf(123)
+        );
+    }
+
+    @Test
+    public void testToBigDecimalOrNullBigIntegerSubclass() {
+        this.toBigDecimalOrNullAndCheck(
+            new BigInteger("123") {
+                private static final long serialVersionUID = 0;
+            },
+            BigDecimal.valueOf(123)
+        );
+    }
+
+    @Test
+    public void testToBigDecimalOrNullByte() {
+        this.toBigDecimalOrNullAndCheck(
+            Byte.MAX_VALUE,
+            BigDecimal.valueOf(127)
+        );
+    }
+
+    @Test
+    public void testToBigDecimalOrNullFixedDecimal() {
+        this.toBigDecimalOrNullAndCheck(
+            FixedDecimal.with(12345, 2),
+            new BigDecimal("123.45")
+        );
+    }
+
+    @Test
+    public void testToBigDecimalOrNullDouble() {
+        this.toBigDecimalOrNullAndCheck(
+            123.5,
+            BigDecimal.valueOf(123.5)
+        );
+    }
+
+    @Test
+    public void testToBigDecimalOrNullFloat() {
+        this.toBigDecimalOrNullAndCheck(
+            123.5f,
+            BigDecimal.valueOf(123.5)
+        );
+    }
+
+    @Test
+    public void testToBigDecimalOrNullInteger() {
+        this.toBigDecimalOrNullAndCheck(
+            123,
+            BigDecimal.valueOf(123)
+        );
+    }
+
+    @Test
+    public void testToBigDecimalOrNullLong() {
+        this.toBigDecimalOrNullAndCheck(
+            Long.MAX_VALUE,
+            BigDecimal.valueOf(Long.MAX_VALUE)
+        );
+    }
+
+    @Test
+    public void testToBigDecimalOrNullShort() {
+        this.toBigDecimalOrNullAndCheck(
+            (short) 123,
+            BigDecimal.valueOf(123)
+        );
+    }
+
+    @Test
+    public void testToBigDecimalOrNullUnknown() {
+        this.toBigDecimalOrNullAndCheck(
+            new Number() {
+                private static final long serialVersionUID = 0;
+
+                @Override
+                public int intValue() {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public long longValue() {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public float floatValue() {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public double doubleValue() {
+                    throw new UnsupportedOperationException();
+                }
+            },
+            null
+        );
+    }
+
+    private void toBigDecimalOrNullAndCheck(final Number value,
+                                            final BigDecimal expected) {
+        this.checkEquals(
+            expected,
+            Maths.toBigDecimalOrNull(value),
+            () -> "toBigDecimalOrNull " + value
+        );
+        this.checkEquals(
+            Optional.ofNullable(expected),
+            Maths.toBigDecimal(value),
+            () -> "toBigDecimal " + value
+        );
+    }
+
+    @Test
+    public void testToBigDecimalOrNullBigDecimalAllocatesNothing() {
+        this.toBigDecimalOrNullAllocatesNothing(BigDecimal.TEN);
+    }
+
+    @Test
+    public void testToBigDecimalOrNullCachedIntegerAllocatesNothing() {
+        // BigDecimal.valueOf(long) returns cached constants for 0 to 10
+        this.toBigDecimalOrNullAllocatesNothing(1);
+    }
+
+    @Test
+    public void testToBigDecimalOrNullCachedLongAllocatesNothing() {
+        this.toBigDecimalOrNullAllocatesNothing(10L);
+    }
+
+    @Test
+    public void testToBigDecimalOrNullBigDecimalCacheIntegerAllocatesNothing() {
+        this.toBigDecimalOrNullAllocatesNothing(1000);
+    }
+
+    @Test
+    public void testToBigDecimalOrNullBigDecimalCacheNegativeLongAllocatesNothing() {
+        this.toBigDecimalOrNullAllocatesNothing(-1000L);
+    }
+
+    @Test
+    public void testToBigDecimalAllocatesOnlyOptional() {
+        // an Optional is 16 bytes with compressed oops and 24 without
+        this.allocationBudgetAndCheck(
+            () -> Maths.toBigDecimal(BigDecimal.TEN),
+            24,
+            "toBigDecimal"
+        );
+    }
+
+    @Test
+    public void testToBigDecimalOrNullBigDecimalCacheSameInstance() {
+        assertSame(
+            Maths.toBigDecimalOrNull(1000),
+            Maths.toBigDecimalOrNull(1000L)
+        );
+    }
+
+    private void toBigDecimalOrNullAllocatesNothing(final Number value) {
+        this.allocatesNothingAndCheck(
+            () -> Maths.toBigDecimalOrNull(value),
+            "toBigDecimalOrNull " + value
+        );
+    }
+
     // toBigDecimalRoundingMode.........................................................................................
 
     @Test
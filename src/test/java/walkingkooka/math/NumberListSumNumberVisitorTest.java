@@ -0,0 +1,244 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class NumberListSumNumberVisitorTest implements NumberVisitorTesting<NumberListSumNumberVisitor> {
+
+    @Test
+    public void testBigDecimal() {
+        this.sumAndCheck(
+            "1.5",
+            BigDecimal.valueOf(1.5)
+        );
+    }
+
+    @Test
+    public void testBigInteger() {
+        this.sumAndCheck(
+            "123",
+            BigInteger.valueOf(123)
+        );
+    }
+
+    @Test
+    public void testByte() {
+        this.sumAndCheck(
+            "127",
+            Byte.MAX_VALUE
+        );
+    }
+
+    @Test
+    public void testDouble() {
+        this.sumAndCheck(
+            "0.3",
+            0.1,
+            0.2
+        );
+    }
+
+    @Test
+    public void testDoubleNaNFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createVisitor()
+                .accept(Double.NaN)
+        );
+    }
+
+    @Test
+    public void testFixedDecimal() {
+        this.sumAndCheck(
+            "4.75",
+            FixedDecimal.with(125, 2),
+            FixedDecimal.with(35, 1)
+        );
+    }
+
+    @Test
+    public void testFloat() {
+        this.sumAndCheck(
+            "2.5",
+            2.5f
+        );
+    }
+
+    @Test
+    public void testFloatInfinityFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createVisitor()
+                .accept(Float.POSITIVE_INFINITY)
+        );
+    }
+
+    @Test
+    public void testInteger() {
+        this.sumAndCheck(
+            "3",
+            1,
+            2
+        );
+    }
+
+    @Test
+    public void testLong() {
+        this.sumAndCheck(
+            "3",
+            1L,
+            2L
+        );
+    }
+
+    @Test
+    public void testLongOverflow() {
+        this.sumAndCheck(
+            "18446744073709551614",
+            Long.MAX_VALUE,
+            Long.MAX_VALUE
+        );
+    }
+
+    @Test
+    public void testLongUnderflow() {
+        this.sumAndCheck(
+            "-18446744073709551617",
+            Long.MIN_VALUE,
+            Long.MIN_VALUE,
+            -1L
+        );
+    }
+
+    @Test
+    public void testShort() {
+        this.sumAndCheck(
+            "-3",
+            (short) -3
+        );
+    }
+
+    @Test
+    public void testMixed() {
+        this.sumAndCheck(
+            "9223372036854775917.5",
+            Long.MAX_VALUE,
+            (byte) 1,
+            (short) 2,
+            3,
+            BigInteger.valueOf(4),
+            BigDecimal.valueOf(100),
+            0.5
+        );
+    }
+
+    @Test
+    public void testUnknownFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createVisitor()
+                .accept(
+                    new NumberTypeVisitorTest.TestNumber()
+                )
+        );
+    }
+
+    private void sumAndCheck(final String expected,
+                             final Number... numbers) {
+        final NumberListSumNumberVisitor visitor = this.createVisitor();
+        for (final Number number : numbers) {
+            visitor.accept(number);
+        }
+
+        this.checkEquals(
+            new BigDecimal(expected),
+            visitor.sum(),
+            "sum"
+        );
+        this.checkEquals(
+            numbers.length,
+            visitor.count(),
+            "count"
+        );
+    }
+
+    @Test
+    public void testAddVisitor() {
+        final NumberListSumNumberVisitor visitor = this.createVisitor();
+        visitor.add(Long.MAX_VALUE);
+
+        final NumberListSumNumberVisitor other = this.createVisitor();
+        other.add(1);
+        other.add(0.5);
+
+        assertSame(
+            visitor,
+            visitor.add(other)
+        );
+        this.checkEquals(
+            new BigDecimal("9223372036854775808.5"),
+            visitor.sum(),
+            "sum"
+        );
+        this.checkEquals(
+            3,
+            visitor.count(),
+            "count"
+        );
+    }
+
+    @Test
+    public void testToString() {
+        final NumberListSumNumberVisitor visitor = this.createVisitor();
+        visitor.accept(1L);
+        visitor.accept(2.5);
+
+        this.toStringAndCheck(
+            visitor,
+            "3.5 count=2"
+        );
+    }
+
+    @Override
+    public NumberListSumNumberVisitor createVisitor() {
+        return new NumberListSumNumberVisitor();
+    }
+
+    @Override
+    public String typeNamePrefix() {
+        return NumberList.class.getSimpleName();
+    }
+
+    @Override
+    public Class<NumberListSumNumberVisitor> type() {
+        return NumberListSumNumberVisitor.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -24,7 +24,13 @@ import walkingkooka.collect.list.Lists;
 import walkingkooka.reflect.ClassTesting;
 import walkingkooka.reflect.JavaVisibility;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class NumberListTest implements ListTesting2<NumberList, Number>,
     ClassTesting<NumberList>,
@@ -98,7 +104,7 @@ public class NumberListTest implements ListTesting2<NumberList, Number>,
     public void testSetElementsWithEmpty() {
         assertSame(
             NumberList.EMPTY,
-            new NumberList(
+            new BoxedNumberList(
                 Lists.of(
                     1,
                     22,
@@ -108,6 +114,80 @@ public class NumberListTest implements ListTesting2<NumberList, Number>,
         );
     }
 
+    @Test
+    public void testSetElementsAllLong() {
+        this.setElementsAndCheck(
+            LongNumberList.class,
+            1L,
+            22L,
+            333L
+        );
+    }
+
+    @Test
+    public void testSetElementsAllDouble() {
+        this.setElementsAndCheck(
+            DoubleNumberList.class,
+            1.5,
+            -22.0,
+            Double.NaN
+        );
+    }
+
+    @Test
+    public void testSetElementsAllInteger() {
+        this.setElementsAndCheck(
+            BoxedNumberList.class,
+            1,
+            22,
+            333
+        );
+    }
+
+    @Test
+    public void testSetElementsLongAndDouble() {
+        this.setElementsAndCheck(
+            BoxedNumberList.class,
+            1L,
+            2.5
+        );
+    }
+
+    @Test
+    public void testSetElementsLongAndNull() {
+        this.setElementsAndCheck(
+            BoxedNumberList.class,
+            1L,
+            null
+        );
+    }
+
+    @Test
+    public void testSetElementsNullAndLong() {
+        this.setElementsAndCheck(
+            BoxedNumberList.class,
+            null,
+            1L
+        );
+    }
+
+    private void setElementsAndCheck(final Class<? extends NumberList> type,
+                                     final Number... numbers) {
+        final NumberList list = NumberList.EMPTY.setElements(
+            Lists.of(numbers)
+        );
+
+        this.checkEquals(
+            type,
+            list.getClass(),
+            () -> "setElements " + list
+        );
+        this.checkEquals(
+            Lists.of(numbers),
+            list
+        );
+    }
+
     // replace..........................................................................................................
 
     @Test
@@ -118,7 +198,7 @@ public class NumberListTest implements ListTesting2<NumberList, Number>,
             numbers,
             1,
             (Number) null,
-            new NumberList(
+            new BoxedNumberList(
                 Lists.of(
                     NUMBER1,
                     null
@@ -127,9 +207,312 @@ public class NumberListTest implements ListTesting2<NumberList, Number>,
         );
     }
 
+    // parallelThreshold................................................................................................
+
+    @Test
+    public void testParallelThresholdMissing() {
+        this.parallelThresholdAndCheck(
+            null,
+            NumberList.DEFAULT_PARALLEL_THRESHOLD
+        );
+    }
+
+    @Test
+    public void testParallelThresholdInvalid() {
+        this.parallelThresholdAndCheck(
+            "abc",
+            NumberList.DEFAULT_PARALLEL_THRESHOLD
+        );
+    }
+
+    @Test
+    public void testParallelThresholdZero() {
+        this.parallelThresholdAndCheck(
+            "0",
+            NumberList.DEFAULT_PARALLEL_THRESHOLD
+        );
+    }
+
+    @Test
+    public void testParallelThresholdNegative() {
+        this.parallelThresholdAndCheck(
+            "-1",
+            NumberList.DEFAULT_PARALLEL_THRESHOLD
+        );
+    }
+
+    @Test
+    public void testParallelThreshold() {
+        this.parallelThresholdAndCheck(
+            " 1024 ",
+            1024
+        );
+    }
+
+    private void parallelThresholdAndCheck(final String value,
+                                           final int expected) {
+        this.checkEquals(
+            expected,
+            NumberList.parallelThreshold(value),
+            () -> "parallelThreshold " + value
+        );
+    }
+
+    // aggregates.......................................................................................................
+
+    @Test
+    public void testSumNullMathContextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createList()
+                .sum(null)
+        );
+    }
+
+    @Test
+    public void testSumInvalidParallelThresholdFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createList()
+                .sum(
+                    MathContext.DECIMAL32,
+                    0
+                )
+        );
+        this.checkEquals(
+            "Invalid parallelThreshold 0 < 1",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testSumEmpty() {
+        this.sumAndCheck(
+            NumberList.EMPTY,
+            BigDecimal.ZERO
+        );
+    }
+
+    @Test
+    public void testSumMixedTypes() {
+        this.sumAndCheck(
+            this.mixed(),
+            new BigDecimal("1164.5")
+        );
+    }
+
+    @Test
+    public void testSumLongOverflow() {
+        this.sumAndCheck(
+            this.list(
+                Long.MAX_VALUE,
+                Long.MAX_VALUE,
+                1,
+                Long.MIN_VALUE
+            ),
+            BigDecimal.valueOf(Long.MAX_VALUE)
+        );
+    }
+
+    @Test
+    public void testSumRounded() {
+        this.checkEquals(
+            new BigDecimal("1.2E+3"),
+            this.mixed()
+                .sum(new MathContext(2))
+        );
+    }
+
+    @Test
+    public void testSumNaNFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> this.list(
+                1,
+                Double.NaN
+            ).sum(MathContext.DECIMAL32)
+        );
+        this.checkEquals(
+            "Invalid number NaN",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testSumUnknownNumberFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.list(
+                1,
+                new NumberTypeVisitorTest.TestNumber()
+            ).sum(MathContext.DECIMAL32)
+        );
+    }
+
+    private void sumAndCheck(final NumberList list,
+                             final BigDecimal expected) {
+        for (final int parallelThreshold : PARALLEL_THRESHOLDS) {
+            this.checkEquals(
+                expected,
+                list.sum(
+                    MathContext.UNLIMITED,
+                    parallelThreshold
+                ),
+                () -> list + " sum parallelThreshold=" + parallelThreshold
+            );
+        }
+    }
+
+    @Test
+    public void testAverageEmpty() {
+        this.averageAndCheck(
+            NumberList.EMPTY,
+            null
+        );
+    }
+
+    @Test
+    public void testAverageOnlyNulls() {
+        this.averageAndCheck(
+            this.list(
+                null,
+                null
+            ),
+            null
+        );
+    }
+
+    @Test
+    public void testAverageMixedTypes() {
+        this.averageAndCheck(
+            this.mixed(),
+            new BigDecimal("166.3571428571429")
+        );
+    }
+
+    private void averageAndCheck(final NumberList list,
+                                 final BigDecimal expected) {
+        for (final int parallelThreshold : PARALLEL_THRESHOLDS) {
+            this.checkEquals(
+                Optional.ofNullable(expected),
+                list.average(
+                    MathContext.DECIMAL64,
+                    parallelThreshold
+                ),
+                () -> list + " average parallelThreshold=" + parallelThreshold
+            );
+        }
+    }
+
+    @Test
+    public void testMinEmpty() {
+        this.minAndCheck(
+            NumberList.EMPTY,
+            null
+        );
+    }
+
+    @Test
+    public void testMinMixedTypes() {
+        this.minAndCheck(
+            this.mixed(),
+            (short) -3
+        );
+    }
+
+    @Test
+    public void testMinFirstOfEqual() {
+        final BigDecimal first = new BigDecimal("1.0");
+
+        this.minAndCheck(
+            this.list(
+                2,
+                first,
+                1L,
+                BigDecimal.ONE
+            ),
+            first
+        );
+    }
+
+    private void minAndCheck(final NumberList list,
+                             final Number expected) {
+        for (final int parallelThreshold : PARALLEL_THRESHOLDS) {
+            this.checkEquals(
+                Optional.ofNullable(expected),
+                list.min(parallelThreshold),
+                () -> list + " min parallelThreshold=" + parallelThreshold
+            );
+        }
+    }
+
+    @Test
+    public void testMaxEmpty() {
+        this.maxAndCheck(
+            NumberList.EMPTY,
+            null
+        );
+    }
+
+    @Test
+    public void testMaxMixedTypes() {
+        this.maxAndCheck(
+            this.mixed(),
+            BigInteger.valueOf(1000)
+        );
+    }
+
+    @Test
+    public void testMaxInfinityFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.list(
+                1,
+                Float.POSITIVE_INFINITY
+            ).max()
+        );
+    }
+
+    private void maxAndCheck(final NumberList list,
+                             final Number expected) {
+        for (final int parallelThreshold : PARALLEL_THRESHOLDS) {
+            this.checkEquals(
+                Optional.ofNullable(expected),
+                list.max(parallelThreshold),
+                () -> list + " max parallelThreshold=" + parallelThreshold
+            );
+        }
+    }
+
+    private final static int[] PARALLEL_THRESHOLDS = new int[]{
+        1,
+        2,
+        3,
+        NumberList.PARALLEL_THRESHOLD
+    };
+
+    private NumberList mixed() {
+        return this.list(
+            (byte) 1,
+            (short) -3,
+            null,
+            4,
+            100L,
+            2.5f,
+            BigInteger.valueOf(1000),
+            new BigDecimal("60")
+        );
+    }
+
+    private NumberList list(final Number... numbers) {
+        return NumberList.EMPTY.setElements(
+            Lists.of(numbers)
+        );
+    }
+
     @Override
     public NumberList createList() {
-        return new NumberList(
+        return new BoxedNumberList(
             Lists.of(
                 NUMBER1,
                 NUMBER2
@@ -168,6 +168,41 @@ public final class NumberTypeVisitorTest implements NumberTypeVisitorTesting<Num
         }.accept(Double.class);
     }
 
+    // FixedDecimal.....................................................................................................
+
+    @Test
+    public void testAcceptFixedDecimal() {
+        final StringBuilder b = new StringBuilder();
+        final Class<FixedDecimal> type = FixedDecimal.class;
+
+        new FakeNumberTypeVisitor() {
+            @Override
+            protected Visiting startVisit(final Class<?> t) {
+                assertSame(type, t);
+                b.append("1");
+                return Visiting.CONTINUE;
+            }
+
+            @Override
+            protected void endVisit(final Class<?> t) {
+                assertSame(type, t);
+                b.append("2");
+            }
+
+            @Override
+            protected void visitFixedDecimal() {
+                b.append("3");
+            }
+        }.accept(type);
+        this.checkEquals("132", b.toString());
+    }
+
+    @Test
+    public void testAcceptFixedDecimal2() {
+        new NumberTypeVisitor() {
+        }.accept(FixedDecimal.class);
+    }
+
     // Float...........................................................................................................
 
     @Test
@@ -344,6 +379,64 @@ public final class NumberTypeVisitorTest implements NumberTypeVisitorTesting<Num
         }.accept(TestNumber.class);
     }
 
+    @Test
+    public void testAcceptBigDecimalSubclassUnknown() {
+        final StringBuilder b = new StringBuilder();
+        final Class<?> type = new BigDecimal("1.5") {
+            private final static long serialVersionUID = 1L;
+        }.getClass();
+
+        new FakeNumberTypeVisitor() {
+            @Override
+            protected Visiting startVisit(final Class<?> t) {
+                assertSame(type, t);
+                b.append("1");
+                return Visiting.CONTINUE;
+            }
+
+            @Override
+            protected void endVisit(final Class<?> t) {
+                assertSame(type, t);
+                b.append("2");
+            }
+
+            @Override
+            protected void visitUnknown(final Class<?> t) {
+                assertSame(type, t);
+                b.append("3");
+            }
+        }.accept(type);
+        this.checkEquals("132", b.toString());
+    }
+
+    @Test
+    public void testAcceptPrimitiveUnknown() {
+        final StringBuilder b = new StringBuilder();
+        final Class<?> type = Long.TYPE;
+
+        new FakeNumberTypeVisitor() {
+            @Override
+            protected Visiting startVisit(final Class<?> t) {
+                assertSame(type, t);
+                b.append("1");
+                return Visiting.CONTINUE;
+            }
+
+            @Override
+            protected void endVisit(final Class<?> t) {
+                assertSame(type, t);
+                b.append("2");
+            }
+
+            @Override
+            protected void visitUnknown(final Class<?> t) {
+                assertSame(type, t);
+                b.append("3");
+            }
+        }.accept(type);
+        this.checkEquals("132", b.toString());
+    }
+
     static class TestNumber extends Number {
 
         @Override
@@ -65,6 +65,36 @@ public final class NumberVisitorTest implements NumberVisitorTesting<TestNumberV
         }.accept(BigDecimal.ONE);
     }
 
+    @Test
+    public void testAcceptBigDecimalSubclass() {
+        final StringBuilder b = new StringBuilder();
+        final BigDecimal value = new BigDecimal("1.5") {
+            private final static long serialVersionUID = 1L;
+        };
+
+        new FakeNumberVisitor() {
+            @Override
+            protected Visiting startVisit(final Number t) {
+                assertSame(value, t);
+                b.append("1");
+                return Visiting.CONTINUE;
+            }
+
+            @Override
+            protected void endVisit(final Number t) {
+                assertSame(value, t);
+                b.append("2");
+            }
+
+            @Override
+            protected void visit(final BigDecimal t) {
+                assertSame(value, t);
+                b.append("3");
+            }
+        }.accept(value);
+        this.checkEquals("132", b.toString());
+    }
+
     // BigInteger.......................................................................................................
 
     @Test
@@ -101,6 +131,36 @@ public final class NumberVisitorTest implements NumberVisitorTesting<TestNumberV
         }.accept(BigInteger.ONE);
     }
 
+    @Test
+    public void testAcceptBigIntegerSubclass() {
+        final StringBuilder b = new StringBuilder();
+        final BigInteger value = new BigInteger("15") {
+            private final static long serialVersionUID = 1L;
+        };
+
+        new FakeNumberVisitor() {
+            @Override
+            protected Visiting startVisit(final Number t) {
+                assertSame(value, t);
+                b.append("1");
+                return Visiting.CONTINUE;
+            }
+
+            @Override
+            protected void endVisit(final Number t) {
+                assertSame(value, t);
+                b.append("2");
+            }
+
+            @Override
+            protected void visit(final BigInteger t) {
+                assertSame(value, t);
+                b.append("3");
+            }
+        }.accept(value);
+        this.checkEquals("132", b.toString());
+    }
+
     // Byte.............................................................................................................
 
     @Test
@@ -173,6 +233,42 @@ public final class NumberVisitorTest implements NumberVisitorTesting<TestNumberV
         }.accept(Double.MAX_VALUE);
     }
 
+    // FixedDecimal.....................................................................................................
+
+    @Test
+    public void testAcceptFixedDecimal() {
+        final StringBuilder b = new StringBuilder();
+        final FixedDecimal value = FixedDecimal.with(12345, 2);
+
+        new FakeNumberVisitor() {
+            @Override
+            protected Visiting startVisit(final Number t) {
+                assertSame(value, t);
+                b.append("1");
+                return Visiting.CONTINUE;
+            }
+
+            @Override
+            protected void endVisit(final Number t) {
+                assertSame(value, t);
+                b.append("2");
+            }
+
+            @Override
+            protected void visit(final FixedDecimal t) {
+                assertSame(value, t);
+                b.append("3");
+            }
+        }.accept(value);
+        this.checkEquals("132", b.toString());
+    }
+
+    @Test
+    public void testAcceptFixedDecimal2() {
+        new NumberVisitor() {
+        }.accept(FixedDecimal.ZERO);
+    }
+
     // Float............................................................................................................
 
     @Test
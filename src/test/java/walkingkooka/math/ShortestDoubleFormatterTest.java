@@ -0,0 +1,362 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.math;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ShortestDoubleFormatterTest implements ClassTesting2<ShortestDoubleFormatter>,
+    ToStringTesting<ShortestDoubleFormatter> {
+
+    private final static DecimalNumberSymbols SYMBOLS = DecimalNumberSymbols.with(
+        '-',
+        '+',
+        '0',
+        "AUD",
+        '.',
+        "E",
+        ',',
+        "Infinity",
+        '*',
+        "NaN",
+        '%',
+        '^'
+    );
+
+    // with.............................................................................................................
+
+    @Test
+    public void testWithNullSymbolsFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ShortestDoubleFormatter.with(null)
+        );
+    }
+
+    @Test
+    public void testFormatNullCharsFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createFormatter()
+                .format(
+                    1,
+                    null,
+                    0
+                )
+        );
+    }
+
+    @Test
+    public void testFormatNullAppendableFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createFormatter()
+                .format(
+                    1,
+                    null
+                )
+        );
+    }
+
+    // format...........................................................................................................
+
+    @Test
+    public void testFormatZero() {
+        this.formatAndCheck(
+            0.0,
+            "0.0"
+        );
+    }
+
+    @Test
+    public void testFormatNegativeZero() {
+        this.formatAndCheck(
+            -0.0,
+            "-0.0"
+        );
+    }
+
+    @Test
+    public void testFormatInteger() {
+        this.formatAndCheck(
+            123,
+            "123.0"
+        );
+    }
+
+    @Test
+    public void testFormatNegative() {
+        this.formatAndCheck(
+            -1.5,
+            "-1.5"
+        );
+    }
+
+    @Test
+    public void testFormatFraction() {
+        this.formatAndCheck(
+            0.1,
+            "0.1"
+        );
+    }
+
+    @Test
+    public void testFormatLeadingZeros() {
+        this.formatAndCheck(
+            0.00125,
+            "0.00125"
+        );
+    }
+
+    @Test
+    public void testFormatSmallScientific() {
+        this.formatAndCheck(
+            0.000125,
+            "1.25E-4"
+        );
+    }
+
+    @Test
+    public void testFormatLargestPlain() {
+        this.formatAndCheck(
+            1234567.5,
+            "1234567.5"
+        );
+    }
+
+    @Test
+    public void testFormatLargeScientific() {
+        this.formatAndCheck(
+            12345678,
+            "1.2345678E7"
+        );
+    }
+
+    @Test
+    public void testFormatPowerOfTen() {
+        this.formatAndCheck(
+            1E23,
+            "1.0E23"
+        );
+    }
+
+    @Test
+    public void testFormatShortest() {
+        // Double.toString before Java 19 gives 2.82879384806159008E17
+        this.formatAndCheck(
+            2.82879384806159E17,
+            "2.82879384806159E17"
+        );
+    }
+
+    @Test
+    public void testFormatMaxValue() {
+        this.formatAndCheck(
+            Double.MAX_VALUE,
+            "1.7976931348623157E308"
+        );
+    }
+
+    @Test
+    public void testFormatMinValue() {
+        this.formatAndCheck(
+            Double.MIN_VALUE,
+            "4.9E-324"
+        );
+    }
+
+    @Test
+    public void testFormatMinNormal() {
+        this.formatAndCheck(
+            -Double.MIN_NORMAL,
+            "-2.2250738585072014E-308"
+        );
+    }
+
+    @Test
+    public void testFormatNan() {
+        this.formatAndCheck(
+            Double.NaN,
+            "NaN"
+        );
+    }
+
+    @Test
+    public void testFormatPositiveInfinity() {
+        this.formatAndCheck(
+            Double.POSITIVE_INFINITY,
+            "Infinity"
+        );
+    }
+
+    @Test
+    public void testFormatNegativeInfinity() {
+        this.formatAndCheck(
+            Double.NEGATIVE_INFINITY,
+            "-Infinity"
+        );
+    }
+
+    @Test
+    public void testFormatSymbols() {
+        this.formatAndCheck(
+            ShortestDoubleFormatter.with(
+                DecimalNumberSymbols.with(
+                    '\u2212',
+                    '+',
+                    '\u0660',
+                    "AUD",
+                    '\u066B',
+                    "x10^",
+                    ',',
+                    "INF",
+                    '*',
+                    "NOT",
+                    '%',
+                    '^'
+                )
+            ),
+            -1.25E-10,
+            "\u2212\u0661\u066B\u0662\u0665x10^\u2212\u0661\u0660"
+        );
+    }
+
+    @Test
+    public void testFormatOffset() {
+        final ShortestDoubleFormatter formatter = this.createFormatter();
+        final char[] chars = new char[2 + formatter.maxLength()];
+        chars[0] = '!';
+        chars[1] = '!';
+
+        final int end = formatter.format(
+            1.5,
+            chars,
+            2
+        );
+        this.checkEquals(
+            "!!1.5",
+            new String(chars, 0, end)
+        );
+    }
+
+    @Test
+    public void testFormatRoundTrips() throws IOException {
+        final ShortestDoubleFormatter formatter = this.createFormatter();
+        final Random random = new Random(1);
+        final boolean shortestToString = Runtime.version().feature() >= 19;
+
+        for (int i = 0; i < 100_000; i++) {
+            final double value = Double.longBitsToDouble(random.nextLong());
+            final String text = this.format(formatter, value);
+
+            if (shortestToString) {
+                this.checkEquals(
+                    Double.toString(value),
+                    text
+                );
+            } else {
+                this.checkEquals(
+                    value,
+                    Double.parseDouble(text),
+                    text
+                );
+            }
+        }
+    }
+
+    private void formatAndCheck(final double value,
+                                final String expected) {
+        this.formatAndCheck(
+            this.createFormatter(),
+            value,
+            expected
+        );
+    }
+
+    private void formatAndCheck(final ShortestDoubleFormatter formatter,
+                                final double value,
+                                final String expected) {
+        this.checkEquals(
+            expected,
+            this.format(formatter, value),
+            () -> "format " + value
+        );
+
+        final StringBuilder b = new StringBuilder();
+        try {
+            formatter.format(
+                value,
+                b
+            );
+        } catch (final IOException cause) {
+            throw new AssertionError(cause);
+        }
+        this.checkEquals(
+            expected,
+            b.toString(),
+            () -> "format " + value + " Appendable"
+        );
+    }
+
+    private String format(final ShortestDoubleFormatter formatter,
+                          final double value) {
+        final char[] chars = new char[formatter.maxLength()];
+        return new String(
+            chars,
+            0,
+            formatter.format(
+                value,
+                chars,
+                0
+            )
+        );
+    }
+
+    private ShortestDoubleFormatter createFormatter() {
+        return ShortestDoubleFormatter.with(SYMBOLS);
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createFormatter(),
+            SYMBOLS.toString()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ShortestDoubleFormatter> type() {
+        return ShortestDoubleFormatter.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}